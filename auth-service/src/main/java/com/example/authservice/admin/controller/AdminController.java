@@ -5,9 +5,11 @@ import jakarta.validation.Valid;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.example.authservice.admin.dto.AdminNotificationResponse;
 import com.example.authservice.admin.service.AdminNotificationService;
@@ -134,6 +136,16 @@ public class AdminController {
     }
   }
 
+  // 새 알림과 읽지 않은 알림 수 변경을 SSE로 구독
+  @GetMapping(value = "/notifications/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  @Operation(
+      summary = "Subscribe admin notifications",
+      description = "Stream new notifications and unread count changes (Server-Sent Events)")
+  public SseEmitter streamNotifications() {
+    log.info("Admin: Subscribing notification stream");
+    return adminNotificationService.subscribe();
+  }
+
   // 읽지 않은 알림 수 조회
   @GetMapping("/notifications/unread-count")
   @Operation(
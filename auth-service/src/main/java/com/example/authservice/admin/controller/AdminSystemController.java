@@ -1,5 +1,6 @@
 package com.example.authservice.admin.controller;
 
+import java.util.List;
 import java.util.Map;
 
 import org.springframework.http.ResponseEntity;
@@ -8,6 +9,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.example.authservice.admin.dto.RouteLatencyResponse;
 import com.example.authservice.admin.dto.SystemStatusResponse;
 import com.example.authservice.admin.service.SystemMonitoringService;
 import com.example.authservice.global.common.ApiResponse;
@@ -60,6 +62,25 @@ public class AdminSystemController {
     }
   }
 
+  @Operation(
+      summary = "auth-service API 경로별 응답 시간 조회",
+      description =
+          "auth-service의 API 경로별 요청 수, 서버 오류 수, 응답 시간 p50/p95/p99를 조회합니다 (다른 서비스는 Prometheus에서 조회)")
+  @GetMapping("/routes")
+  @PreAuthorize("hasRole('ADMIN')")
+  public ResponseEntity<ApiResponse<List<RouteLatencyResponse>>> getRouteLatencies() {
+    log.info("경로별 응답 시간 조회 요청");
+
+    try {
+      List<RouteLatencyResponse> routes = systemMonitoringService.getRouteLatencies();
+      return ResponseEntity.ok(ApiResponse.success("경로별 응답 시간 조회 성공", routes));
+
+    } catch (Exception e) {
+      log.error("경로별 응답 시간 조회 중 오류 발생", e);
+      return ResponseEntity.internalServerError().body(ApiResponse.error("경로별 응답 시간 조회에 실패했습니다"));
+    }
+  }
+
   @Operation(summary = "헬스체크", description = "시스템 헬스체크를 수행합니다")
   @GetMapping("/health")
   @PreAuthorize("hasRole('ADMIN')")
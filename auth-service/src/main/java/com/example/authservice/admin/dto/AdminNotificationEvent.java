@@ -0,0 +1,22 @@
+package com.example.authservice.admin.dto;
+
+/**
+ * 관리자 알림 스트림(SSE) 이벤트
+ *
+ * <p>{@code type}이 SSE 이벤트 이름으로 사용되며, 새 알림이 아닌 이벤트는 {@code notification}이 null임.
+ */
+public record AdminNotificationEvent(
+    String type, AdminNotificationResponse notification, long unreadCount) {
+
+  public static final String CREATED = "notification";
+  public static final String UNREAD_COUNT = "unread-count";
+
+  public static AdminNotificationEvent created(
+      AdminNotificationResponse notification, long unreadCount) {
+    return new AdminNotificationEvent(CREATED, notification, unreadCount);
+  }
+
+  public static AdminNotificationEvent unreadCount(long unreadCount) {
+    return new AdminNotificationEvent(UNREAD_COUNT, null, unreadCount);
+  }
+}
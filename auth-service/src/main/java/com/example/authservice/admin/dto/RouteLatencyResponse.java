@@ -0,0 +1,17 @@
+package com.example.authservice.admin.dto;
+
+/**
+ * API 경로별 응답 시간 (밀리초)
+ *
+ * <p>{@code service}는 메트릭을 기록한 서비스(auth-service)이며, 다른 서비스의 경로는 포함되지 않음. 백분위 값은 최근 구간(기본 2분)의 값이며, 같은 경로의 상태 코드별 타이머 중 요청이 가장 많은 타이머 기준임. 요청 수와 오류 수는 서버 기동 후 누적값임.
+ */
+public record RouteLatencyResponse(
+    String service,
+    String method,
+    String uri,
+    long count,
+    long serverErrors,
+    double p50,
+    double p95,
+    double p99,
+    double max) {}
@@ -5,6 +5,7 @@ import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
@@ -23,4 +24,8 @@ public interface AdminNotificationRepository extends JpaRepository<AdminNotifica
   long countUnreadImportantNotifications();
 
   List<AdminNotification> findTop10ByOrderByCreatedAtDesc();
+
+  @Modifying(clearAutomatically = true)
+  @Query("UPDATE AdminNotification n SET n.isRead = true WHERE n.isRead = false")
+  int markAllAsRead();
 }
@@ -4,6 +4,7 @@ import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.example.authservice.admin.dto.AdminNotificationResponse;
 
@@ -26,4 +27,6 @@ public interface AdminNotificationService {
   long getUnreadCount();
 
   void deleteNotification(Long notificationId);
+
+  SseEmitter subscribe();
 }
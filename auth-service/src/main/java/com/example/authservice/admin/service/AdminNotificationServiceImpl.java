@@ -5,22 +5,39 @@ import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.example.authservice.admin.dto.AdminNotificationEvent;
 import com.example.authservice.admin.dto.AdminNotificationResponse;
 import com.example.authservice.admin.entity.AdminNotification;
 import com.example.authservice.admin.repository.AdminNotificationRepository;
 import com.example.authservice.global.exception.BusinessException;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class AdminNotificationServiceImpl implements AdminNotificationService {
 
   private final AdminNotificationRepository adminNotificationRepository;
+  private final AdminNotificationStream notificationStream;
+  // 커밋 후 읽지 않은 알림 수 조회용 (커밋이 끝난 트랜잭션에 참여하지 않도록 새 트랜잭션 사용)
+  private final TransactionTemplate afterCommitReads;
+
+  public AdminNotificationServiceImpl(
+      AdminNotificationRepository adminNotificationRepository,
+      AdminNotificationStream notificationStream,
+      PlatformTransactionManager transactionManager) {
+    this.adminNotificationRepository = adminNotificationRepository;
+    this.notificationStream = notificationStream;
+    this.afterCommitReads = new TransactionTemplate(transactionManager);
+    afterCommitReads.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    afterCommitReads.setReadOnly(true);
+  }
 
   @Override
   @Transactional
@@ -34,7 +51,7 @@ public class AdminNotificationServiceImpl implements AdminNotificationService {
             .isImportant(false)
             .build();
 
-    adminNotificationRepository.save(notification);
+    publishCreated(adminNotificationRepository.save(notification));
     log.info("Created user registration notification for user: {}", username);
   }
 
@@ -50,7 +67,7 @@ public class AdminNotificationServiceImpl implements AdminNotificationService {
             .isImportant(true)
             .build();
 
-    adminNotificationRepository.save(notification);
+    publishCreated(adminNotificationRepository.save(notification));
     log.info("Created user inquiry notification from: {}", userEmail);
   }
 
@@ -66,7 +83,7 @@ public class AdminNotificationServiceImpl implements AdminNotificationService {
             .isImportant(true)
             .build();
 
-    adminNotificationRepository.save(notification);
+    publishCreated(adminNotificationRepository.save(notification));
     log.info("Created system error notification: {}", errorMessage);
   }
 
@@ -96,8 +113,12 @@ public class AdminNotificationServiceImpl implements AdminNotificationService {
                 () ->
                     new BusinessException("Notification not found", 404, "NOTIFICATION_NOT_FOUND"));
 
+    boolean wasUnread = !notification.isRead();
     notification.setRead(true);
     AdminNotification savedNotification = adminNotificationRepository.save(notification);
+    if (wasUnread) {
+      publishUnreadCount();
+    }
 
     return AdminNotificationResponse.from(savedNotification);
   }
@@ -105,10 +126,11 @@ public class AdminNotificationServiceImpl implements AdminNotificationService {
   @Override
   @Transactional
   public void markAllAsRead() {
-    List<AdminNotification> unreadNotifications =
-        adminNotificationRepository.findByIsReadFalseOrderByCreatedAtDesc();
-    unreadNotifications.forEach(notification -> notification.setRead(true));
-    adminNotificationRepository.saveAll(unreadNotifications);
+    // 엔터티를 읽지 않고 UPDATE 한 번으로 처리
+    int updated = adminNotificationRepository.markAllAsRead();
+    if (updated > 0) {
+      publishUnreadCount();
+    }
   }
 
   @Override
@@ -128,5 +150,30 @@ public class AdminNotificationServiceImpl implements AdminNotificationService {
                     new BusinessException("Notification not found", 404, "NOTIFICATION_NOT_FOUND"));
 
     adminNotificationRepository.delete(notification);
+    if (!notification.isRead()) {
+      publishUnreadCount();
+    }
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public SseEmitter subscribe() {
+    return notificationStream.subscribe(adminNotificationRepository.countByIsReadFalse());
+  }
+
+  // 읽지 않은 알림 수는 커밋 후에 세어 동시에 커밋된 다른 변경도 반영
+  private void publishCreated(AdminNotification notification) {
+    AdminNotificationResponse response = AdminNotificationResponse.from(notification);
+    notificationStream.publish(() -> AdminNotificationEvent.created(response, countUnread()));
+  }
+
+  private void publishUnreadCount() {
+    notificationStream.publish(() -> AdminNotificationEvent.unreadCount(countUnread()));
+  }
+
+  private long countUnread() {
+    Long count =
+        afterCommitReads.execute(status -> adminNotificationRepository.countByIsReadFalse());
+    return count != null ? count : 0;
   }
 }
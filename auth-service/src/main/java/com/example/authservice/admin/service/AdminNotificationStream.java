@@ -0,0 +1,169 @@
+package com.example.authservice.admin.service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.authservice.admin.dto.AdminNotificationEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 관리자 알림을 SSE로 전달하는 컴포넌트임.
+ *
+ * <p>- 관리자 화면은 스트림을 한 번 구독하고, 새 알림과 읽지 않은 알림 수 변경을 이벤트로 받음 (목록/개수 폴링 불필요) - 이벤트는 트랜잭션 커밋 후
+ * Redis 채널로 발행되어 모든 인스턴스가 자신에게 연결된 구독자에게 전달함 - 프록시가 유휴 연결을 끊지 않도록 주기적으로 heartbeat 주석을 보내며, 전송에
+ * 실패한 구독은 정리함
+ */
+@Slf4j
+@Component
+public class AdminNotificationStream implements MessageListener {
+
+  private static final String CHANNEL = "admin:notifications";
+
+  private final StringRedisTemplate redisTemplate;
+  private final RedisMessageListenerContainer listenerContainer;
+  private final ObjectMapper objectMapper;
+  private final long emitterTimeoutMillis;
+
+  private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+
+  public AdminNotificationStream(
+      StringRedisTemplate redisTemplate,
+      RedisMessageListenerContainer listenerContainer,
+      ObjectMapper objectMapper,
+      MeterRegistry meterRegistry,
+      @Value("${admin.notification.stream.timeout:30m}") Duration emitterTimeout) {
+    this.redisTemplate = redisTemplate;
+    this.listenerContainer = listenerContainer;
+    this.objectMapper = objectMapper;
+    this.emitterTimeoutMillis = emitterTimeout.toMillis();
+
+    Gauge.builder("admin.notifications.stream.connections", emitters, List::size)
+        .description("관리자 알림 스트림 구독 수")
+        .register(meterRegistry);
+  }
+
+  @PostConstruct
+  public void subscribeChannel() {
+    listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+  }
+
+  @PreDestroy
+  public void closeAll() {
+    emitters.forEach(SseEmitter::complete);
+    emitters.clear();
+  }
+
+  /**
+   * 스트림 구독 (구독 직후 현재 읽지 않은 알림 수 전송)
+   *
+   * @param unreadCount 현재 읽지 않은 알림 수
+   */
+  public SseEmitter subscribe(long unreadCount) {
+    SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+    emitter.onCompletion(() -> emitters.remove(emitter));
+    emitter.onTimeout(emitter::complete);
+    emitter.onError(e -> emitters.remove(emitter));
+    emitters.add(emitter);
+
+    send(emitter, AdminNotificationEvent.unreadCount(unreadCount));
+    log.debug("Admin notification stream subscribed - connections: {}", emitters.size());
+    return emitter;
+  }
+
+  /**
+   * 이벤트 발행 (트랜잭션 안에서 호출되면 커밋 후 이벤트를 만들어 발행)
+   *
+   * @param event 발행할 이벤트 - 커밋 후 호출되므로 읽지 않은 알림 수처럼 커밋된 상태를 반영해야 하는 값을 여기서 조회
+   */
+  public void publish(Supplier<AdminNotificationEvent> event) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              publishNow(event);
+            }
+          });
+    } else {
+      publishNow(event);
+    }
+  }
+
+  // 알림 전달 실패가 이미 커밋된 요청을 실패시키지 않도록 예외는 기록만 함
+  private void publishNow(Supplier<AdminNotificationEvent> event) {
+    try {
+      broadcast(event.get());
+    } catch (Exception e) {
+      log.warn("Admin notification event publish failed: {}", e.getMessage());
+    }
+  }
+
+  /** 다른 인스턴스(자신 포함)에서 발행된 이벤트 수신 */
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    try {
+      AdminNotificationEvent event =
+          objectMapper.readValue(
+              new String(message.getBody(), StandardCharsets.UTF_8), AdminNotificationEvent.class);
+      emitters.forEach(emitter -> send(emitter, event));
+    } catch (IOException e) {
+      log.warn("⚠️ Invalid admin notification message: {}", e.getMessage());
+    }
+  }
+
+  /** 유휴 연결 유지 및 끊어진 구독 정리 */
+  @Scheduled(fixedDelayString = "${admin.notification.stream.heartbeat-ms:25000}")
+  public void heartbeat() {
+    for (SseEmitter emitter : emitters) {
+      try {
+        emitter.send(SseEmitter.event().comment("heartbeat"));
+      } catch (IOException | IllegalStateException e) {
+        emitters.remove(emitter);
+      }
+    }
+  }
+
+  private void broadcast(AdminNotificationEvent event) {
+    try {
+      redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(event));
+    } catch (JsonProcessingException e) {
+      log.error("Admin notification event serialization failed: {}", e.getMessage());
+    } catch (Exception e) {
+      // Redis 장애 시 이 인스턴스의 구독자에게만 전달
+      log.warn("Admin notification event publish failed: {}", e.getMessage());
+      emitters.forEach(emitter -> send(emitter, event));
+    }
+  }
+
+  private void send(SseEmitter emitter, AdminNotificationEvent event) {
+    try {
+      emitter.send(SseEmitter.event().name(event.type()).data(event));
+    } catch (IOException | IllegalStateException e) {
+      emitters.remove(emitter);
+    }
+  }
+}
@@ -8,6 +8,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.authservice.auth.security.UserPrincipalResolver;
 import com.example.authservice.global.common.PageResponse;
 import com.example.authservice.global.exception.BusinessException;
 import com.example.authservice.security.repository.LoginHistoryRepository;
@@ -32,6 +33,7 @@ public class AdminServiceImpl implements AdminService {
   private final LoginHistoryRepository loginHistoryRepository;
   private final SuspiciousActivityRepository suspiciousActivityRepository;
   private final PasswordEncoder passwordEncoder;
+  private final UserPrincipalResolver userPrincipalResolver;
 
   @Override
   @Transactional(readOnly = true)
@@ -82,6 +84,7 @@ public class AdminServiceImpl implements AdminService {
     }
 
     User updateUser = userRepository.save(user);
+    userPrincipalResolver.invalidate(id);
     log.info("Admin: User updated successfully {}", id);
 
     return UserResponse.from(updateUser);
@@ -112,6 +115,7 @@ public class AdminServiceImpl implements AdminService {
 
     // 4. 사용자 삭제
     userRepository.delete(user);
+    userPrincipalResolver.invalidate(id);
     log.info("Admin: User and all related data deleted successfully: {}", id);
   }
 }
@@ -5,30 +5,58 @@ import java.lang.management.MemoryMXBean;
 import java.lang.management.ThreadMXBean;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.HealthComponent;
 import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
+import com.example.authservice.admin.dto.RouteLatencyResponse;
 import com.example.authservice.admin.dto.SystemStatusResponse;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 관리자 시스템 모니터링 서비스임.
+ *
+ * <p>- JVM, Redis(INFO), DB 커넥션 풀(HikariCP), Redis 명령(Lettuce), GC 지표를 Micrometer 레지스트리와 Redis에서 직접 읽음 -
+ * API 경로별 응답 시간 백분위(p50/p95/p99)는 http.server.requests 타이머에서 계산함 - 서비스 간 집계는 각 서비스의 /actuator/prometheus를
+ * 수집하는 Prometheus에서 application 태그로 수행함
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class SystemMonitoringService {
 
+  private static final String HTTP_SERVER_REQUESTS = "http.server.requests";
+
   private final Optional<HealthEndpoint> healthEndpoint;
   private final RedisTemplate<String, Object> redisTemplate;
+  private final MeterRegistry meterRegistry;
   private final Instant startTime = Instant.now();
 
+  // 할당 속도 계산용 직전 측정값
+  private double lastAllocatedBytes = -1;
+  private long lastAllocationNanos;
+
   public SystemStatusResponse getSystemStatus() {
     try {
       // 시스템 메트릭스 수집
@@ -88,7 +116,7 @@ public class SystemMonitoringService {
     ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
     int threadCount = threadBean.getThreadCount();
 
-    // Redis 연결 수 (활성 연결로 근사치 사용)
+    // Redis 클라이언트 연결 수 (INFO clients)
     long activeConnections = getActiveRedisConnections();
 
     // CPU 사용률 (간단한 버전)
@@ -103,8 +131,8 @@ public class SystemMonitoringService {
 
   private long getActiveRedisConnections() {
     try {
-      // Redis INFO 명령어를 사용하여 연결 수 확인
-      return 1; // 기본값, 실제로는 Redis 모니터링 구현 필요
+      Properties info = redisInfo("clients");
+      return Long.parseLong(info.getProperty("connected_clients", "0"));
     } catch (Exception e) {
       log.warn("Redis 연결 수 확인 실패", e);
       return 0;
@@ -162,6 +190,11 @@ public class SystemMonitoringService {
       // 업타임
       metrics.put("uptime", formatUptime(Duration.between(startTime, Instant.now())));
 
+      metrics.put("gc", collectGcMetrics());
+      metrics.put("db_pool", collectDbPoolMetrics());
+      metrics.put("redis", collectRedisMetrics());
+      metrics.put("redis_commands", collectRedisCommandMetrics());
+
     } catch (Exception e) {
       log.error("상세 메트릭스 수집 중 오류 발생", e);
       metrics.put("error", e.getMessage());
@@ -169,4 +202,165 @@ public class SystemMonitoringService {
 
     return metrics;
   }
+
+  /**
+   * API 경로별 응답 시간 백분위 (p99 내림차순, actuator 경로 제외)
+   *
+   * <p>이 서비스(auth-service)의 MeterRegistry만 읽으므로 다른 서비스의 경로는 포함되지 않음 - 전체 서비스는 Prometheus에서
+   * application 태그로 구분하여 조회
+   */
+  public List<RouteLatencyResponse> getRouteLatencies() {
+    Map<String, List<Timer>> timersByRoute =
+        meterRegistry.find(HTTP_SERVER_REQUESTS).timers().stream()
+            .filter(timer -> !String.valueOf(timer.getId().getTag("uri")).startsWith("/actuator"))
+            .collect(
+                Collectors.groupingBy(
+                    timer -> timer.getId().getTag("method") + " " + timer.getId().getTag("uri"),
+                    LinkedHashMap::new,
+                    Collectors.toList()));
+
+    List<RouteLatencyResponse> routes = new ArrayList<>(timersByRoute.size());
+    for (List<Timer> timers : timersByRoute.values()) {
+      long count = 0;
+      long serverErrors = 0;
+      double max = 0;
+      Timer busiest = timers.get(0);
+      for (Timer timer : timers) {
+        count += timer.count();
+        if (String.valueOf(timer.getId().getTag("status")).startsWith("5")) {
+          serverErrors += timer.count();
+        }
+        max = Math.max(max, timer.max(TimeUnit.MILLISECONDS));
+        if (timer.count() > busiest.count()) {
+          busiest = timer;
+        }
+      }
+
+      Map<Double, Double> percentiles = new HashMap<>();
+      for (ValueAtPercentile value : busiest.takeSnapshot().percentileValues()) {
+        percentiles.put(value.percentile(), value.value(TimeUnit.MILLISECONDS));
+      }
+
+      routes.add(
+          new RouteLatencyResponse(
+              busiest.getId().getTag("application"),
+              busiest.getId().getTag("method"),
+              busiest.getId().getTag("uri"),
+              count,
+              serverErrors,
+              percentiles.getOrDefault(0.5, 0.0),
+              percentiles.getOrDefault(0.95, 0.0),
+              percentiles.getOrDefault(0.99, 0.0),
+              max));
+    }
+    routes.sort(Comparator.comparingDouble(RouteLatencyResponse::p99).reversed());
+    return routes;
+  }
+
+  private Properties redisInfo(String section) {
+    Properties info =
+        redisTemplate.execute(
+            (RedisCallback<Properties>) connection -> connection.serverCommands().info(section));
+    return info != null ? info : new Properties();
+  }
+
+  private Map<String, Object> collectRedisMetrics() {
+    Map<String, Object> redis = new LinkedHashMap<>();
+    try {
+      Properties info = redisInfo("all");
+      for (String key :
+          List.of(
+              "connected_clients",
+              "blocked_clients",
+              "used_memory",
+              "used_memory_human",
+              "instantaneous_ops_per_sec",
+              "total_commands_processed",
+              "keyspace_hits",
+              "keyspace_misses",
+              "evicted_keys",
+              "expired_keys")) {
+        redis.put(key, info.getProperty(key));
+      }
+      long hits = Long.parseLong(info.getProperty("keyspace_hits", "0"));
+      long misses = Long.parseLong(info.getProperty("keyspace_misses", "0"));
+      redis.put("keyspace_hit_rate", hits + misses > 0 ? (double) hits / (hits + misses) : null);
+    } catch (Exception e) {
+      log.warn("Redis INFO 조회 실패", e);
+      redis.put("error", e.getMessage());
+    }
+    return redis;
+  }
+
+  // Lettuce 명령별 완료 시간 (lettuce.command.completion)
+  private Map<String, Object> collectRedisCommandMetrics() {
+    Map<String, Object> commands = new LinkedHashMap<>();
+    for (Timer timer : meterRegistry.find("lettuce.command.completion").timers()) {
+      String command = timer.getId().getTag("command");
+      Map<String, Object> stats = new LinkedHashMap<>();
+      stats.put("count", timer.count());
+      stats.put("mean_ms", timer.mean(TimeUnit.MILLISECONDS));
+      stats.put("max_ms", timer.max(TimeUnit.MILLISECONDS));
+      commands.put(command, stats);
+    }
+    return commands;
+  }
+
+  private Map<String, Object> collectDbPoolMetrics() {
+    Map<String, Object> pool = new LinkedHashMap<>();
+    pool.put("active", gaugeValue("hikaricp.connections.active"));
+    pool.put("idle", gaugeValue("hikaricp.connections.idle"));
+    pool.put("pending", gaugeValue("hikaricp.connections.pending"));
+    pool.put("max", gaugeValue("hikaricp.connections.max"));
+    Timer acquire = meterRegistry.find("hikaricp.connections.acquire").timer();
+    if (acquire != null) {
+      pool.put("acquire_mean_ms", acquire.mean(TimeUnit.MILLISECONDS));
+      pool.put("acquire_max_ms", acquire.max(TimeUnit.MILLISECONDS));
+    }
+    return pool;
+  }
+
+  private Map<String, Object> collectGcMetrics() {
+    Map<String, Object> gc = new LinkedHashMap<>();
+
+    // GC 종류/원인별 멈춤 시간
+    Map<String, Object> pauses = new LinkedHashMap<>();
+    for (Timer timer : meterRegistry.find("jvm.gc.pause").timers()) {
+      Map<String, Object> stats = new LinkedHashMap<>();
+      stats.put("count", timer.count());
+      stats.put("total_ms", timer.totalTime(TimeUnit.MILLISECONDS));
+      stats.put("max_ms", timer.max(TimeUnit.MILLISECONDS));
+      pauses.put(timer.getId().getTag("action") + " (" + timer.getId().getTag("cause") + ")", stats);
+    }
+    gc.put("pauses", pauses);
+    gc.put("overhead", gaugeValue("jvm.gc.overhead"));
+
+    // 직전 조회 이후의 평균 할당 속도 (첫 조회는 기동 후 평균)
+    FunctionCounter allocated = meterRegistry.find("jvm.gc.memory.allocated").functionCounter();
+    if (allocated != null) {
+      gc.put("allocated_bytes", allocated.count());
+      gc.put("allocation_rate_bytes_per_sec", allocationRate(allocated.count()));
+    }
+    return gc;
+  }
+
+  private synchronized double allocationRate(double allocatedBytes) {
+    long now = System.nanoTime();
+    double rate;
+    if (lastAllocatedBytes < 0) {
+      double uptimeSeconds = ManagementFactory.getRuntimeMXBean().getUptime() / 1000.0;
+      rate = uptimeSeconds > 0 ? allocatedBytes / uptimeSeconds : 0;
+    } else {
+      double elapsedSeconds = (now - lastAllocationNanos) / 1_000_000_000.0;
+      rate = elapsedSeconds > 0 ? (allocatedBytes - lastAllocatedBytes) / elapsedSeconds : 0;
+    }
+    lastAllocatedBytes = allocatedBytes;
+    lastAllocationNanos = now;
+    return rate;
+  }
+
+  private Double gaugeValue(String name) {
+    Gauge gauge = meterRegistry.find(name).gauge();
+    return gauge != null ? gauge.value() : null;
+  }
 }
@@ -8,6 +8,7 @@ import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
 
@@ -30,6 +31,7 @@ import com.example.authservice.auth.token.RefreshTokenService;
 import com.example.authservice.common.service.RecaptchaService;
 import com.example.authservice.global.common.ApiResponse;
 import com.example.authservice.global.exception.BusinessException;
+import com.example.authservice.global.util.ClientIpResolver;
 import com.example.authservice.user.dto.PasswordChangeRequest;
 import com.example.authservice.user.dto.UserResponse;
 import com.example.authservice.user.dto.UserUpdateRequest;
@@ -58,6 +60,7 @@ public class AuthController {
   private final SmsService smsService;
   private final AdminNotificationService adminNotificationService;
   private final RecaptchaService recaptchaService;
+  private final ClientIpResolver clientIpResolver;
 
   // 회원가입을 처리하는 매핑임.
   @Operation(summary = "Register user", description = "Register a new user")
@@ -65,7 +68,7 @@ public class AuthController {
   public ResponseEntity<ApiResponse<UserResponse>> register(
       @Valid @RequestBody RegisterRequest request, HttpServletRequest httpRequest) {
     try {
-      String ipAddress = getClientIpAddress(httpRequest);
+      String ipAddress = clientIpResolver.resolve(httpRequest);
 
       // reCAPTCHA 검증
       if (!recaptchaService.verifyRecaptcha(request.recaptchaResponse(), ipAddress)) {
@@ -92,14 +95,14 @@ public class AuthController {
   public ResponseEntity<ApiResponse<LoginResponse>> login(
       @Valid @RequestBody LoginRequest request, HttpServletRequest httpRequest) {
     try {
-      String ipAddress = getClientIpAddress(httpRequest);
+      String ipAddress = clientIpResolver.resolve(httpRequest);
 
       // reCAPTCHA 검증
       if (!recaptchaService.verifyRecaptcha(request.recaptchaResponse(), ipAddress)) {
         throw new BusinessException("reCAPTCHA verification failed");
       }
 
-      LoginResponse response = authService.login(request);
+      LoginResponse response = authService.login(request, ipAddress);
       return ResponseEntity.ok(ApiResponse.success("Login successful", response));
     } catch (Exception e) {
       log.error("Login failed: ", e);
@@ -206,10 +209,9 @@ public class AuthController {
   @Operation(summary = "프로필 업데이트", description = "현재 사용자의 프로필 정보를 업데이트합니다")
   @PutMapping("/profile")
   public ResponseEntity<ApiResponse<UserResponse>> updateProfile(
-      @Valid @RequestBody UserUpdateRequest request) {
+      @AuthenticationPrincipal User principal, @Valid @RequestBody UserUpdateRequest request) {
     try {
-      User currentUser = userService.getCurrentUser();
-      UserResponse userResponse = userService.updateCurrentUser(currentUser.getId(), request);
+      UserResponse userResponse = userService.updateCurrentUser(requireUserId(principal), request);
       return ResponseEntity.ok(ApiResponse.success("프로필이 성공적으로 업데이트되었습니다", userResponse));
     } catch (Exception e) {
       log.error("프로필 업데이트 실패: ", e);
@@ -220,10 +222,9 @@ public class AuthController {
   @Operation(summary = "비밀번호 변경", description = "현재 사용자의 비밀번호를 변경합니다")
   @PutMapping("/change-password")
   public ResponseEntity<ApiResponse<UserResponse>> changePassword(
-      @Valid @RequestBody PasswordChangeRequest request) {
+      @AuthenticationPrincipal User principal, @Valid @RequestBody PasswordChangeRequest request) {
     try {
-      User currentUser = userService.getCurrentUser();
-      UserResponse userResponse = userService.changePassword(currentUser.getId(), request);
+      UserResponse userResponse = userService.changePassword(requireUserId(principal), request);
       return ResponseEntity.ok(ApiResponse.success("비밀번호가 성공적으로 변경되었습니다", userResponse));
     } catch (Exception e) {
       log.error("비밀번호 변경 실패: ", e);
@@ -281,19 +282,11 @@ public class AuthController {
     return null;
   }
 
-  private String getClientIpAddress(HttpServletRequest request) {
-    String xForwardedFor = request.getHeader("X-Forwarded-For");
-    if (xForwardedFor != null
-        && !xForwardedFor.isEmpty()
-        && !"unknown".equalsIgnoreCase(xForwardedFor)) {
-      return xForwardedFor.split(",")[0].trim();
+  // 인증 주체(JWT claim)의 사용자 ID - 사용자 정보는 서비스의 트랜잭션 안에서 한 번만 조회함
+  private Long requireUserId(User principal) {
+    if (principal == null) {
+      throw new BusinessException("User not authenticated", 401, "USER_NOT_AUTHENTICATED");
     }
-
-    String xRealIp = request.getHeader("X-Real-IP");
-    if (xRealIp != null && !xRealIp.isEmpty() && !"unknown".equalsIgnoreCase(xRealIp)) {
-      return xRealIp;
-    }
-
-    return request.getRemoteAddr();
+    return principal.getId();
   }
 }
@@ -14,6 +14,7 @@ import com.example.authservice.admin.service.AdminNotificationService;
 import com.example.authservice.auth.dto.LoginResponse;
 import com.example.authservice.auth.oauth.dto.OAuthUserInfo;
 import com.example.authservice.auth.security.JwtTokenProvider;
+import com.example.authservice.auth.security.UserPrincipalResolver;
 import com.example.authservice.auth.token.RefreshTokenService;
 import com.example.authservice.user.entity.Role;
 import com.example.authservice.user.entity.SecuritySettings;
@@ -34,6 +35,7 @@ public class OAuthService {
   private final JwtTokenProvider jwtTokenProvider;
   private final RefreshTokenService refreshTokenService;
   private final AdminNotificationService adminNotificationService;
+  private final UserPrincipalResolver userPrincipalResolver;
 
   @Transactional
   public LoginResponse processOAuthLogin(OAuth2User oAuth2User, String provider) {
@@ -120,6 +122,7 @@ public class OAuthService {
       user.setOauthProvider(oAuthUserInfo.provider());
       user.setOauthId(oAuthUserInfo.oauthId());
       User updatedUser = userRepository.save(user);
+      userPrincipalResolver.invalidate(updatedUser.getId());
       log.info(
           "Linked existing user {} with OAuth provider: {}",
           user.getUsername(),
@@ -0,0 +1,43 @@
+package com.example.authservice.auth.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서비스 간 내부 API 접근을 확인하는 AuthorizationManager임.
+ *
+ * <p>- 요청의 X-Internal-Api-Key 헤더가 설정된 내부 API 키와 같을 때만 허용 - 키가 설정되지 않았으면 모든 요청을 거부함 - 게이트웨이는 내부 API
+ * 경로를 외부에 라우팅하지 않음
+ */
+@Component
+public class InternalApiAuthorizationManager
+    implements AuthorizationManager<RequestAuthorizationContext> {
+
+  public static final String HEADER = "X-Internal-Api-Key";
+
+  private final byte[] apiKey;
+
+  public InternalApiAuthorizationManager(@Value("${internal.api-key:}") String apiKey) {
+    this.apiKey = apiKey.getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Override
+  public AuthorizationDecision check(
+      Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+    String header = context.getRequest().getHeader(HEADER);
+    if (apiKey.length == 0 || header == null) {
+      return new AuthorizationDecision(false);
+    }
+    // 키 비교 시간으로 키를 추측할 수 없도록 고정 시간 비교
+    return new AuthorizationDecision(
+        MessageDigest.isEqual(apiKey, header.getBytes(StandardCharsets.UTF_8)));
+  }
+}
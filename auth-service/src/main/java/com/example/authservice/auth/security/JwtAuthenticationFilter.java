@@ -10,7 +10,6 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -18,8 +17,8 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import com.example.authservice.auth.token.BlacklistTokenService;
 import com.example.authservice.user.entity.User;
-import com.example.authservice.user.repository.UserRepository;
 
+import io.jsonwebtoken.Claims;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,8 +28,9 @@ import lombok.extern.slf4j.Slf4j;
  *
  * <p>- 요청마다 한 번 실행 - Authorization 헤더에서 JWT를 추출하고 유효성을 검사 - 유효한 토큰이면 SecurityContext에 인증 정보 설정
  *
- * <p>사용 흐름: 1. 요청 헤더에서 JWT 추출 2. 토큰 유효성 검사 3. 토큰에서 사용자 ID 추출 4. DB에서 사용자 정보 조회 5. Spring Security
- * Authentication 객체 생성 및 SecurityContext에 설정
+ * <p>사용 흐름: 1. 요청 헤더에서 JWT 추출 2. 토큰 유효성 검사 및 claims 추출 (한 번만 파싱) 3. claims로 사용자 정보 구성 (claim이
+ * 없거나 오래된 토큰은 사용자 캐시 조회, {@link UserPrincipalResolver}) 4. Spring Security Authentication 객체 생성 및
+ * SecurityContext에 설정
  */
 @Slf4j
 @Component
@@ -38,7 +38,7 @@ import lombok.extern.slf4j.Slf4j;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
   private final JwtTokenProvider jwtTokenProvider;
-  private final UserRepository userRepository;
+  private final UserPrincipalResolver userPrincipalResolver;
   private final BlacklistTokenService blacklistTokenService;
 
   @Override
@@ -54,8 +54,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
       log.debug("🔍 JWT Filter - Token extracted: {}", jwt != null ? "present" : "null");
 
-      // 토큰이 존재하고 유효한 경우 인증 처리
-      if (StringUtils.hasText(jwt) && jwtTokenProvider.validateToken(jwt)) {
+      // 토큰이 존재하고 유효한 경우 인증 처리 (유효하지 않으면 예외)
+      if (StringUtils.hasText(jwt)) {
+        Claims claims = jwtTokenProvider.parseClaims(jwt);
 
         // 블랙리스트에 있는지 확인
         if (blacklistTokenService.isBlacklisted(jwt)) {
@@ -64,16 +65,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         } else {
           log.debug("✅ JWT Filter - Token validation successful");
 
-          // 토큰에서 사용자 ID 추출
-          Long userId = jwtTokenProvider.getUserIdAsLongFromToken(jwt);
-          log.debug("🔍 JWT Filter - User ID extracted: {}", userId);
-
-          // 사용자 ID로 사용자 상세 정보 로드
-          User user =
-              userRepository
-                  .findById(userId)
-                  .orElseThrow(
-                      () -> new UsernameNotFoundException("User not found with id: " + userId));
+          // claims로 사용자 정보 구성
+          User user = userPrincipalResolver.resolve(claims);
 
           log.debug("✅ JWT Filter - User found: {}", user.getUsername());
 
@@ -12,6 +12,7 @@ import com.example.authservice.user.entity.User;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
@@ -22,14 +23,21 @@ import lombok.extern.slf4j.Slf4j;
  * <p>로그인 성공 시 JWT(JSON Web Token) 및 Refresh Token을 생성하고, 토큰 검증 및 사용자 정보 추출 기능을 제공하는 컴포넌트임.
  *
  * <p>특징: - JWT는 Base64URL 인코딩 형식으로 생성됨. - SecretKey는 UTF-8 바이트 배열로 HMAC-SHA 알고리즘 서명에 사용됨. - Access
- * Token과 Refresh Token의 만료 시간을 각각 설정할 수 있음.
+ * Token과 Refresh Token의 만료 시간을 각각 설정할 수 있음. - Access Token에는 권한과 최소한의 사용자 정보(username, email)를 claim으로
+ * 담아, 요청마다 DB 조회 없이 인증 정보를 만들 수 있음.
  */
 @Slf4j
 @Component
 public class JwtTokenProvider {
 
+  public static final String CLAIM_ROLE = "role";
+  public static final String CLAIM_USERNAME = "username";
+  public static final String CLAIM_EMAIL = "email";
+
   // HMAC-SHA 서명을 위한 비밀키
   private final SecretKey key;
+  // 서명 검증용 파서 (불변, 스레드 안전하므로 한 번만 생성)
+  private final JwtParser parser;
   // JWT 만료시간
   private final long jwtExpiration;
   // Refresh Token 만료시간
@@ -41,6 +49,7 @@ public class JwtTokenProvider {
       @Value("${jwt.expiration:86400000}") long jwtExpiration,
       @Value("${jwt.refresh-expiration:604800000}") long refreshExpiration) {
     this.key = Keys.hmacShaKeyFor(secretKey.getBytes());
+    this.parser = Jwts.parser().verifyWith(key).build();
     this.jwtExpiration = jwtExpiration;
     this.refreshExpiration = refreshExpiration;
   }
@@ -54,6 +63,9 @@ public class JwtTokenProvider {
 
     return Jwts.builder()
         .subject(userId)
+        .claim(CLAIM_ROLE, userPrincipal.getRole().name())
+        .claim(CLAIM_USERNAME, userPrincipal.getUsername())
+        .claim(CLAIM_EMAIL, userPrincipal.getEmail())
         .issuedAt(new Date())
         .expiration(expiryDate)
         .signWith(key)
@@ -72,10 +84,15 @@ public class JwtTokenProvider {
         .compact();
   }
 
+  // 토큰 검증(서명, 만료 포함) 후 claims 반환, 유효하지 않으면 JwtException / IllegalArgumentException
+  public Claims parseClaims(String token) {
+    return parser.parseSignedClaims(token).getPayload();
+  }
+
   // 토큰 검증(서명, 만료 포함)
   public boolean validateToken(String token) {
     try {
-      Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
+      parseClaims(token);
       return true;
     } catch (JwtException ex) {
       log.error("Invalid JWT Token : {}", ex.getMessage());
@@ -87,8 +104,7 @@ public class JwtTokenProvider {
 
   // JWT에서 사용자 Id 추출
   public String getUserIdFromToken(String token) {
-    Claims claims = Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
-    return claims.getSubject();
+    return parseClaims(token).getSubject();
   }
 
   // JWT에서 사용자 Id를 Long 타입으로 추출
@@ -102,8 +118,7 @@ public class JwtTokenProvider {
   }
 
   public long getRemainingMillis(String token) {
-    Date expiration =
-        Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload().getExpiration();
+    Date expiration = parseClaims(token).getExpiration();
     return expiration.getTime() - System.currentTimeMillis();
   }
 
@@ -126,7 +141,7 @@ public class JwtTokenProvider {
   public Long getUserIdFromTempToken(String token) {
     try {
       log.debug("Parsing temp token: {}", token);
-      Claims claims = Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+      Claims claims = parseClaims(token);
 
       // 임시 토큰인지 확인
       String tokenType = claims.get("type", String.class);
@@ -0,0 +1,232 @@
+package com.example.authservice.auth.security;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.authservice.user.entity.Role;
+import com.example.authservice.user.entity.User;
+import com.example.authservice.user.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.jsonwebtoken.Claims;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * JWT claims로 인증 주체(User)를 만드는 컴포넌트임.
+ *
+ * <p>- Access Token에 권한, username, email claim이 있으면 DB 조회 없이 주체를 만듦 - claim이 없는 토큰(이전에 발급된 토큰,
+ * Refresh Token)이나 발급 후 사용자 정보가 바뀐 토큰은 사용자 캐시에서 조회함 - 사용자 캐시는 크기와 보관 시간(TTL)이 제한되며, 사용자
+ * 수정/삭제 시 {@link #invalidate(Long)}로 즉시 무효화됨
+ *
+ * <p>무효화 시각은 Access Token 만료 시간 동안 보관하여, 그 이전에 발급된 토큰의 claim은 더 이상 믿지 않음.
+ *
+ * <p>- 무효화 시각은 Redis에 Access Token 만료 시간만큼 저장하고 pub/sub으로 모든 인스턴스에 알림 - 각 인스턴스는 받은 무효화 시각을 메모리에
+ * 보관하여 요청마다 Redis를 조회하지 않음 - 기동 직후와 주기적으로 Redis의 무효화 시각을 다시 읽어 누락된 알림을 보정함 - 처음 읽기 전에는 항상
+ * Redis에서 확인함
+ */
+@Slf4j
+@Component
+public class UserPrincipalResolver implements MessageListener {
+
+  private static final String KEY_PREFIX = "user:invalidated:";
+  private static final String CHANNEL = "user:invalidated";
+
+  private final UserRepository userRepository;
+  private final StringRedisTemplate redisTemplate;
+  private final RedisMessageListenerContainer listenerContainer;
+  private final long jwtExpiration;
+  // userId -> 사용자 (DB 조회 결과)
+  private final Cache<Long, User> users;
+  // userId -> 마지막 무효화 시각 (epoch millis)
+  private final Cache<Long, Long> invalidatedAt;
+  private volatile boolean ready = false;
+
+  public UserPrincipalResolver(
+      UserRepository userRepository,
+      StringRedisTemplate redisTemplate,
+      RedisMessageListenerContainer listenerContainer,
+      @Value("${auth.user-cache.max-size:10000}") long maxSize,
+      @Value("${auth.user-cache.ttl:60s}") Duration ttl,
+      @Value("${jwt.expiration:86400000}") long jwtExpiration) {
+    this.userRepository = userRepository;
+    this.redisTemplate = redisTemplate;
+    this.listenerContainer = listenerContainer;
+    this.jwtExpiration = jwtExpiration;
+    this.users = Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).build();
+    this.invalidatedAt =
+        Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(Duration.ofMillis(jwtExpiration))
+            .build();
+  }
+
+  @PostConstruct
+  public void subscribe() {
+    listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+  }
+
+  /** 검증된 Access Token claims로 인증 주체 생성 */
+  public User resolve(Claims claims) {
+    Long userId = parseUserId(claims.getSubject());
+    String role = claims.get(JwtTokenProvider.CLAIM_ROLE, String.class);
+
+    if (role == null || isStale(userId, claims.getIssuedAt())) {
+      return loadUser(userId);
+    }
+
+    return User.builder()
+        .id(userId)
+        .username(claims.get(JwtTokenProvider.CLAIM_USERNAME, String.class))
+        .email(claims.get(JwtTokenProvider.CLAIM_EMAIL, String.class))
+        .role(Role.valueOf(role))
+        .build();
+  }
+
+  /** 사용자 조회 (캐시에 없으면 DB 조회 후 캐시에 저장) */
+  public User loadUser(Long userId) {
+    User user = users.get(userId, id -> userRepository.findById(id).orElse(null));
+    if (user == null) {
+      throw new UsernameNotFoundException("User not found with id: " + userId);
+    }
+    return user;
+  }
+
+  /**
+   * 사용자 캐시 무효화 (사용자 수정/삭제 시 호출)
+   *
+   * <p>트랜잭션 안에서 호출되면 커밋 후 한 번 더 무효화하여, 커밋 전에 다른 요청이 이전 값을 다시 캐시하지 않도록 함.
+   */
+  public void invalidate(Long userId) {
+    evict(userId);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              evict(userId);
+            }
+          });
+    }
+  }
+
+  // 무효화 시각을 Redis에 저장하고 다른 인스턴스에 알림
+  private void evict(Long userId) {
+    long now = System.currentTimeMillis();
+    evictLocal(userId, now);
+    try {
+      redisTemplate
+          .opsForValue()
+          .set(KEY_PREFIX + userId, String.valueOf(now), jwtExpiration, TimeUnit.MILLISECONDS);
+      redisTemplate.convertAndSend(CHANNEL, userId + ":" + now);
+    } catch (Exception e) {
+      log.error("User invalidation publish failed: {} - {}", userId, e.getMessage());
+    }
+  }
+
+  private void evictLocal(Long userId, long invalidated) {
+    invalidatedAt.asMap().merge(userId, invalidated, Math::max);
+    users.invalidate(userId);
+    log.debug("🔄 User cache invalidated: {}", userId);
+  }
+
+  /** 다른 인스턴스에서 무효화된 사용자 수신 */
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String body = new String(message.getBody(), StandardCharsets.UTF_8);
+    int separator = body.indexOf(':');
+    try {
+      evictLocal(
+          Long.parseLong(body.substring(0, separator)),
+          Long.parseLong(body.substring(separator + 1)));
+    } catch (RuntimeException e) {
+      log.warn("⚠️ Invalid user invalidation message: {}", body);
+    }
+  }
+
+  /** Redis의 무효화 시각을 메모리에 다시 읽음 (기동 직후 및 주기 실행, 누락된 알림 보정) */
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(
+      initialDelayString = "${auth.user-cache.invalidation-sync-ms:60000}",
+      fixedDelayString = "${auth.user-cache.invalidation-sync-ms:60000}")
+  public void syncInvalidations() {
+    try {
+      long count =
+          redisTemplate.execute(
+              (RedisCallback<Long>)
+                  connection -> {
+                    long loaded = 0;
+                    ScanOptions options =
+                        ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build();
+                    try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+                      while (cursor.hasNext()) {
+                        byte[] key = cursor.next();
+                        byte[] value = connection.stringCommands().get(key);
+                        if (value == null) {
+                          continue;
+                        }
+                        String userId =
+                            new String(key, StandardCharsets.UTF_8).substring(KEY_PREFIX.length());
+                        evictLocal(
+                            Long.parseLong(userId),
+                            Long.parseLong(new String(value, StandardCharsets.UTF_8)));
+                        loaded++;
+                      }
+                    }
+                    return loaded;
+                  });
+      ready = true;
+      log.info("✅ User invalidations synced: {} entries", count);
+    } catch (Exception e) {
+      log.error("User invalidation sync failed: {}", e.getMessage());
+    }
+  }
+
+  // 마지막 무효화 이전(같은 초 포함)에 발급된 토큰인지 확인 (iat는 초 단위)
+  private boolean isStale(Long userId, Date issuedAt) {
+    Long invalidated = invalidatedAt.getIfPresent(userId);
+    if (invalidated == null && !ready) {
+      invalidated = loadInvalidatedAt(userId);
+    }
+    return invalidated != null && (issuedAt == null || issuedAt.getTime() + 1000 > invalidated);
+  }
+
+  // 처음 읽기 전에는 Redis에서 확인 (Redis 장애 시 claim 대신 DB 조회하도록 방금 무효화된 것으로 봄)
+  private Long loadInvalidatedAt(Long userId) {
+    try {
+      String value = redisTemplate.opsForValue().get(KEY_PREFIX + userId);
+      return value == null ? null : Long.parseLong(value);
+    } catch (Exception e) {
+      return System.currentTimeMillis();
+    }
+  }
+
+  private Long parseUserId(String subject) {
+    try {
+      return Long.parseLong(subject);
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Invalid user ID in token: " + subject, e);
+    }
+  }
+}
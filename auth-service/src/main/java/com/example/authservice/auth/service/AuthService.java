@@ -11,7 +11,7 @@ public interface AuthService {
 
   UserResponse register(RegisterRequest request);
 
-  LoginResponse login(LoginRequest request);
+  LoginResponse login(LoginRequest request, String ipAddress);
 
   LoginResponse verifyTwoFactor(String tempToken, String code);
 
@@ -15,9 +15,11 @@ import com.example.authservice.auth.dto.LoginRequest;
 import com.example.authservice.auth.dto.LoginResponse;
 import com.example.authservice.auth.dto.RegisterRequest;
 import com.example.authservice.auth.security.JwtTokenProvider;
+import com.example.authservice.auth.security.UserPrincipalResolver;
 import com.example.authservice.auth.token.RefreshTokenService;
 import com.example.authservice.global.exception.BusinessException;
 import com.example.authservice.global.util.PasswordGenerator;
+import com.example.authservice.security.service.LoginAttemptTracker;
 import com.example.authservice.security.service.SuspiciousActivityService;
 import com.example.authservice.user.dto.UserResponse;
 import com.example.authservice.user.entity.Role;
@@ -45,6 +47,8 @@ public class AuthServiceImpl implements AuthService {
   private final SecuritySettingsRepository securitySettingsRepository;
   private final TotpService totpService;
   private final SuspiciousActivityService suspiciousActivityService;
+  private final LoginAttemptTracker loginAttemptTracker;
+  private final UserPrincipalResolver userPrincipalResolver;
 
   @Override
   @Transactional
@@ -97,18 +101,22 @@ public class AuthServiceImpl implements AuthService {
   }
 
   @Override
-  public LoginResponse login(LoginRequest request) {
+  public LoginResponse login(LoginRequest request, String ipAddress) {
     log.info("Attempting login for email: {}", request.email());
 
+    // 0. 최근 실패 횟수가 한도를 넘은 사용자/접속지는 인증(비밀번호 해시 비교) 전에 거절
+    if (loginAttemptTracker.isBlocked(request.email(), ipAddress)) {
+      log.warn("Login blocked for email: {}, ip: {}", request.email(), ipAddress);
+      throw new BusinessException(
+          "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.", 429, "TOO_MANY_LOGIN_ATTEMPTS");
+    }
+
     User user = null;
     boolean loginSuccessful = false;
     String failureReason = null;
 
     try {
-      // 1. 사용자 조회 (로그인 실패 시에도 의심스러운 활동 체크를 위해)
-      user = userRepository.findByEmail(request.email()).orElse(null);
-
-      // 2. AuthenticationManager를 통한 인증
+      // 1~2. AuthenticationManager를 통한 인증 (사용자 조회 포함)
       Authentication authentication =
           authenticationManager.authenticate(
               new UsernamePasswordAuthenticationToken(request.email(), request.password()));
@@ -119,8 +127,9 @@ public class AuthServiceImpl implements AuthService {
       user = (User) authentication.getPrincipal();
       loginSuccessful = true;
 
-      // 4. 의심스러운 활동 체크 (성공한 로그인)
-      suspiciousActivityService.recordLoginAttempt(user, true, null);
+      // 4. 로그인 이력 기록 및 실패 횟수 초기화 (성공한 로그인)
+      loginAttemptTracker.reset(request.email(), ipAddress);
+      suspiciousActivityService.recordLoginAttempt(user, true, null, 0);
 
       // 5. JWT 토큰 생성
       String accessToken = jwtTokenProvider.generateAccessToken(authentication);
@@ -162,8 +171,13 @@ public class AuthServiceImpl implements AuthService {
       loginSuccessful = false;
       failureReason = e.getMessage();
 
+      long recentFailures = loginAttemptTracker.recordFailure(request.email(), ipAddress);
+      // 사용자 조회는 실패한 경우에만 (의심스러운 활동 체크를 위해)
+      if (user == null) {
+        user = userRepository.findByEmail(request.email()).orElse(null);
+      }
       if (user != null) {
-        suspiciousActivityService.recordLoginAttempt(user, false, failureReason);
+        suspiciousActivityService.recordLoginAttempt(user, false, failureReason, recentFailures);
       }
 
       log.warn("Login failed for email: {}, reason: {}", request.email(), failureReason);
@@ -252,6 +266,7 @@ public class AuthServiceImpl implements AuthService {
     // 3. 임시 비밀번호를 암호화하여 DB 저장
     user.setPassword(passwordEncoder.encode(temporaryPassword));
     userRepository.save(user);
+    userPrincipalResolver.invalidate(user.getId());
 
     // 4. 이메일 발송
     try {
@@ -1,19 +1,19 @@
 package com.example.authservice.auth.service;
 
-import java.time.LocalDateTime;
+import java.time.Duration;
+import java.util.List;
 import java.util.Random;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import com.example.authservice.auth.dto.PhoneVerificationConfirmRequest;
 import com.example.authservice.auth.dto.PhoneVerificationRequest;
-import com.example.authservice.auth.entity.PhoneVerification;
-import com.example.authservice.auth.repository.PhoneVerificationRepository;
 import com.example.authservice.global.exception.BusinessException;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.nurigo.sdk.NurigoApp;
 import net.nurigo.sdk.message.model.Message;
@@ -21,12 +21,72 @@ import net.nurigo.sdk.message.request.SingleMessageSendingRequest;
 import net.nurigo.sdk.message.response.SingleMessageSentResponse;
 import net.nurigo.sdk.message.service.DefaultMessageService;
 
+/**
+ * 휴대폰 인증 서비스임.
+ *
+ * <p>인증 상태는 Redis에 만료 시간(TTL)과 함께 저장되므로 만료된 인증을 정리하는 작업이 필요 없음.
+ *
+ * <p>- phone:verify:code:{번호} - 발급된 인증번호와 오입력 횟수 (code-ttl 후 만료) - phone:verify:ok:{번호} - 인증 완료 표시
+ * (verified-ttl 후 만료, 회원가입/번호 변경에 사용되면 삭제) - phone:verify:cooldown:{번호}, phone:verify:sent:{번호} - 재발송 간격과
+ * 시간당 발송 횟수 제한
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class SmsService {
 
-  private final PhoneVerificationRepository phoneVerificationRepository;
+  private static final String CODE_KEY_PREFIX = "phone:verify:code:";
+  private static final String VERIFIED_KEY_PREFIX = "phone:verify:ok:";
+  private static final String COOLDOWN_KEY_PREFIX = "phone:verify:cooldown:";
+  private static final String SENT_KEY_PREFIX = "phone:verify:sent:";
+
+  private static final long SEND_ACCEPTED = 1;
+  private static final long SEND_TOO_SOON = 0;
+
+  private static final long VERIFY_MATCHED = 1;
+  private static final long VERIFY_NOT_FOUND = 0;
+
+  // 시간당 발송 횟수, 재발송 간격 확인 후 인증번호 저장 (이전 인증번호와 인증 완료 표시는 무효화)
+  // 발송 횟수는 SMS 발송에 성공한 뒤에만 늘림 (SENT_SCRIPT)
+  private static final RedisScript<Long> ISSUE_SCRIPT =
+      new DefaultRedisScript<>(
+          "if tonumber(redis.call('GET', KEYS[4]) or '0') >= tonumber(ARGV[4]) then return -1 end\n"
+              + "if redis.call('SET', KEYS[3], '1', 'NX', 'PX', ARGV[3]) == false then return 0 end\n"
+              + "redis.call('DEL', KEYS[1], KEYS[2])\n"
+              + "redis.call('HSET', KEYS[1], 'code', ARGV[1], 'attempts', 0)\n"
+              + "redis.call('PEXPIRE', KEYS[1], ARGV[2])\n"
+              + "return 1",
+          Long.class);
+
+  // 시간당 발송 횟수 증가 (첫 발송부터 1시간 유지)
+  private static final RedisScript<Long> SENT_SCRIPT =
+      new DefaultRedisScript<>(
+          "local sent = redis.call('INCR', KEYS[1])\n"
+              + "if sent == 1 then redis.call('PEXPIRE', KEYS[1], 3600000) end\n"
+              + "return sent",
+          Long.class);
+
+  // 인증번호 확인 및 소비 (일치하면 인증번호를 지우고 인증 완료 표시, 오입력이 한도에 도달하면 인증번호 폐기)
+  private static final RedisScript<Long> VERIFY_SCRIPT =
+      new DefaultRedisScript<>(
+          "local code = redis.call('HGET', KEYS[1], 'code')\n"
+              + "if not code then return 0 end\n"
+              + "if code ~= ARGV[1] then\n"
+              + "  if redis.call('HINCRBY', KEYS[1], 'attempts', 1) >= tonumber(ARGV[3]) then\n"
+              + "    redis.call('DEL', KEYS[1])\n"
+              + "  end\n"
+              + "  return -1\n"
+              + "end\n"
+              + "redis.call('DEL', KEYS[1])\n"
+              + "redis.call('SET', KEYS[2], '1', 'PX', ARGV[2])\n"
+              + "return 1",
+          Long.class);
+
+  private final StringRedisTemplate redisTemplate;
+  private final Duration codeTtl;
+  private final Duration verifiedTtl;
+  private final Duration resendInterval;
+  private final int maxSendsPerHour;
+  private final int maxAttempts;
 
   @Value("${coolsms.api.key}")
   private String apiKey;
@@ -37,102 +97,96 @@ public class SmsService {
   @Value("${coolsms.from.number}")
   private String fromNumber;
 
-  @Transactional
+  public SmsService(
+      StringRedisTemplate redisTemplate,
+      @Value("${auth.phone-verification.code-ttl:5m}") Duration codeTtl,
+      @Value("${auth.phone-verification.verified-ttl:30m}") Duration verifiedTtl,
+      @Value("${auth.phone-verification.resend-interval:60s}") Duration resendInterval,
+      @Value("${auth.phone-verification.max-sends-per-hour:5}") int maxSendsPerHour,
+      @Value("${auth.phone-verification.max-attempts:5}") int maxAttempts) {
+    this.redisTemplate = redisTemplate;
+    this.codeTtl = codeTtl;
+    this.verifiedTtl = verifiedTtl;
+    this.resendInterval = resendInterval;
+    this.maxSendsPerHour = maxSendsPerHour;
+    this.maxAttempts = maxAttempts;
+  }
+
   public void sendVerificationCode(PhoneVerificationRequest request) {
     String phoneNumber = normalizePhoneNumber(request.phoneNumber());
     String verificationCode = generateVerificationCode();
 
-    // 기존 인증코드 만료 처리
-    invalidateExistingCodes(phoneNumber);
-
-    // 새 인증코드 저장
-    PhoneVerification verification =
-        PhoneVerification.builder()
-            .phoneNumber(phoneNumber)
-            .verificationCode(verificationCode)
-            .createdAt(LocalDateTime.now())
-            .expiresAt(LocalDateTime.now().plusMinutes(5)) // 5분 유효
-            .build();
-
-    phoneVerificationRepository.save(verification);
+    // 새 인증코드 저장 (기존 인증코드는 덮어써서 만료 처리)
+    Long issued =
+        redisTemplate.execute(
+            ISSUE_SCRIPT,
+            List.of(
+                CODE_KEY_PREFIX + phoneNumber,
+                VERIFIED_KEY_PREFIX + phoneNumber,
+                COOLDOWN_KEY_PREFIX + phoneNumber,
+                SENT_KEY_PREFIX + phoneNumber),
+            verificationCode,
+            String.valueOf(codeTtl.toMillis()),
+            String.valueOf(resendInterval.toMillis()),
+            String.valueOf(maxSendsPerHour));
+
+    if (issued == null || issued == SEND_TOO_SOON) {
+      throw new BusinessException(
+          "잠시 후 다시 인증번호를 요청해주세요.", 429, "VERIFICATION_TOO_FREQUENT");
+    }
+    if (issued != SEND_ACCEPTED) {
+      throw new BusinessException(
+          "인증번호 요청 횟수를 초과했습니다. 1시간 후 다시 시도해주세요.", 429, "VERIFICATION_SEND_LIMIT");
+    }
 
-    // 실제 SMS 발송 (개발 환경에서는 로그로 대체)
-    sendSms(phoneNumber, verificationCode);
+    // 실제 SMS 발송 (실패 시 인증번호와 재발송 제한을 되돌려 바로 다시 요청할 수 있게 함)
+    try {
+      sendSms(phoneNumber, verificationCode);
+    } catch (BusinessException e) {
+      redisTemplate.delete(List.of(CODE_KEY_PREFIX + phoneNumber, COOLDOWN_KEY_PREFIX + phoneNumber));
+      throw e;
+    }
+    redisTemplate.execute(SENT_SCRIPT, List.of(SENT_KEY_PREFIX + phoneNumber));
 
     log.info("인증번호 발송 완료: {} -> {}", phoneNumber, verificationCode);
   }
 
-  @Transactional
   public boolean verifyCode(PhoneVerificationConfirmRequest request) {
     String phoneNumber = normalizePhoneNumber(request.phoneNumber());
     String code = request.verificationCode();
 
-    // 최근 인증코드 조회
-    PhoneVerification verification =
-        phoneVerificationRepository
-            .findTopByPhoneNumberOrderByCreatedAtDesc(phoneNumber)
-            .orElseThrow(
-                () -> new BusinessException("인증번호를 찾을 수 없습니다.", 404, "VERIFICATION_NOT_FOUND"));
-
-    // 만료 확인
-    if (verification.isExpired()) {
-      throw new BusinessException("인증번호가 만료되었습니다.", 400, "VERIFICATION_EXPIRED");
-    }
-
-    // 이미 사용됨 확인
-    if (verification.isUsed()) {
-      throw new BusinessException("이미 사용된 인증번호입니다.", 400, "VERIFICATION_ALREADY_USED");
+    // 인증번호 확인과 소비를 한 번에 처리 (같은 인증번호로 동시에 요청해도 한 번만 성공)
+    Long result =
+        redisTemplate.execute(
+            VERIFY_SCRIPT,
+            List.of(CODE_KEY_PREFIX + phoneNumber, VERIFIED_KEY_PREFIX + phoneNumber),
+            code,
+            String.valueOf(verifiedTtl.toMillis()),
+            String.valueOf(maxAttempts));
+
+    // 만료되었거나 이미 사용된 인증번호는 남아 있지 않음
+    if (result == null || result == VERIFY_NOT_FOUND) {
+      throw new BusinessException(
+          "인증번호가 만료되었거나 찾을 수 없습니다.", 404, "VERIFICATION_NOT_FOUND");
     }
 
     // 인증번호 일치 확인
-    if (!verification.getVerificationCode().equals(code)) {
+    if (result != VERIFY_MATCHED) {
       throw new BusinessException("인증번호가 일치하지 않습니다.", 400, "VERIFICATION_CODE_MISMATCH");
     }
 
-    // 인증 완료 처리
-    verification.markAsVerified();
-    phoneVerificationRepository.save(verification);
-
     log.info("인증 완료: {}", phoneNumber);
     return true;
   }
 
-  @Transactional
   public boolean isPhoneVerified(String phoneNumber) {
     String normalizedPhone = normalizePhoneNumber(phoneNumber);
-    return phoneVerificationRepository.existsByPhoneNumberAndVerifiedTrueAndUsedFalse(
-        normalizedPhone);
+    return Boolean.TRUE.equals(redisTemplate.hasKey(VERIFIED_KEY_PREFIX + normalizedPhone));
   }
 
-  @Transactional
   public void markVerificationAsUsed(String phoneNumber) {
     String normalizedPhone = normalizePhoneNumber(phoneNumber);
-    phoneVerificationRepository
-        .findTopByPhoneNumberOrderByCreatedAtDesc(normalizedPhone)
-        .ifPresent(
-            verification -> {
-              if (verification.isVerified() && !verification.isUsed()) {
-                verification.markAsUsed();
-                phoneVerificationRepository.save(verification);
-              }
-            });
-  }
-
-  @Transactional
-  public void cleanupExpiredVerifications() {
-    phoneVerificationRepository.deleteExpiredVerifications(LocalDateTime.now());
-  }
-
-  private void invalidateExistingCodes(String phoneNumber) {
-    phoneVerificationRepository
-        .findTopByPhoneNumberOrderByCreatedAtDesc(phoneNumber)
-        .ifPresent(
-            verification -> {
-              if (!verification.isUsed() && !verification.isExpired()) {
-                verification.markAsUsed();
-                phoneVerificationRepository.save(verification);
-              }
-            });
+    redisTemplate.delete(VERIFIED_KEY_PREFIX + normalizedPhone);
   }
 
   private String generateVerificationCode() {
@@ -154,7 +208,9 @@ public class SmsService {
       Message message = new Message();
       message.setFrom(fromNumber);
       message.setTo(phoneNumber);
-      message.setText(String.format("[Jupiter] 인증번호: %s (5분간 유효)", verificationCode));
+      message.setText(
+          String.format(
+              "[Jupiter] 인증번호: %s (%d분간 유효)", verificationCode, codeTtl.toMinutes()));
 
       // SMS 발송
       SingleMessageSentResponse response =
@@ -0,0 +1,61 @@
+package com.example.authservice.auth.token;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 블랙리스트 토큰 다이제스트용 Bloom filter임.
+ *
+ * <p>- 토큰 다이제스트(SHA-256 앞 16바이트)의 두 64비트 값으로 k개의 비트 위치를 계산함(double hashing) - false면 확실히 없음, true면
+ * 있을 수도 있음(오탐 가능) - 비트 배열은 AtomicLongArray로 보관하여 잠금 없이 여러 스레드에서 추가/조회 가능 - 삭제는 불가하므로 만료된 항목은
+ * 주기적으로 새 필터를 만들어 정리함
+ */
+public class BlacklistBloomFilter {
+
+  private final AtomicLongArray bits;
+  private final long bitCount;
+  private final int hashCount;
+
+  /**
+   * @param expectedInsertions 예상 항목 수
+   * @param falsePositiveRate 목표 오탐률
+   */
+  public BlacklistBloomFilter(long expectedInsertions, double falsePositiveRate) {
+    long n = Math.max(1, expectedInsertions);
+    long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+    this.bitCount = Math.max(64, (m + 63) / 64 * 64);
+    this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+    this.bits = new AtomicLongArray((int) (bitCount / 64));
+  }
+
+  public void put(byte[] digest) {
+    ByteBuffer buffer = ByteBuffer.wrap(digest);
+    long h1 = buffer.getLong();
+    long h2 = buffer.getLong();
+    for (int i = 0; i < hashCount; i++) {
+      long index = Math.floorMod(h1 + i * h2, bitCount);
+      int word = (int) (index >>> 6);
+      long mask = 1L << index;
+      long current;
+      do {
+        current = bits.get(word);
+        if ((current & mask) != 0) {
+          break;
+        }
+      } while (!bits.compareAndSet(word, current, current | mask));
+    }
+  }
+
+  public boolean mightContain(byte[] digest) {
+    ByteBuffer buffer = ByteBuffer.wrap(digest);
+    long h1 = buffer.getLong();
+    long h2 = buffer.getLong();
+    for (int i = 0; i < hashCount; i++) {
+      long index = Math.floorMod(h1 + i * h2, bitCount);
+      if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -1,25 +1,236 @@
 package com.example.authservice.auth.token;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
 import java.util.concurrent.TimeUnit;
 
-import org.springframework.data.redis.core.RedisTemplate;
+import jakarta.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 로그아웃된 Access Token 블랙리스트 서비스임.
+ *
+ * <p>- Redis 키는 토큰 원문 대신 다이제스트(SHA-256 앞 16바이트, Base64URL 22자)를 사용함 - 서버 메모리의 Bloom filter에 없으면
+ * Redis 조회 없이 블랙리스트가 아님으로 판단하고, 필터에 있을 때만 Redis에서 확인함 - 다른 인스턴스의 등록은 Redis pub/sub으로 받아 필터에
+ * 추가하며, 만료된 항목 정리와 누락 보정을 위해 필터를 주기적으로 Redis에서 다시 만듦 - 필터를 처음 만들기 전에는 항상 Redis에서 확인함
+ *
+ * <p>이전 버전은 토큰 원문을 그대로 키로 저장했으므로, 필터를 다시 만들 때 원문 키가 남아 있는지 확인하고 남아 있는 동안은 원문 키도 함께
+ * 확인함(원문 키는 토큰 만료와 함께 사라짐).
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
-public class BlacklistTokenService {
+public class BlacklistTokenService implements MessageListener {
+
+  private static final String KEY_PREFIX = "jwt:bl:";
+  private static final String CHANNEL = "jwt:blacklist";
+  private static final int DIGEST_BYTES = 16;
+  // 이전 버전의 원문 토큰 키 (JWT는 항상 "eyJ"로 시작)
+  private static final String LEGACY_KEY_PATTERN = "eyJ*";
+
+  private final StringRedisTemplate redisTemplate;
+  private final RedisMessageListenerContainer listenerContainer;
+  private final long expectedInsertions;
+  private final double falsePositiveRate;
+
+  private volatile BlacklistBloomFilter filter;
+  // 재생성 중인 필터 (재생성 도중 등록된 항목도 함께 추가)
+  private volatile BlacklistBloomFilter rebuilding;
+  private volatile boolean ready = false;
+  // 이전 버전의 원문 토큰 키가 남아 있는지 (필터 재생성 시 확인, 확인 전에는 남아 있다고 봄)
+  private volatile boolean legacyKeys = true;
 
-  private final RedisTemplate<String, String> redisTemplate;
+  private final Counter filteredCounter;
+  private final Counter confirmedCounter;
+  private final Counter falsePositiveCounter;
+  private final Counter uncheckedCounter;
+  private final Counter legacyCounter;
+
+  public BlacklistTokenService(
+      StringRedisTemplate redisTemplate,
+      RedisMessageListenerContainer listenerContainer,
+      MeterRegistry meterRegistry,
+      @Value("${auth.blacklist.bloom.expected-insertions:100000}") long expectedInsertions,
+      @Value("${auth.blacklist.bloom.false-positive-rate:0.001}") double falsePositiveRate) {
+    this.redisTemplate = redisTemplate;
+    this.listenerContainer = listenerContainer;
+    this.expectedInsertions = expectedInsertions;
+    this.falsePositiveRate = falsePositiveRate;
+    this.filter = new BlacklistBloomFilter(expectedInsertions, falsePositiveRate);
+
+    this.filteredCounter = checkCounter(meterRegistry, "filtered");
+    this.confirmedCounter = checkCounter(meterRegistry, "blacklisted");
+    this.falsePositiveCounter = checkCounter(meterRegistry, "false_positive");
+    this.uncheckedCounter = checkCounter(meterRegistry, "not_ready");
+    this.legacyCounter = checkCounter(meterRegistry, "legacy");
+  }
 
-  @Transactional
+  @PostConstruct
+  public void subscribe() {
+    listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+  }
+
+  /**
+   * 블랙리스트 등록 (Redis 저장 후 다른 인스턴스에 알림)
+   *
+   * @param accessToken 로그아웃된 Access Token
+   * @param ttlInSeconds 토큰 남은 유효 시간
+   */
   public void addToBlacklist(String accessToken, long ttlInSeconds) {
-    redisTemplate.opsForValue().set(accessToken, "blacklisted", ttlInSeconds, TimeUnit.SECONDS);
+    if (ttlInSeconds <= 0) {
+      return;
+    }
+    byte[] digest = digest(accessToken);
+    String encoded = encode(digest);
+    redisTemplate.opsForValue().set(KEY_PREFIX + encoded, "1", ttlInSeconds, TimeUnit.SECONDS);
+    putLocal(digest);
+    redisTemplate.convertAndSend(CHANNEL, encoded);
   }
 
   public boolean isBlacklisted(String accessToken) {
-    return redisTemplate.hasKey(accessToken);
+    byte[] digest = digest(accessToken);
+    if (ready && !filter.mightContain(digest)) {
+      filteredCounter.increment();
+      return isLegacyBlacklisted(accessToken);
+    }
+
+    boolean blacklisted = Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + encode(digest)));
+    if (!blacklisted && isLegacyBlacklisted(accessToken)) {
+      return true;
+    }
+    if (!ready) {
+      uncheckedCounter.increment();
+    } else if (blacklisted) {
+      confirmedCounter.increment();
+    } else {
+      falsePositiveCounter.increment();
+    }
+    return blacklisted;
+  }
+
+  // 이전 버전에서 원문 키로 등록된 토큰 확인 (원문 키가 모두 만료되면 확인하지 않음)
+  private boolean isLegacyBlacklisted(String accessToken) {
+    if (!legacyKeys || !Boolean.TRUE.equals(redisTemplate.hasKey(accessToken))) {
+      return false;
+    }
+    legacyCounter.increment();
+    return true;
+  }
+
+  /** 다른 인스턴스에서 등록된 블랙리스트 수신 */
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String encoded = new String(message.getBody(), StandardCharsets.UTF_8);
+    try {
+      putLocal(Base64.getUrlDecoder().decode(encoded));
+    } catch (IllegalArgumentException e) {
+      log.warn("⚠️ Invalid blacklist message: {}", encoded);
+    }
+  }
+
+  /** Redis의 블랙리스트 키로 필터 재생성 (기동 직후 및 주기 실행, 만료된 항목 정리) */
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(
+      initialDelayString = "${auth.blacklist.bloom.rebuild-ms:300000}",
+      fixedDelayString = "${auth.blacklist.bloom.rebuild-ms:300000}")
+  public void rebuild() {
+    BlacklistBloomFilter rebuilt = new BlacklistBloomFilter(expectedInsertions, falsePositiveRate);
+    rebuilding = rebuilt;
+    try {
+      long count =
+          redisTemplate.execute(
+              (RedisCallback<Long>)
+                  connection -> {
+                    long loaded = 0;
+                    ScanOptions options =
+                        ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build();
+                    try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+                      while (cursor.hasNext()) {
+                        String key = new String(cursor.next(), StandardCharsets.UTF_8);
+                        rebuilt.put(Base64.getUrlDecoder().decode(key.substring(KEY_PREFIX.length())));
+                        loaded++;
+                      }
+                    }
+                    return loaded;
+                  });
+      filter = rebuilt;
+      ready = true;
+      if (legacyKeys) {
+        legacyKeys = hasLegacyKeys();
+      }
+      log.info("✅ JWT blacklist filter rebuilt: {} entries", count);
+    } catch (Exception e) {
+      log.error("JWT blacklist filter rebuild failed: {}", e.getMessage());
+    } finally {
+      rebuilding = null;
+    }
+  }
+
+  // 재생성 중인 필터를 먼저 읽음 - 필터를 먼저 갱신하면 그 사이 재생성이 끝나 교체된 새 필터에 항목이 빠질 수 있음
+  // (재생성은 filter 교체 후 rebuilding을 비우므로, rebuilding이 비어 있으면 filter는 이미 새 필터임)
+  private void putLocal(byte[] digest) {
+    BlacklistBloomFilter next = rebuilding;
+    filter.put(digest);
+    if (next != null) {
+      next.put(digest);
+    }
+  }
+
+  private boolean hasLegacyKeys() {
+    Boolean found =
+        redisTemplate.execute(
+            (RedisCallback<Boolean>)
+                connection -> {
+                  ScanOptions options =
+                      ScanOptions.scanOptions().match(LEGACY_KEY_PATTERN).count(1000).build();
+                  try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+                    return cursor.hasNext();
+                  }
+                });
+    boolean present = !Boolean.FALSE.equals(found);
+    if (!present) {
+      log.info("✅ Legacy JWT blacklist keys expired, raw token lookup disabled");
+    }
+    return present;
+  }
+
+  private byte[] digest(String token) {
+    try {
+      byte[] sha256 =
+          MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+      return Arrays.copyOf(sha256, DIGEST_BYTES);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 not available", e);
+    }
+  }
+
+  private String encode(byte[] digest) {
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+  }
+
+  private Counter checkCounter(MeterRegistry meterRegistry, String result) {
+    return Counter.builder("auth.blacklist.checks")
+        .description("JWT blacklist lookups by outcome")
+        .tag("result", result)
+        .register(meterRegistry);
   }
 }
@@ -2,13 +2,20 @@ package com.example.authservice.favorite.controller;
 
 import java.util.List;
 
+import jakarta.validation.Valid;
+
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import com.example.authservice.favorite.dto.AlertRecipientBulkRequest;
+import com.example.authservice.favorite.dto.AlertRecipientPageResponse;
+import com.example.authservice.favorite.dto.FavoriteAlertRecipientResponse;
+import com.example.authservice.favorite.dto.FavoriteCountResponse;
 import com.example.authservice.favorite.dto.FavoriteRequest;
 import com.example.authservice.favorite.dto.FavoriteResponse;
 import com.example.authservice.favorite.dto.FavoriteUserResponse;
 import com.example.authservice.favorite.service.FavoriteService;
+import com.example.authservice.global.exception.BusinessException;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -22,6 +29,8 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class FavoriteController {
 
+  private static final int MAX_COUNT_PRODUCTS = 1000;
+
   private final FavoriteService favoriteService;
 
   @PostMapping("/{userId}")
@@ -56,6 +65,42 @@ public class FavoriteController {
     return ResponseEntity.ok(favoriteService.getFavoriteUsersByProductId(productId));
   }
 
+  @GetMapping("/products/{productId}/alert-recipients")
+  @Operation(
+      summary = "상품 가격 알림 수신 대상 조회",
+      description = "가격 알림을 켠 즐겨찾기 사용자와 알림 설정을 한 번에 조회합니다. (서비스 간 통신용)")
+  public ResponseEntity<List<FavoriteAlertRecipientResponse>> getAlertRecipients(
+      @PathVariable Integer productId) {
+    log.info("🔔 가격 알림 수신 대상 조회 - productId: {}", productId);
+    return ResponseEntity.ok(favoriteService.getAlertRecipientsByProductId(productId));
+  }
+
+  @PostMapping("/alert-recipients/bulk")
+  @Operation(
+      summary = "여러 상품의 가격 알림 수신 대상 일괄 조회",
+      description =
+          "여러 상품의 즐겨찾기 사용자와 알림 설정을 (상품, 즐겨찾기) 순서의 커서로 나누어 조회합니다. (서비스 간 통신용)")
+  public ResponseEntity<AlertRecipientPageResponse> getAlertRecipientsBulk(
+      @Valid @RequestBody AlertRecipientBulkRequest request) {
+    log.info(
+        "🔔 가격 알림 수신 대상 일괄 조회 - 상품: {}개, 커서: ({}, {})",
+        request.productIds().size(),
+        request.afterProductId(),
+        request.afterFavoriteId());
+    return ResponseEntity.ok(favoriteService.getAlertRecipients(request));
+  }
+
+  @GetMapping("/products/counts")
+  @Operation(summary = "상품별 즐겨찾기 수 조회", description = "여러 상품의 즐겨찾기 수를 한 번에 조회합니다.")
+  public ResponseEntity<List<FavoriteCountResponse>> getFavoriteCounts(
+      @RequestParam List<Integer> productIds) {
+    if (productIds.size() > MAX_COUNT_PRODUCTS) {
+      throw new BusinessException(
+          "한 번에 조회할 수 있는 상품은 " + MAX_COUNT_PRODUCTS + "개까지입니다.", 400, "TOO_MANY_PRODUCTS");
+    }
+    return ResponseEntity.ok(favoriteService.getFavoriteCounts(productIds));
+  }
+
   @PutMapping("/{userId}/products/{productId}/price-alert")
   @Operation(summary = "가격 알림 설정 토글", description = "즐겨찾기 상품의 가격 하락 알림 설정을 변경합니다.")
   public ResponseEntity<FavoriteResponse> togglePriceAlert(
@@ -0,0 +1,36 @@
+package com.example.authservice.favorite.dto;
+
+import java.util.List;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+/**
+ * 여러 상품의 가격 알림 수신 대상 일괄 조회 요청
+ *
+ * <p>첫 요청은 커서 없이 보내고, 이후에는 이전 응답의 {@code nextProductId}, {@code nextFavoriteId}를 그대로 넣어 다음 묶음을 조회한다.
+ */
+public record AlertRecipientBulkRequest(
+    @NotEmpty(message = "productIds is required") @Size(max = 1000) List<Integer> productIds,
+    Integer afterProductId,
+    Long afterFavoriteId,
+    @Min(1) @Max(1000) Integer size,
+    Boolean priceAlertOnly) {
+
+  public AlertRecipientBulkRequest {
+    if (afterProductId == null) {
+      afterProductId = Integer.MIN_VALUE;
+    }
+    if (afterFavoriteId == null) {
+      afterFavoriteId = 0L;
+    }
+    if (size == null) {
+      size = 500;
+    }
+    if (priceAlertOnly == null) {
+      priceAlertOnly = true;
+    }
+  }
+}
@@ -0,0 +1,24 @@
+package com.example.authservice.favorite.dto;
+
+import java.util.List;
+
+/**
+ * 가격 알림 수신 대상 일괄 조회 결과 (keyset 페이지)
+ *
+ * <p>{@code hasNext}가 true이면 {@code nextProductId}, {@code nextFavoriteId}를 다음 요청의 커서로 사용한다.
+ */
+public record AlertRecipientPageResponse(
+    List<AlertRecipientResponse> recipients,
+    boolean hasNext,
+    Integer nextProductId,
+    Long nextFavoriteId) {
+
+  public static AlertRecipientPageResponse of(List<AlertRecipientResponse> rows, int size) {
+    if (rows.size() <= size) {
+      return new AlertRecipientPageResponse(rows, false, null, null);
+    }
+    List<AlertRecipientResponse> page = rows.subList(0, size);
+    AlertRecipientResponse last = page.get(size - 1);
+    return new AlertRecipientPageResponse(page, true, last.productId(), last.favoriteId());
+  }
+}
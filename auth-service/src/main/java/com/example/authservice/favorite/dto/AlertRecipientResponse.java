@@ -0,0 +1,25 @@
+package com.example.authservice.favorite.dto;
+
+/**
+ * 가격 알림 수신 대상 (즐겨찾기 한 건당 한 행)
+ *
+ * <p>알림 설정이 없는 사용자는 {@link FavoriteAlertRecipientResponse}와 같은 기본값을 사용한다.
+ */
+public record AlertRecipientResponse(
+    Long favoriteId,
+    Integer productId,
+    Long userId,
+    String phone,
+    Boolean priceAlert,
+    Boolean pushEnabled,
+    Integer minDiscountPercent) {
+
+  public AlertRecipientResponse {
+    if (pushEnabled == null) {
+      pushEnabled = true;
+    }
+    if (minDiscountPercent == null) {
+      minDiscountPercent = 5;
+    }
+  }
+}
@@ -0,0 +1,36 @@
+package com.example.authservice.favorite.dto;
+
+import java.time.LocalTime;
+
+/**
+ * 가격 알림 수신 대상 (즐겨찾기 + 알림 설정)
+ *
+ * <p>알림 설정이 없는 사용자는 {@code NotificationSettingsServiceImpl#getSettings}와 같은 기본값을 사용한다.
+ */
+public record FavoriteAlertRecipientResponse(
+    Long userId,
+    String phone,
+    Boolean pushNotifications,
+    Integer minDiscountPercent,
+    LocalTime notificationStartTime,
+    LocalTime notificationEndTime,
+    Boolean weekendNotifications) {
+
+  public FavoriteAlertRecipientResponse {
+    if (pushNotifications == null) {
+      pushNotifications = true;
+    }
+    if (minDiscountPercent == null) {
+      minDiscountPercent = 5;
+    }
+    if (notificationStartTime == null) {
+      notificationStartTime = LocalTime.of(9, 0);
+    }
+    if (notificationEndTime == null) {
+      notificationEndTime = LocalTime.of(21, 0);
+    }
+    if (weekendNotifications == null) {
+      weekendNotifications = true;
+    }
+  }
+}
@@ -0,0 +1,4 @@
+package com.example.authservice.favorite.dto;
+
+/** 상품별 즐겨찾기 수 */
+public record FavoriteCountResponse(Integer productId, Long count) {}
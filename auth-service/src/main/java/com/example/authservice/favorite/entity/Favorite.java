@@ -11,7 +11,9 @@ import com.example.authservice.user.entity.User;
 import lombok.*;
 
 @Entity
-@Table(name = "favorite")
+@Table(
+    name = "favorite",
+    indexes = @Index(name = "idx_favorite_product_id", columnList = "product_id, id"))
 @Getter
 @Setter
 @NoArgsConstructor
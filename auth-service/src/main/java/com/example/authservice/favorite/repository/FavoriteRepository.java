@@ -1,13 +1,18 @@
 package com.example.authservice.favorite.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.example.authservice.favorite.dto.AlertRecipientResponse;
+import com.example.authservice.favorite.dto.FavoriteAlertRecipientResponse;
+import com.example.authservice.favorite.dto.FavoriteCountResponse;
 import com.example.authservice.favorite.entity.Favorite;
 
 @Repository
@@ -19,8 +24,48 @@ public interface FavoriteRepository extends JpaRepository<Favorite, Long> {
 
   boolean existsByUserIdAndProductId(Long userId, Integer productId);
 
-  void deleteByUserIdAndProductId(Long userId, Integer productId);
+  long deleteByUserIdAndProductId(Long userId, Integer productId);
+
+  /** 상품별 즐겨찾기 수 집계 (카운터 재집계용) */
+  @Query(
+      "SELECT new com.example.authservice.favorite.dto.FavoriteCountResponse(f.productId, COUNT(f)) "
+          + "FROM Favorite f GROUP BY f.productId")
+  List<FavoriteCountResponse> countGroupByProductId();
 
   @Query("SELECT f FROM Favorite f JOIN FETCH f.user WHERE f.productId = :productId")
   List<Favorite> findByProductIdWithUser(@Param("productId") Integer productId);
+
+  /** 가격 알림을 켠 즐겨찾기 사용자와 알림 설정을 한 번에 조회 */
+  @Query(
+      "SELECT new com.example.authservice.favorite.dto.FavoriteAlertRecipientResponse("
+          + "u.id, u.phone, ns.pushNotifications, ns.minDiscountPercent, "
+          + "ns.notificationStartTime, ns.notificationEndTime, ns.weekendNotifications) "
+          + "FROM Favorite f JOIN f.user u "
+          + "LEFT JOIN NotificationSettings ns ON ns.user = u "
+          + "WHERE f.productId = :productId AND f.priceAlert = true AND u.phone IS NOT NULL")
+  List<FavoriteAlertRecipientResponse> findAlertRecipientsByProductId(
+      @Param("productId") Integer productId);
+
+  /**
+   * 여러 상품의 알림 수신 대상을 (productId, favoriteId) 순서의 keyset으로 조회
+   *
+   * <p>(product_id, id) 인덱스 순서대로 읽으므로 커서 위치와 관계없이 페이지 크기만큼만 읽음 - 전화번호가 없는 사용자는 알림을 받을 수 없으므로 제외
+   */
+  @Query(
+      "SELECT new com.example.authservice.favorite.dto.AlertRecipientResponse("
+          + "f.id, f.productId, u.id, u.phone, f.priceAlert, "
+          + "ns.pushNotifications, ns.minDiscountPercent) "
+          + "FROM Favorite f JOIN f.user u "
+          + "LEFT JOIN NotificationSettings ns ON ns.user = u "
+          + "WHERE f.productId IN :productIds AND u.phone IS NOT NULL "
+          + "AND (f.productId > :afterProductId "
+          + "OR (f.productId = :afterProductId AND f.id > :afterFavoriteId)) "
+          + "AND (:priceAlertOnly = false OR f.priceAlert = true) "
+          + "ORDER BY f.productId, f.id")
+  List<AlertRecipientResponse> findAlertRecipientsAfter(
+      @Param("productIds") Collection<Integer> productIds,
+      @Param("afterProductId") Integer afterProductId,
+      @Param("afterFavoriteId") Long afterFavoriteId,
+      @Param("priceAlertOnly") boolean priceAlertOnly,
+      Limit limit);
 }
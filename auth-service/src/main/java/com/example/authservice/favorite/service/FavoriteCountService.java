@@ -0,0 +1,123 @@
+package com.example.authservice.favorite.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.authservice.favorite.dto.FavoriteCountResponse;
+import com.example.authservice.favorite.repository.FavoriteRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품별 즐겨찾기 수를 Redis hash로 관리하는 서비스임.
+ *
+ * <p>- 즐겨찾기 추가/삭제가 커밋되면 HINCRBY로 해당 상품의 카운터만 원자적으로 증감함 - 여러 상품의 카운터는 HMGET 한 번으로 조회하므로 상품당
+ * O(1)임 - 사용자 삭제 등 카운터를 거치지 않은 변경이나 Redis 장애로 생긴 오차는 주기적인 재집계로 바로잡음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FavoriteCountService {
+
+  private static final String COUNT_KEY = "favorite:count";
+  private static final String REBUILD_KEY = "favorite:count:rebuild";
+  private static final int WRITE_CHUNK = 1000;
+
+  private final StringRedisTemplate redisTemplate;
+  private final FavoriteRepository favoriteRepository;
+
+  /** 즐겨찾기 수 증감 (트랜잭션 안에서 호출되면 커밋 후 반영) */
+  public void adjust(Integer productId, long delta) {
+    if (delta == 0) {
+      return;
+    }
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              increment(productId, delta);
+            }
+          });
+    } else {
+      increment(productId, delta);
+    }
+  }
+
+  /** 여러 상품의 즐겨찾기 수 조회 (요청 순서 유지, 카운터가 없으면 0) */
+  public List<FavoriteCountResponse> getCounts(List<Integer> productIds) {
+    if (productIds.isEmpty()) {
+      return List.of();
+    }
+    List<String> fields = productIds.stream().map(String::valueOf).toList();
+    HashOperations<String, String, String> hash = redisTemplate.opsForHash();
+    List<String> values = hash.multiGet(COUNT_KEY, fields);
+
+    Map<Integer, FavoriteCountResponse> counts = new LinkedHashMap<>();
+    for (int i = 0; i < productIds.size(); i++) {
+      String value = values.get(i);
+      long count = value != null ? Math.max(0, Long.parseLong(value)) : 0;
+      counts.putIfAbsent(productIds.get(i), new FavoriteCountResponse(productIds.get(i), count));
+    }
+    return new ArrayList<>(counts.values());
+  }
+
+  /**
+   * DB 기준으로 카운터 재집계 (기동 직후 및 주기 실행)
+   *
+   * <p>임시 키에 새로 만든 뒤 RENAME으로 교체하므로 조회 중에 비어 있는 순간이 없음. 집계와 교체 사이에 반영된 증감은 다음 재집계에서 보정됨.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(
+      initialDelayString = "${favorite.count.reconcile-ms:3600000}",
+      fixedDelayString = "${favorite.count.reconcile-ms:3600000}")
+  public void reconcile() {
+    try {
+      List<FavoriteCountResponse> counts = favoriteRepository.countGroupByProductId();
+      HashOperations<String, String, String> hash = redisTemplate.opsForHash();
+
+      redisTemplate.delete(REBUILD_KEY);
+      Map<String, String> chunk = new HashMap<>();
+      for (FavoriteCountResponse count : counts) {
+        chunk.put(String.valueOf(count.productId()), String.valueOf(count.count()));
+        if (chunk.size() >= WRITE_CHUNK) {
+          hash.putAll(REBUILD_KEY, chunk);
+          chunk.clear();
+        }
+      }
+      if (!chunk.isEmpty()) {
+        hash.putAll(REBUILD_KEY, chunk);
+      }
+
+      if (counts.isEmpty()) {
+        redisTemplate.delete(COUNT_KEY);
+      } else {
+        redisTemplate.rename(REBUILD_KEY, COUNT_KEY);
+      }
+      log.info("✅ Favorite counts reconciled: {} products", counts.size());
+    } catch (Exception e) {
+      log.error("Favorite count reconcile failed: {}", e.getMessage());
+    }
+  }
+
+  private void increment(Integer productId, long delta) {
+    try {
+      redisTemplate.opsForHash().increment(COUNT_KEY, String.valueOf(productId), delta);
+    } catch (Exception e) {
+      log.warn("Favorite count update failed (productId: {}): {}", productId, e.getMessage());
+    }
+  }
+}
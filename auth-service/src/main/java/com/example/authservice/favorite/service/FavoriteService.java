@@ -2,6 +2,10 @@ package com.example.authservice.favorite.service;
 
 import java.util.List;
 
+import com.example.authservice.favorite.dto.AlertRecipientBulkRequest;
+import com.example.authservice.favorite.dto.AlertRecipientPageResponse;
+import com.example.authservice.favorite.dto.FavoriteAlertRecipientResponse;
+import com.example.authservice.favorite.dto.FavoriteCountResponse;
 import com.example.authservice.favorite.dto.FavoriteRequest;
 import com.example.authservice.favorite.dto.FavoriteResponse;
 import com.example.authservice.favorite.dto.FavoriteUserResponse;
@@ -16,5 +20,11 @@ public interface FavoriteService {
 
   List<FavoriteUserResponse> getFavoriteUsersByProductId(Integer productId);
 
+  List<FavoriteAlertRecipientResponse> getAlertRecipientsByProductId(Integer productId);
+
+  AlertRecipientPageResponse getAlertRecipients(AlertRecipientBulkRequest request);
+
+  List<FavoriteCountResponse> getFavoriteCounts(List<Integer> productIds);
+
   FavoriteResponse togglePriceAlert(Long userId, Integer productId, Boolean enabled);
 }
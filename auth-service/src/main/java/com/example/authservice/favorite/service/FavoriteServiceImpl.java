@@ -1,11 +1,18 @@
 package com.example.authservice.favorite.service;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.authservice.favorite.dto.AlertRecipientBulkRequest;
+import com.example.authservice.favorite.dto.AlertRecipientPageResponse;
+import com.example.authservice.favorite.dto.AlertRecipientResponse;
+import com.example.authservice.favorite.dto.FavoriteAlertRecipientResponse;
+import com.example.authservice.favorite.dto.FavoriteCountResponse;
 import com.example.authservice.favorite.dto.FavoriteRequest;
 import com.example.authservice.favorite.dto.FavoriteResponse;
 import com.example.authservice.favorite.dto.FavoriteUserResponse;
@@ -24,6 +31,7 @@ public class FavoriteServiceImpl implements FavoriteService {
 
   private final FavoriteRepository favoriteRepository;
   private final UserRepository userRepository;
+  private final FavoriteCountService favoriteCountService;
 
   @Override
   @Transactional
@@ -40,6 +48,7 @@ public class FavoriteServiceImpl implements FavoriteService {
     Favorite favorite = Favorite.builder().user(user).productId(request.productId()).build();
 
     Favorite savedFavorite = favoriteRepository.save(favorite);
+    favoriteCountService.adjust(request.productId(), 1);
     return FavoriteResponse.from(savedFavorite);
   }
 
@@ -56,7 +65,8 @@ public class FavoriteServiceImpl implements FavoriteService {
     if (!favoriteRepository.existsByUserIdAndProductId(userId, productId)) {
       throw new BusinessException("즐겨찾기를 찾을 수 없습니다.", 404, "FAVORITE_NOT_FOUND");
     }
-    favoriteRepository.deleteByUserIdAndProductId(userId, productId);
+    long deleted = favoriteRepository.deleteByUserIdAndProductId(userId, productId);
+    favoriteCountService.adjust(productId, -deleted);
   }
 
   @Override
@@ -66,6 +76,29 @@ public class FavoriteServiceImpl implements FavoriteService {
         .collect(Collectors.toList());
   }
 
+  @Override
+  public List<FavoriteAlertRecipientResponse> getAlertRecipientsByProductId(Integer productId) {
+    return favoriteRepository.findAlertRecipientsByProductId(productId);
+  }
+
+  @Override
+  public AlertRecipientPageResponse getAlertRecipients(AlertRecipientBulkRequest request) {
+    // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+    List<AlertRecipientResponse> rows =
+        favoriteRepository.findAlertRecipientsAfter(
+            new HashSet<>(request.productIds()),
+            request.afterProductId(),
+            request.afterFavoriteId(),
+            request.priceAlertOnly(),
+            Limit.of(request.size() + 1));
+    return AlertRecipientPageResponse.of(rows, request.size());
+  }
+
+  @Override
+  public List<FavoriteCountResponse> getFavoriteCounts(List<Integer> productIds) {
+    return favoriteCountService.getCounts(productIds);
+  }
+
   @Override
   @Transactional
   public FavoriteResponse togglePriceAlert(Long userId, Integer productId, Boolean enabled) {
@@ -4,19 +4,23 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
 
 import com.example.authservice.global.redis.RedisProperties;
 
+import io.lettuce.core.resource.ClientResources;
 import lombok.RequiredArgsConstructor;
 
 /**
  * Redis 관련 설정인 RedisConfig.
  *
  * <p>- Spring Data Redis Repository 활성화 (@EnableRedisRepositories) - Redis 서버 연결 및 RedisTemplate 빈
- * 등록 - RedisStandaloneConfiguration으로 단일 Redis 서버 연결 설정
+ * 등록 - RedisStandaloneConfiguration으로 단일 Redis 서버 연결 설정 - pub/sub 수신용 RedisMessageListenerContainer 빈 등록 -
+ * Spring Boot의 ClientResources를 사용하여 Lettuce 명령 메트릭 수집
  */
 @EnableRedisRepositories
 @Configuration
@@ -24,6 +28,8 @@ import lombok.RequiredArgsConstructor;
 public class RedisConfig {
 
   private final RedisProperties redisProperties;
+  // Spring Boot가 등록한 ClientResources (Lettuce 명령 지연 시간 메트릭 포함)
+  private final ClientResources clientResources;
 
   @Bean
   public RedisConnectionFactory redisConnectionFactory() {
@@ -31,7 +37,9 @@ public class RedisConfig {
     config.setHostName(redisProperties.getHost());
     config.setPort(redisProperties.getPort());
     config.setPassword(redisProperties.getPassword());
-    return new LettuceConnectionFactory(config);
+    LettuceClientConfiguration clientConfig =
+        LettuceClientConfiguration.builder().clientResources(clientResources).build();
+    return new LettuceConnectionFactory(config, clientConfig);
   }
 
   @Bean
@@ -42,4 +50,11 @@ public class RedisConfig {
 
     return redisTemplate;
   }
+
+  @Bean
+  public RedisMessageListenerContainer redisMessageListenerContainer() {
+    RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+    container.setConnectionFactory(redisConnectionFactory());
+    return container;
+  }
 }
@@ -2,6 +2,7 @@ package com.example.authservice.global.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -14,6 +15,7 @@ import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 import com.example.authservice.auth.oauth.handler.OAuth2AuthenticationSuccessHandler;
+import com.example.authservice.auth.security.InternalApiAuthorizationManager;
 import com.example.authservice.auth.security.JwtAccessDeniedHandler;
 import com.example.authservice.auth.security.JwtAuthenticationEntryPoint;
 import com.example.authservice.auth.security.JwtAuthenticationFilter;
@@ -30,6 +32,7 @@ public class SecurityConfig {
   private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
   private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
   private final OAuth2AuthenticationSuccessHandler oAuth2AuthenticationSuccessHandler;
+  private final InternalApiAuthorizationManager internalApiAuthorizationManager;
 
   // BCrypt방식을 사용하는 PasswordEncoder 등록
   @Bean
@@ -59,11 +62,22 @@ public class SecurityConfig {
                     .permitAll()
                     .requestMatchers("/h2-console/**")
                     .permitAll()
-                    .requestMatchers("/actuator/**")
+                    // 헬스체크와 Prometheus 수집만 공개 (게이트웨이는 actuator를 라우팅하지 않음)
+                    .requestMatchers("/actuator/health/**", "/actuator/info", "/actuator/prometheus")
                     .permitAll()
+                    .requestMatchers("/actuator/**")
+                    .hasRole("ADMIN")
                     // 서비스 간 통신을 위한 엔드포인트
                     .requestMatchers("/api/v1/favorites/products/*/users")
                     .permitAll()
+                    // 상품 목록의 즐겨찾기 수 (비로그인 사용자도 조회)
+                    .requestMatchers(HttpMethod.GET, "/api/v1/favorites/products/counts")
+                    .permitAll()
+                    // 서비스 간 내부 API (전화번호 포함, 내부 API 키 필요)
+                    .requestMatchers(
+                        "/api/v1/favorites/products/*/alert-recipients",
+                        "/api/v1/favorites/alert-recipients/bulk")
+                    .access(internalApiAuthorizationManager)
                     .requestMatchers("/api/notification-settings/**")
                     .permitAll()
 
@@ -0,0 +1,67 @@
+package com.example.authservice.global.util;
+
+import java.util.List;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요청의 클라이언트 IP를 구하는 컴포넌트임.
+ *
+ * <p>- 직접 연결한 주소가 신뢰하는 프록시(게이트웨이)일 때만 X-Forwarded-For를 사용함 - X-Forwarded-For는 오른쪽(가장 가까운 프록시가 추가한
+ * 값)부터 읽으며 신뢰하는 프록시를 건너뛰고, 처음 만나는 주소를 클라이언트로 봄 - 클라이언트가 보낸 왼쪽 값은 위조할 수 있으므로 사용하지 않음
+ */
+@Component
+public class ClientIpResolver {
+
+  private static final String X_FORWARDED_FOR = "X-Forwarded-For";
+
+  private final List<IpAddressMatcher> trustedProxies;
+
+  public ClientIpResolver(
+      @Value("${auth.trusted-proxies:127.0.0.1,::1}") List<String> trustedProxies) {
+    this.trustedProxies =
+        trustedProxies.stream().map(String::trim).map(IpAddressMatcher::new).toList();
+  }
+
+  public String resolve(HttpServletRequest request) {
+    String remoteAddr = request.getRemoteAddr();
+    if (!isTrusted(remoteAddr)) {
+      return remoteAddr;
+    }
+
+    String forwardedFor = request.getHeader(X_FORWARDED_FOR);
+    if (forwardedFor == null || forwardedFor.isBlank()) {
+      return remoteAddr;
+    }
+
+    String[] hops = forwardedFor.split(",");
+    for (int i = hops.length - 1; i >= 0; i--) {
+      String hop = hops[i].trim();
+      if (hop.isEmpty() || "unknown".equalsIgnoreCase(hop)) {
+        break;
+      }
+      if (!isTrusted(hop)) {
+        return hop;
+      }
+    }
+    return remoteAddr;
+  }
+
+  private boolean isTrusted(String address) {
+    for (IpAddressMatcher proxy : trustedProxies) {
+      try {
+        if (proxy.matches(address)) {
+          return true;
+        }
+      } catch (IllegalArgumentException e) {
+        // 주소 형식이 아니면 신뢰하지 않음
+        return false;
+      }
+    }
+    return false;
+  }
+}
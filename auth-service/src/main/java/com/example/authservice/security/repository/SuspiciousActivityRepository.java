@@ -4,9 +4,11 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.example.authservice.security.entity.SuspiciousActivity;
 import com.example.authservice.user.entity.User;
@@ -22,5 +24,10 @@ public interface SuspiciousActivityRepository extends JpaRepository<SuspiciousAc
 
   List<SuspiciousActivity> findByUserAndNotifiedFalse(User user);
 
+  @Transactional
+  @Modifying
+  @Query("UPDATE SuspiciousActivity s SET s.notified = true WHERE s.id = :id")
+  int markNotified(@Param("id") Long id);
+
   void deleteByUser(User user);
 }
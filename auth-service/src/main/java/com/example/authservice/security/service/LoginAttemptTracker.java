@@ -0,0 +1,139 @@
+package com.example.authservice.security.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로그인 실패 횟수를 Redis sorted set으로 추적하는 sliding window 카운터임.
+ *
+ * <p>- (이메일, 접속지 IP)별, 접속지별, 이메일별로 실패 시각을 score로 저장하고 창(window) 밖의 항목은 기록 시 정리함 - 로그인 시도 전에
+ * (이메일, 접속지)와 접속지 창의 실패 횟수를 확인하여 한도를 넘으면 인증(비밀번호 해시 비교)과 DB 조회 없이 거절함 - 이메일만으로는 차단하지
+ * 않으므로 다른 곳에서 실패를 반복해도 계정 주인의 로그인은 막히지 않음 - 이메일별 실패 횟수는 의심스러운 활동 알림에만 사용함 - 로그인 성공 시
+ * 해당 접속지의 실패 기록과 이메일별 실패 기록을 지움
+ */
+@Slf4j
+@Component
+public class LoginAttemptTracker {
+
+  private static final String USER_KEY_PREFIX = "login:fail:user:";
+  private static final String USER_SOURCE_KEY_PREFIX = "login:fail:user-ip:";
+  private static final String SOURCE_KEY_PREFIX = "login:fail:ip:";
+  private static final String UNKNOWN_SOURCE = "unknown";
+
+  // 실패 기록 후 창 안의 실패 횟수 반환
+  private static final RedisScript<Long> RECORD_SCRIPT =
+      new DefaultRedisScript<>(
+          "redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', ARGV[1] - ARGV[2])\n"
+              + "redis.call('ZADD', KEYS[1], ARGV[1], ARGV[3])\n"
+              + "redis.call('PEXPIRE', KEYS[1], ARGV[2])\n"
+              + "return redis.call('ZCARD', KEYS[1])",
+          Long.class);
+
+  private final StringRedisTemplate redisTemplate;
+  private final long userWindowMillis;
+  private final int userMaxFailures;
+  private final long sourceWindowMillis;
+  private final int sourceMaxFailures;
+
+  public LoginAttemptTracker(
+      StringRedisTemplate redisTemplate,
+      @Value("${auth.login.user.window:15m}") Duration userWindow,
+      @Value("${auth.login.user.max-failures:10}") int userMaxFailures,
+      @Value("${auth.login.source.window:15m}") Duration sourceWindow,
+      @Value("${auth.login.source.max-failures:50}") int sourceMaxFailures) {
+    this.redisTemplate = redisTemplate;
+    this.userWindowMillis = userWindow.toMillis();
+    this.userMaxFailures = userMaxFailures;
+    this.sourceWindowMillis = sourceWindow.toMillis();
+    this.sourceMaxFailures = sourceMaxFailures;
+  }
+
+  /**
+   * 로그인 시도 차단 여부 확인 (인증 전에 호출)
+   *
+   * @param email 로그인 이메일
+   * @param ipAddress 접속 IP
+   * @return (사용자, 접속지)별 또는 접속지별 실패 횟수가 한도에 도달했으면 true
+   */
+  public boolean isBlocked(String email, String ipAddress) {
+    long now = System.currentTimeMillis();
+    try {
+      return count(userSourceKey(email, ipAddress), now - userWindowMillis) >= userMaxFailures
+          || (ipAddress != null
+              && count(sourceKey(ipAddress), now - sourceWindowMillis) >= sourceMaxFailures);
+    } catch (Exception e) {
+      // Redis 장애 시 로그인 자체는 막지 않음
+      log.warn("로그인 실패 횟수 확인 실패: {}", e.getMessage());
+      return false;
+    }
+  }
+
+  /**
+   * 로그인 실패 기록
+   *
+   * @return 사용자별(모든 접속지) 창 안의 실패 횟수 (이번 실패 포함, 알림 판단용)
+   */
+  public long recordFailure(String email, String ipAddress) {
+    long now = System.currentTimeMillis();
+    try {
+      if (ipAddress != null) {
+        record(sourceKey(ipAddress), now, sourceWindowMillis);
+      }
+      record(userSourceKey(email, ipAddress), now, userWindowMillis);
+      return record(userKey(email), now, userWindowMillis);
+    } catch (Exception e) {
+      log.warn("로그인 실패 기록 실패: {}", e.getMessage());
+      return 0;
+    }
+  }
+
+  /** 로그인 성공 시 해당 접속지의 실패 기록과 사용자별 실패 기록 삭제 */
+  public void reset(String email, String ipAddress) {
+    try {
+      redisTemplate.delete(List.of(userSourceKey(email, ipAddress), userKey(email)));
+    } catch (Exception e) {
+      log.warn("로그인 실패 기록 삭제 실패: {}", e.getMessage());
+    }
+  }
+
+  private long count(String key, long since) {
+    Long count = redisTemplate.opsForZSet().count(key, since, Double.POSITIVE_INFINITY);
+    return count != null ? count : 0;
+  }
+
+  private long record(String key, long now, long windowMillis) {
+    Long count =
+        redisTemplate.execute(
+            RECORD_SCRIPT,
+            List.of(key),
+            String.valueOf(now),
+            String.valueOf(windowMillis),
+            now + ":" + UUID.randomUUID());
+    return count != null ? count : 0;
+  }
+
+  private String userKey(String email) {
+    return USER_KEY_PREFIX + email.toLowerCase(Locale.ROOT);
+  }
+
+  private String userSourceKey(String email, String ipAddress) {
+    return USER_SOURCE_KEY_PREFIX
+        + email.toLowerCase(Locale.ROOT)
+        + ":"
+        + (ipAddress != null ? ipAddress : UNKNOWN_SOURCE);
+  }
+
+  private String sourceKey(String ipAddress) {
+    return SOURCE_KEY_PREFIX + ipAddress;
+  }
+}
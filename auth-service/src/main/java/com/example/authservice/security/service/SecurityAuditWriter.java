@@ -0,0 +1,313 @@
+package com.example.authservice.security.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.authservice.security.entity.LoginHistory;
+import com.example.authservice.security.entity.SuspiciousActivity;
+import com.example.authservice.security.repository.LoginHistoryRepository;
+import com.example.authservice.security.repository.SuspiciousActivityRepository;
+import com.example.authservice.user.repository.UserRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 보안 감사 로그(로그인 이력, 의심스러운 활동)를 비동기로 묶어서 저장하는 컴포넌트임.
+ *
+ * <p>- 요청 스레드는 이벤트를 제한된 크기의 큐(ring buffer)에 넣고 바로 반환함 - 저장 스레드는 큐에서 이벤트를 묶음(batch-size) 또는 대기
+ * 시간(linger-ms) 단위로 꺼내 한 트랜잭션에서 저장함 - 일시적인 DB 오류는 재시도하고, 그래도 실패하거나 탈퇴한 사용자의 이벤트(FK 위반)처럼
+ * 일부 이벤트 때문에 묶음이 롤백되면 하나씩 다시 저장하여 저장할 수 없는 이벤트만 제외함 - 저장된 의심스러운 활동은 커밋 후 {@link SuspiciousActivityNotifier}에 넘겨 별도
+ * 스레드에서 이메일로 알림 - 큐가 가득 차면(대량 로그인 시도) 이벤트를 버리고 메트릭으로 기록하여 DB 쓰기 부하가 요청 수에 비례해 늘지 않게 함 - 종료
+ * 시에는 새 이벤트를 막은 뒤 남은 이벤트를 모두 저장함
+ */
+@Slf4j
+@Component
+public class SecurityAuditWriter {
+
+  private sealed interface AuditEvent permits LoginEvent, SuspiciousActivityEvent {}
+
+  private record LoginEvent(
+      Long userId, LocalDateTime loginTime, boolean successful, String failureReason)
+      implements AuditEvent {}
+
+  private record SuspiciousActivityEvent(
+      Long userId,
+      String email,
+      SuspiciousActivity.ActivityType activityType,
+      String details,
+      LocalDateTime detectedAt)
+      implements AuditEvent {}
+
+  // 저장된 로그인 이력 수, 의심스러운 활동과 알림 수신 이메일 (같은 순서)
+  private record Written(
+      int histories, List<SuspiciousActivity> activities, List<String> alertEmails) {}
+
+  private final LoginHistoryRepository loginHistoryRepository;
+  private final SuspiciousActivityRepository suspiciousActivityRepository;
+  private final UserRepository userRepository;
+  private final SuspiciousActivityNotifier suspiciousActivityNotifier;
+  private final TransactionTemplate transactionTemplate;
+  private final MeterRegistry meterRegistry;
+
+  private final BlockingQueue<AuditEvent> queue;
+  private final int batchSize;
+  private final long lingerMillis;
+  private final long shutdownTimeoutMillis;
+  private final int maxAttempts;
+  private final long retryBackoffMillis;
+
+  private volatile boolean accepting = true;
+  private Thread writer;
+
+  private Counter acceptedCounter;
+  private Counter droppedCounter;
+  private Counter flushedCounter;
+  private Counter retriedCounter;
+  private Counter failedCounter;
+
+  public SecurityAuditWriter(
+      LoginHistoryRepository loginHistoryRepository,
+      SuspiciousActivityRepository suspiciousActivityRepository,
+      UserRepository userRepository,
+      SuspiciousActivityNotifier suspiciousActivityNotifier,
+      TransactionTemplate transactionTemplate,
+      MeterRegistry meterRegistry,
+      @Value("${auth.audit.queue-capacity:10000}") int queueCapacity,
+      @Value("${auth.audit.batch-size:200}") int batchSize,
+      @Value("${auth.audit.linger-ms:200}") long lingerMillis,
+      @Value("${auth.audit.shutdown-timeout-ms:10000}") long shutdownTimeoutMillis,
+      @Value("${auth.audit.max-attempts:3}") int maxAttempts,
+      @Value("${auth.audit.retry-backoff-ms:1000}") long retryBackoffMillis) {
+    this.loginHistoryRepository = loginHistoryRepository;
+    this.suspiciousActivityRepository = suspiciousActivityRepository;
+    this.userRepository = userRepository;
+    this.suspiciousActivityNotifier = suspiciousActivityNotifier;
+    this.transactionTemplate = transactionTemplate;
+    this.meterRegistry = meterRegistry;
+    this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    this.batchSize = batchSize;
+    this.lingerMillis = lingerMillis;
+    this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+    this.maxAttempts = Math.max(1, maxAttempts);
+    this.retryBackoffMillis = retryBackoffMillis;
+  }
+
+  @PostConstruct
+  public void start() {
+    Gauge.builder("auth.audit.queue.size", queue, BlockingQueue::size)
+        .description("저장 대기 중인 보안 감사 이벤트 수")
+        .register(meterRegistry);
+    Gauge.builder("auth.audit.queue.remaining", queue, BlockingQueue::remainingCapacity)
+        .description("보안 감사 이벤트 큐의 남은 용량")
+        .register(meterRegistry);
+    acceptedCounter = eventCounter("accepted");
+    droppedCounter = eventCounter("dropped");
+    flushedCounter = eventCounter("flushed");
+    retriedCounter = eventCounter("retried");
+    failedCounter = eventCounter("failed");
+
+    writer = Thread.ofPlatform().name("security-audit-writer").start(this::runWriter);
+  }
+
+  /** 저장 스레드 종료 - 새 이벤트를 막고 큐에 남은 이벤트를 모두 저장할 때까지 대기 */
+  @PreDestroy
+  public void stop() throws InterruptedException {
+    accepting = false;
+    writer.join(shutdownTimeoutMillis);
+    if (writer.isAlive()) {
+      log.warn("보안 감사 로그 저장 종료 대기 시간 초과 - 미저장 이벤트: {}개", queue.size());
+      writer.interrupt();
+    }
+  }
+
+  /**
+   * 로그인 이력 접수 (대기하지 않음)
+   *
+   * @return 접수 여부 (큐가 가득 차 있거나 종료 중이면 false)
+   */
+  public boolean submitLogin(Long userId, boolean successful, String failureReason) {
+    return submit(new LoginEvent(userId, LocalDateTime.now(), successful, failureReason));
+  }
+
+  /**
+   * 의심스러운 활동 접수 (대기하지 않음, 저장 후 이메일 알림)
+   *
+   * @param email 알림 수신 이메일
+   * @return 접수 여부 (큐가 가득 차 있거나 종료 중이면 false)
+   */
+  public boolean submitSuspiciousActivity(
+      Long userId, String email, SuspiciousActivity.ActivityType activityType, String details) {
+    return submit(
+        new SuspiciousActivityEvent(userId, email, activityType, details, LocalDateTime.now()));
+  }
+
+  private boolean submit(AuditEvent event) {
+    if (accepting && queue.offer(event)) {
+      acceptedCounter.increment();
+      return true;
+    }
+    droppedCounter.increment();
+    log.debug("보안 감사 로그 큐 포화로 이벤트 제외 - {}", event);
+    return false;
+  }
+
+  private void runWriter() {
+    List<AuditEvent> batch = new ArrayList<>(batchSize);
+    while (accepting || !queue.isEmpty()) {
+      try {
+        AuditEvent first = queue.poll(lingerMillis, TimeUnit.MILLISECONDS);
+        if (first == null) {
+          continue;
+        }
+        batch.add(first);
+        fill(batch);
+        flush(batch);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      } finally {
+        batch.clear();
+      }
+    }
+    log.info("보안 감사 로그 저장 스레드 종료 - 미저장 이벤트: {}개", queue.size());
+  }
+
+  // 첫 이벤트 이후 linger 시간 동안 묶음을 채움
+  private void fill(List<AuditEvent> batch) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+    while (batch.size() < batchSize) {
+      if (queue.drainTo(batch, batchSize - batch.size()) > 0) {
+        continue;
+      }
+      long remaining = deadline - System.nanoTime();
+      // 종료 중에는 기다리지 않고 바로 저장
+      if (remaining <= 0 || !accepting) {
+        return;
+      }
+      AuditEvent next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+      if (next == null) {
+        return;
+      }
+      batch.add(next);
+    }
+  }
+
+  private void flush(List<AuditEvent> batch) throws InterruptedException {
+    for (int attempt = 1; ; attempt++) {
+      Written written;
+      try {
+        written = write(batch);
+      } catch (TransientDataAccessException | RecoverableDataAccessException e) {
+        if (attempt >= maxAttempts) {
+          log.warn(
+              "보안 감사 로그 저장 재시도 소진, 개별 저장으로 전환 - {}개, 에러: {}", batch.size(), e.getMessage());
+          break;
+        }
+        retriedCounter.increment(batch.size());
+        log.warn(
+            "보안 감사 로그 저장 일시 실패, {}ms 후 재시도 ({}/{}) - 에러: {}",
+            retryBackoffMillis * attempt,
+            attempt,
+            maxAttempts,
+            e.getMessage());
+        Thread.sleep(retryBackoffMillis * attempt);
+        continue;
+      } catch (Exception e) {
+        // 탈퇴한 사용자의 이벤트(FK 위반)처럼 일부 이벤트 때문에 묶음 전체가 롤백된 경우
+        log.warn("보안 감사 로그 묶음 저장 실패, 개별 저장으로 전환 - {}개, 에러: {}", batch.size(), e.getMessage());
+        break;
+      }
+      flushedCounter.increment(batch.size());
+      log.debug(
+          "보안 감사 로그 저장 - 로그인 이력: {}개, 의심스러운 활동: {}개",
+          written.histories(),
+          written.activities().size());
+      sendAlerts(written);
+      return;
+    }
+
+    // 저장할 수 없는 이벤트만 제외하고 나머지는 하나씩 저장
+    for (AuditEvent event : batch) {
+      Written written;
+      try {
+        written = write(List.of(event));
+      } catch (Exception e) {
+        failedCounter.increment();
+        log.error("보안 감사 로그 저장 실패로 제외 - {}, 에러: {}", event, e.getMessage());
+        continue;
+      }
+      flushedCounter.increment();
+      sendAlerts(written);
+    }
+  }
+
+  // 한 트랜잭션에서 저장
+  private Written write(List<AuditEvent> events) {
+    List<LoginHistory> histories = new ArrayList<>();
+    List<SuspiciousActivity> activities = new ArrayList<>();
+    List<String> alertEmails = new ArrayList<>();
+
+    transactionTemplate.executeWithoutResult(
+        status -> {
+          for (AuditEvent event : events) {
+            // 사용자 엔터티를 조회하지 않고 FK 참조만 사용
+            switch (event) {
+              case LoginEvent login ->
+                  histories.add(
+                      LoginHistory.builder()
+                          .user(userRepository.getReferenceById(login.userId()))
+                          .loginTime(login.loginTime())
+                          .successful(login.successful())
+                          .failureReason(login.failureReason())
+                          .build());
+              case SuspiciousActivityEvent suspicious -> {
+                activities.add(
+                    SuspiciousActivity.builder()
+                        .user(userRepository.getReferenceById(suspicious.userId()))
+                        .activityType(suspicious.activityType())
+                        .ipAddress("N/A") // IP 추적 제거
+                        .userAgent("N/A") // User Agent 추적 제거
+                        .detectedAt(suspicious.detectedAt())
+                        .details(suspicious.details())
+                        .notified(false)
+                        .build());
+                alertEmails.add(suspicious.email());
+              }
+            }
+          }
+          loginHistoryRepository.saveAll(histories);
+          suspiciousActivityRepository.saveAll(activities);
+        });
+    return new Written(histories.size(), activities, alertEmails);
+  }
+
+  // 커밋된 활동만 알림 (IDENTITY 전략이므로 saveAll 후 ID가 채워져 있음)
+  private void sendAlerts(Written written) {
+    for (int i = 0; i < written.activities().size(); i++) {
+      suspiciousActivityNotifier.sendAlert(written.activities().get(i), written.alertEmails().get(i));
+    }
+  }
+
+  private Counter eventCounter(String result) {
+    return Counter.builder("auth.audit.events")
+        .description("보안 감사 로그 비동기 저장 처리 결과")
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+}
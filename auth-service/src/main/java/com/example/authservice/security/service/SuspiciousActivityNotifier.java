@@ -0,0 +1,131 @@
+package com.example.authservice.security.service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.authservice.auth.service.EmailService;
+import com.example.authservice.security.entity.SuspiciousActivity;
+import com.example.authservice.security.repository.SuspiciousActivityRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 의심스러운 활동 이메일 알림을 전용 스레드 풀에서 발송하는 컴포넌트임.
+ *
+ * <p>- SMTP 지연이 로그인 응답이나 감사 로그 저장 스레드에 영향을 주지 않도록 별도 스레드에서 발송함 - 발송 대기 큐는 크기가 제한되며, 가득 차면 알림을
+ * 건너뛰고 활동 기록은 notified=false로 남김 - 발송에 성공하면 활동 기록의 notified를 true로 변경함 - 종료 시 대기 중인 알림을 발송할 때까지
+ * 기다림
+ */
+@Slf4j
+@Component
+public class SuspiciousActivityNotifier {
+
+  private final EmailService emailService;
+  private final SuspiciousActivityRepository suspiciousActivityRepository;
+  private final ThreadPoolExecutor executor;
+  private final long shutdownTimeoutMillis;
+
+  private final Counter sentCounter;
+  private final Counter failedCounter;
+  private final Counter rejectedCounter;
+
+  public SuspiciousActivityNotifier(
+      EmailService emailService,
+      SuspiciousActivityRepository suspiciousActivityRepository,
+      MeterRegistry meterRegistry,
+      @Value("${auth.audit.email.threads:2}") int threads,
+      @Value("${auth.audit.email.queue-capacity:1000}") int queueCapacity,
+      @Value("${auth.audit.email.shutdown-timeout-ms:30000}") long shutdownTimeoutMillis) {
+    this.emailService = emailService;
+    this.suspiciousActivityRepository = suspiciousActivityRepository;
+    this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+
+    AtomicInteger threadNumber = new AtomicInteger();
+    this.executor =
+        new ThreadPoolExecutor(
+            threads,
+            threads,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable ->
+                Thread.ofPlatform()
+                    .name("security-alert-mail-" + threadNumber.incrementAndGet())
+                    .unstarted(runnable),
+            new ThreadPoolExecutor.AbortPolicy());
+
+    Gauge.builder("auth.audit.email.queue.size", executor, e -> e.getQueue().size())
+        .description("발송 대기 중인 의심스러운 활동 알림 수")
+        .register(meterRegistry);
+    this.sentCounter = alertCounter(meterRegistry, "sent");
+    this.failedCounter = alertCounter(meterRegistry, "failed");
+    this.rejectedCounter = alertCounter(meterRegistry, "rejected");
+  }
+
+  /** 발송 스레드 종료 - 새 알림을 막고 대기 중인 알림을 발송할 때까지 대기 */
+  @PreDestroy
+  public void stop() throws InterruptedException {
+    executor.shutdown();
+    if (!executor.awaitTermination(shutdownTimeoutMillis, TimeUnit.MILLISECONDS)) {
+      log.warn("의심스러운 활동 알림 발송 종료 대기 시간 초과 - 미발송 알림: {}개", executor.getQueue().size());
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * 알림 발송 예약 (저장된 활동 기록만 전달)
+   *
+   * @param email 수신 이메일
+   */
+  public void sendAlert(SuspiciousActivity activity, String email) {
+    try {
+      executor.execute(() -> send(activity, email));
+    } catch (RejectedExecutionException e) {
+      rejectedCounter.increment();
+      log.warn("의심스러운 활동 알림 발송 대기열 포화로 알림 건너뜀 - 사용자: {}, 활동 ID: {}", email, activity.getId());
+    }
+  }
+
+  private void send(SuspiciousActivity activity, String email) {
+    try {
+      log.info(
+          "의심스러운 활동 이메일 알림 발송 시도 - 사용자: {}, 유형: {}",
+          email,
+          activity.getActivityType().getDescription());
+
+      emailService.sendSuspiciousActivityAlert(
+          email,
+          activity.getActivityType().getDescription(),
+          activity.getDetails(),
+          activity.getIpAddress(),
+          activity.getUserAgent());
+
+      suspiciousActivityRepository.markNotified(activity.getId());
+      sentCounter.increment();
+
+      log.info("의심스러운 활동 이메일 알림 발송 성공 - 사용자: {}", email);
+
+    } catch (Exception e) {
+      failedCounter.increment();
+      log.error("의심스러운 활동 이메일 알림 발송 실패 - 사용자: {}, 오류: {}", email, e.getMessage(), e);
+    }
+  }
+
+  private Counter alertCounter(MeterRegistry meterRegistry, String result) {
+    return Counter.builder("auth.audit.email")
+        .description("의심스러운 활동 이메일 알림 처리 결과")
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+}
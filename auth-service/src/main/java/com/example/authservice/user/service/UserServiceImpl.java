@@ -9,6 +9,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionTemplate;
 
+import com.example.authservice.auth.security.UserPrincipalResolver;
 import com.example.authservice.auth.service.SmsService;
 import com.example.authservice.global.exception.BusinessException;
 import com.example.authservice.user.dto.PasswordChangeRequest;
@@ -30,6 +31,7 @@ public class UserServiceImpl implements UserService {
   private final TransactionTemplate transactionTemplate;
   private final SecuritySettingsService securitySettingsService;
   private final SmsService smsService;
+  private final UserPrincipalResolver userPrincipalResolver;
 
   @Override
   @Transactional(readOnly = true)
@@ -101,6 +103,7 @@ public class UserServiceImpl implements UserService {
           }
 
           User updatedUser = userRepository.save(user);
+          userPrincipalResolver.invalidate(userId);
 
           log.info(
               "🎯 Optimized user self-updated profile successfully: User ID: {}",
@@ -121,6 +124,7 @@ public class UserServiceImpl implements UserService {
             .orElseThrow(() -> new BusinessException("User not found", 404, "USER_NOT_FOUND"));
 
     userRepository.delete(user);
+    userPrincipalResolver.invalidate(userId);
 
     log.info("User deleted successfully: {}", userId);
   }
@@ -152,9 +156,10 @@ public class UserServiceImpl implements UserService {
       throw new BusinessException("User not authenticated", 401, "USER_NOT_AUTHENTICATED");
     }
 
+    // JWT 인증 주체는 claim만 담고 있으므로 전체 사용자 정보는 사용자 캐시에서 조회
     Object principal = authentication.getPrincipal();
-    if (principal instanceof User) {
-      return (User) principal;
+    if (principal instanceof User user) {
+      return userPrincipalResolver.loadUser(user.getId());
     }
 
     String email = authentication.getName();
@@ -200,6 +205,7 @@ public class UserServiceImpl implements UserService {
           // 새 비밀번호 설정
           user.setPassword(passwordEncoder.encode(request.newPassword()));
           User updatedUser = userRepository.save(user);
+          userPrincipalResolver.invalidate(userId);
 
           // 보안 설정의 lastPasswordChange 업데이트
           securitySettingsService.updateLastPasswordChange(updatedUser.getId());
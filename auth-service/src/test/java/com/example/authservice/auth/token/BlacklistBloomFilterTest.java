@@ -0,0 +1,80 @@
+package com.example.authservice.auth.token;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+class BlacklistBloomFilterTest {
+
+  private static final int INSERTIONS = 10_000;
+  private static final int PROBES = 100_000;
+
+  @Test
+  void insertedDigestsAreAlwaysFound() {
+    BlacklistBloomFilter filter = new BlacklistBloomFilter(INSERTIONS, 0.001);
+    List<byte[]> digests = randomDigests(new Random(1), INSERTIONS);
+    digests.forEach(filter::put);
+
+    assertThat(digests).allMatch(filter::mightContain);
+  }
+
+  @Test
+  void falsePositiveRateStaysNearTarget() {
+    for (double target : new double[] {0.01, 0.001}) {
+      BlacklistBloomFilter filter = new BlacklistBloomFilter(INSERTIONS, target);
+      Random random = new Random(42);
+      randomDigests(random, INSERTIONS).forEach(filter::put);
+
+      // 추가하지 않은 다이제스트만 조회하므로 true는 모두 오탐
+      long falsePositives =
+          randomDigests(random, PROBES).stream().filter(filter::mightContain).count();
+
+      assertThat((double) falsePositives / PROBES).isLessThanOrEqualTo(target * 1.5);
+    }
+  }
+
+  @Test
+  void concurrentInsertsAreNotLost() throws Exception {
+    BlacklistBloomFilter filter = new BlacklistBloomFilter(INSERTIONS, 0.001);
+    int threads = 8;
+    List<List<byte[]>> batches = new ArrayList<>();
+    for (int t = 0; t < threads; t++) {
+      batches.add(randomDigests(new Random(t), INSERTIONS / threads));
+    }
+
+    // 같은 워드의 비트를 여러 스레드가 동시에 설정해도 CAS로 모두 남아야 함
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (List<byte[]> batch : batches) {
+        futures.add(executor.submit(() -> batch.forEach(filter::put)));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    for (List<byte[]> batch : batches) {
+      assertThat(batch).allMatch(filter::mightContain);
+    }
+  }
+
+  private List<byte[]> randomDigests(Random random, int count) {
+    List<byte[]> digests = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      byte[] digest = new byte[16];
+      random.nextBytes(digest);
+      digests.add(digest);
+    }
+    return digests;
+  }
+}
@@ -1,4 +1,4 @@
-import { useState, useEffect } from 'react';
+import { useState, useEffect, useRef } from 'react';
 import adminNotificationService from '../services/adminNotificationService';
 
 const AdminNotifications = () => {
@@ -8,12 +8,26 @@ const AdminNotifications = () => {
   const [page, setPage] = useState(0);
   const [totalPages, setTotalPages] = useState(0);
   const [unreadCount, setUnreadCount] = useState(0);
+  const pageRef = useRef(page);
 
   useEffect(() => {
+    pageRef.current = page;
     fetchNotifications();
-    fetchUnreadCount();
   }, [page]);
 
+  // 읽지 않은 알림 수와 새 알림은 스트림으로 받음 (목록/개수 폴링 불필요)
+  useEffect(() => {
+    return adminNotificationService.subscribe({
+      onUnreadCount: setUnreadCount,
+      onNotification: () => {
+        // 첫 페이지를 보고 있을 때만 새 알림이 보이도록 목록 갱신
+        if (pageRef.current === 0) {
+          fetchNotifications();
+        }
+      },
+    });
+  }, []);
+
   const fetchNotifications = async () => {
     try {
       setLoading(true);
@@ -30,20 +44,10 @@ const AdminNotifications = () => {
     }
   };
 
-  const fetchUnreadCount = async () => {
-    try {
-      const count = await adminNotificationService.getUnreadCount();
-      setUnreadCount(count);
-    } catch (err) {
-      console.error('Failed to fetch unread count:', err);
-    }
-  };
-
   const handleMarkAsRead = async (id) => {
     try {
       await adminNotificationService.markAsRead(id);
       fetchNotifications();
-      fetchUnreadCount();
     } catch (err) {
       setError('알림을 읽음 처리하는데 실패했습니다.');
     }
@@ -53,7 +57,6 @@ const AdminNotifications = () => {
     try {
       await adminNotificationService.markAllAsRead();
       fetchNotifications();
-      fetchUnreadCount();
     } catch (err) {
       setError('모든 알림을 읽음 처리하는데 실패했습니다.');
     }
@@ -63,7 +66,6 @@ const AdminNotifications = () => {
     try {
       await adminNotificationService.deleteNotification(id);
       fetchNotifications();
-      fetchUnreadCount();
     } catch (err) {
       setError('알림을 삭제하는데 실패했습니다.');
     }
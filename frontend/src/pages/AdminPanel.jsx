@@ -23,6 +23,13 @@ const AdminPanel = () => {
     loadDashboardData();
   }, []);
 
+  // 읽지 않은 알림 수는 스트림으로 받아 갱신
+  useEffect(() => {
+    return adminNotificationService.subscribe({
+      onUnreadCount: (count) => setStats((prev) => ({ ...prev, notifications: count })),
+    });
+  }, []);
+
   const checkAdminAccess = async () => {
     try {
       if (!authService.isLoggedIn()) {
@@ -81,37 +88,28 @@ const AdminPanel = () => {
       setRecentUsers(usersList);
       setRecentProducts(productsList);
 
-      // 읽지 않은 알림 수 조회
-      let unreadCount = 0;
-      try {
-        unreadCount = await adminNotificationService.getUnreadCount();
-      } catch (error) {
-        console.log('Admin notifications not available yet, using fallback');
-        unreadCount = 0;
-      }
-
       // 전체 상품 수와 활성 상품 수 조회 (통계용)
       const allProductsData = await fetchProducts(true, 0, 1); // 전체 상품 (비활성 포함)
       const activeProductsData = await fetchProducts(false, 0, 1); // 활성 상품만
 
-      setStats({
+      setStats((prev) => ({
+        ...prev,
         totalUsers: totalUsers,
         totalProducts: allProductsData?.totalElements || 0,
-        activeProducts: activeProductsData?.totalElements || 0,
-        notifications: unreadCount
-      });
+        activeProducts: activeProductsData?.totalElements || 0
+      }));
     } catch (error) {
       console.error('Failed to load dashboard data:', error);
 
       // 에러 발생 시 기본값 설정
       setRecentUsers([]);
       setRecentProducts([]);
-      setStats({
+      setStats((prev) => ({
+        ...prev,
         totalUsers: 0,
         totalProducts: 0,
-        activeProducts: 0,
-        notifications: 0
-      });
+        activeProducts: 0
+      }));
     }
   };
 
@@ -1,6 +1,98 @@
 import api from './api';
 
+const STREAM_RECONNECT_DELAY_MS = 3000;
+
 class AdminNotificationService {
+  // 새 알림과 읽지 않은 알림 수 변경을 SSE로 구독
+  // EventSource는 Authorization 헤더를 보낼 수 없으므로 fetch로 스트림을 직접 읽음
+  // 연결이 끊기면 다시 연결하고(연결 직후 현재 읽지 않은 알림 수를 받음), 반환된 함수를 호출하면 구독 종료
+  subscribe({ onNotification, onUnreadCount } = {}) {
+    const controller = new AbortController();
+    let retryTimer = null;
+
+    const dispatch = (block) => {
+      let eventName = 'message';
+      const data = [];
+      for (const line of block.split(/\r?\n/)) {
+        // ':'로 시작하는 줄은 heartbeat 주석
+        if (!line || line.startsWith(':')) continue;
+        const separator = line.indexOf(':');
+        const field = separator >= 0 ? line.slice(0, separator) : line;
+        let value = separator >= 0 ? line.slice(separator + 1) : '';
+        if (value.startsWith(' ')) value = value.slice(1);
+        if (field === 'event') eventName = value;
+        else if (field === 'data') data.push(value);
+      }
+      if (data.length === 0) return;
+
+      let event;
+      try {
+        event = JSON.parse(data.join('\n'));
+      } catch (error) {
+        console.error('Invalid notification event:', error);
+        return;
+      }
+      if (eventName === 'notification' && onNotification) {
+        onNotification(event.notification);
+      }
+      if (onUnreadCount) {
+        onUnreadCount(event.unreadCount);
+      }
+    };
+
+    const connect = async () => {
+      const token = localStorage.getItem('accessToken') || sessionStorage.getItem('accessToken');
+      try {
+        const response = await fetch(`${api.baseURL}/auth/api/v1/admin/notifications/stream`, {
+          headers: {
+            Accept: 'text/event-stream',
+            ...(token ? { Authorization: `Bearer ${token}` } : {}),
+          },
+          signal: controller.signal,
+        });
+
+        // 인증이 만료되었거나 권한이 없으면 다시 연결하지 않음
+        if (response.status === 401 || response.status === 403) {
+          console.error('Notification stream unauthorized:', response.status);
+          return;
+        }
+        if (!response.ok || !response.body) {
+          throw new Error(`HTTP error! status: ${response.status}`);
+        }
+
+        const reader = response.body.getReader();
+        const decoder = new TextDecoder();
+        let buffer = '';
+        for (;;) {
+          const { value, done } = await reader.read();
+          if (done) break;
+          buffer += decoder.decode(value, { stream: true });
+
+          // 이벤트는 빈 줄로 구분됨
+          let match;
+          while ((match = /\r?\n\r?\n/.exec(buffer)) !== null) {
+            dispatch(buffer.slice(0, match.index));
+            buffer = buffer.slice(match.index + match[0].length);
+          }
+        }
+      } catch (error) {
+        if (controller.signal.aborted) return;
+        console.error('Notification stream disconnected:', error);
+      }
+
+      if (!controller.signal.aborted) {
+        retryTimer = setTimeout(connect, STREAM_RECONNECT_DELAY_MS);
+      }
+    };
+
+    connect();
+
+    return () => {
+      controller.abort();
+      clearTimeout(retryTimer);
+    };
+  }
+
   async getNotifications(page = 0, size = 10) {
     try {
       const response = await api.get(`/auth/api/v1/admin/notifications?page=${page}&size=${size}`);
@@ -5,6 +5,7 @@ import org.springframework.cloud.gateway.route.RouteLocator;
 import org.springframework.cloud.gateway.route.builder.RouteLocatorBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
 
 @Configuration
 public class GatewayConfig {
@@ -18,6 +19,20 @@ public class GatewayConfig {
     @Bean
     public RouteLocator customRouteLocator(RouteLocatorBuilder builder) {
         return builder.routes()
+                // 각 서비스의 actuator(메트릭, 환경 정보 등) - 외부에 라우팅하지 않음 (Prometheus는 서비스에 직접 수집)
+                .route("actuator-internal", r -> r.path("/*/actuator", "/*/actuator/**")
+                        .filters(f -> f.setStatus(HttpStatus.NOT_FOUND))
+                        .uri("no://op"))
+                // 서비스 간 내부 API (전화번호 포함) - 외부에 라우팅하지 않음
+                .route("auth-internal", r -> r.path(
+                                "/auth/api/v1/favorites/products/*/alert-recipients",
+                                "/auth/api/v1/favorites/alert-recipients/**")
+                        .filters(f -> f.setStatus(HttpStatus.NOT_FOUND))
+                        .uri("no://op"))
+                // 리뷰 분석 재집계 (전체 리뷰 재분석) - 외부에 라우팅하지 않음
+                .route("product-internal", r -> r.path("/product/api/review/analysis/**")
+                        .filters(f -> f.setStatus(HttpStatus.NOT_FOUND))
+                        .uri("no://op"))
                 .route("auth-service", r -> r.path("/auth/**")
                         .filters(f -> f.stripPrefix(1))
                         .uri("http://localhost:8081"))
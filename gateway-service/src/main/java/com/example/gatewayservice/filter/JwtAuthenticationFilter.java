@@ -1,6 +1,6 @@
 package com.example.gatewayservice.filter;
 
-import com.example.gatewayservice.security.JwtTokenProvider;
+import com.example.gatewayservice.security.VerifiedTokenCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
@@ -11,16 +11,19 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
+import java.util.Optional;
+
 /**
  * JWT 인증 필터
  * Authorization 헤더의 JWT를 검증하고 userId를 추출하여 X-User-Id 헤더에 추가
+ * 최근 검증된 토큰은 {@link VerifiedTokenCache}에서 바로 userId를 가져온다.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter implements GatewayFilter {
 
-    private final JwtTokenProvider jwtTokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
@@ -35,29 +38,19 @@ public class JwtAuthenticationFilter implements GatewayFilter {
 
         String token = authHeader.substring(7); // "Bearer " 제거
 
-        // JWT 검증
-        if (!jwtTokenProvider.validateToken(token)) {
-            log.warn("Invalid JWT token");
+        // JWT 검증 및 userId 추출 (한 번만 파싱)
+        Optional<Long> userId = verifiedTokenCache.authenticate(token);
+        if (userId.isEmpty()) {
             exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
             return exchange.getResponse().setComplete();
         }
 
-        try {
-            // userId 추출
-            Long userId = jwtTokenProvider.getUserIdFromToken(token);
-
-            // X-User-Id 헤더에 userId 추가
-            ServerWebExchange modifiedExchange = exchange.mutate()
-                    .request(r -> r.header("X-User-Id", String.valueOf(userId)))
-                    .build();
-
-            log.debug("JWT authenticated for user: {}", userId);
-            return chain.filter(modifiedExchange);
+        // X-User-Id 헤더에 userId 추가
+        ServerWebExchange modifiedExchange = exchange.mutate()
+                .request(r -> r.header("X-User-Id", String.valueOf(userId.get())))
+                .build();
 
-        } catch (Exception e) {
-            log.error("Error extracting user ID from token: {}", e.getMessage());
-            exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
-            return exchange.getResponse().setComplete();
-        }
+        log.debug("JWT authenticated for user: {}", userId.get());
+        return chain.filter(modifiedExchange);
     }
 }
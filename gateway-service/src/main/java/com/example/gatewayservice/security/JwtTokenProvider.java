@@ -2,6 +2,7 @@ package com.example.gatewayservice.security;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
@@ -17,11 +18,22 @@ import javax.crypto.SecretKey;
 @Component
 public class JwtTokenProvider {
 
-    private final SecretKey key;
+    // 서명 검증용 파서 (불변, 스레드 안전하므로 한 번만 생성)
+    private final JwtParser parser;
 
     public JwtTokenProvider(
             @Value("${jwt.secret:mySecretKeyForJwtTokenGenerationAndValidation}") String secretKey) {
-        this.key = Keys.hmacShaKeyFor(secretKey.getBytes());
+        SecretKey key = Keys.hmacShaKeyFor(secretKey.getBytes());
+        this.parser = Jwts.parser().verifyWith(key).build();
+    }
+
+    /**
+     * 서명 및 만료 검증 후 claims 반환 (한 번만 파싱)
+     * @throws JwtException 서명 불일치, 만료 등 유효하지 않은 토큰
+     * @throws IllegalArgumentException 빈 토큰
+     */
+    public Claims parseClaims(String token) {
+        return parser.parseSignedClaims(token).getPayload();
     }
 
     /**
@@ -29,7 +41,7 @@ public class JwtTokenProvider {
      */
     public boolean validateToken(String token) {
         try {
-            Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
+            parseClaims(token);
             return true;
         } catch (JwtException ex) {
             log.error("Invalid JWT Token: {}", ex.getMessage());
@@ -43,12 +55,13 @@ public class JwtTokenProvider {
      * JWT에서 userId 추출
      */
     public Long getUserIdFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return getUserId(parseClaims(token));
+    }
 
+    /**
+     * 검증된 claims에서 userId 추출
+     */
+    public Long getUserId(Claims claims) {
         String userIdStr = claims.getSubject();
         try {
             return Long.parseLong(userIdStr);
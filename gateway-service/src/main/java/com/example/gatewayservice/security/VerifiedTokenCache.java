@@ -0,0 +1,136 @@
+package com.example.gatewayservice.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검증된 JWT 캐시
+ * <p>
+ * 서명 검증에 성공한 토큰의 다이제스트(SHA-256)와 userId를 토큰 만료 시각까지(최대 보관 시간 이내) 보관하여,
+ * 같은 토큰이 다시 들어오면 파싱과 서명 검증 없이 userId를 돌려준다.
+ * 원본 토큰은 보관하지 않으며, 검증에 실패한 토큰은 캐시하지 않는다.
+ */
+@Slf4j
+@Component
+public class VerifiedTokenCache {
+
+    private record VerifiedToken(Long userId, long expiresAtMillis) {
+    }
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final Cache<String, VerifiedToken> cache;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Timer validTimer;
+    private final Timer invalidTimer;
+
+    public VerifiedTokenCache(
+            JwtTokenProvider jwtTokenProvider,
+            MeterRegistry meterRegistry,
+            @Value("${jwt.cache.max-size:10000}") long maxSize,
+            @Value("${jwt.cache.max-ttl:10m}") Duration maxTtl) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        long maxTtlNanos = maxTtl.toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+                        long untilExpiry = TimeUnit.MILLISECONDS.toNanos(value.expiresAtMillis() - System.currentTimeMillis());
+                        return Math.max(0, Math.min(maxTtlNanos, untilExpiry));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+
+        this.hitCounter = lookupCounter(meterRegistry, "hit");
+        this.missCounter = lookupCounter(meterRegistry, "miss");
+        this.validTimer = verificationTimer(meterRegistry, "valid");
+        this.invalidTimer = verificationTimer(meterRegistry, "invalid");
+        meterRegistry.gauge("gateway.jwt.cache.size", cache, Cache::estimatedSize);
+    }
+
+    /**
+     * 토큰 인증 (캐시에 없으면 한 번만 파싱하여 서명, 만료 검증 후 userId 추출)
+     * @param token Bearer를 제거한 JWT
+     * @return 유효한 토큰이면 userId, 아니면 빈 값
+     */
+    public Optional<Long> authenticate(String token) {
+        String digest = digest(token);
+        VerifiedToken cached = cache.getIfPresent(digest);
+        // 캐시 만료 시각과 토큰 만료 시각 사이의 경계 보정
+        if (cached != null && cached.expiresAtMillis() > System.currentTimeMillis()) {
+            hitCounter.increment();
+            return Optional.of(cached.userId());
+        }
+        missCounter.increment();
+
+        long started = System.nanoTime();
+        try {
+            Claims claims = jwtTokenProvider.parseClaims(token);
+            Long userId = jwtTokenProvider.getUserId(claims);
+            Date expiration = claims.getExpiration();
+            long expiresAtMillis = expiration != null ? expiration.getTime() : Long.MAX_VALUE;
+            cache.put(digest, new VerifiedToken(userId, expiresAtMillis));
+            validTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            return Optional.of(userId);
+        } catch (JwtException | IllegalArgumentException e) {
+            invalidTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            log.warn("Invalid JWT token: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private String digest(String token) {
+        try {
+            // MessageDigest는 스레드 안전하지 않으므로 호출마다 생성 (생성 비용은 서명 검증에 비해 작음)
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("gateway.jwt.cache")
+                .description("검증된 JWT 캐시 조회 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private Timer verificationTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("gateway.jwt.verification")
+                .description("캐시에 없는 JWT의 파싱 및 서명 검증 시간")
+                .tag("result", result)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+}
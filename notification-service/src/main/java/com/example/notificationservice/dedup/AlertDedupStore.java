@@ -0,0 +1,57 @@
+package com.example.notificationservice.dedup;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 가격 알림 중복 발송 방지 및 사용자별 일일 발송 한도 저장소
+ * <ul>
+ *     <li>{@link InMemoryAlertDedupStore} : 프로세스 메모리 (기본값)</li>
+ *     <li>{@link RedisAlertDedupStore} : Redis (price-alert.dedup.store=redis, 여러 인스턴스 간 공유)</li>
+ * </ul>
+ * 같은 (사용자, 상품, 가격 구간) 알림은 보관 기간 동안 한 번만 발송하고,
+ * 사용자별 하루 발송 수가 한도에 도달하면 더 이상 발송하지 않는다.
+ */
+public interface AlertDedupStore {
+
+    enum Decision {
+        ACCEPTED,   // 발송 대상 (기록 및 일일 발송 수 증가 완료)
+        DUPLICATE,  // 같은 가격 하락 알림을 이미 발송함
+        CAPPED      // 오늘 발송 한도 초과
+    }
+
+    /**
+     * 발송 여부 확인 및 기록 (확인과 기록을 한 번에 수행)
+     * @param userId 사용자 아이디
+     * @param productId 상품 아이디
+     * @param priceBucket 가격 구간 (같은 구간의 가격은 같은 하락으로 봄)
+     * @return 발송 여부 판단 결과
+     */
+    Decision tryAcquire(Long userId, Integer productId, int priceBucket);
+
+    /**
+     * 여러 사용자의 발송 여부 확인 및 기록 (같은 상품, 같은 가격 구간)
+     * @return 사용자 순서와 같은 순서의 판단 결과
+     */
+    default List<Decision> tryAcquireAll(List<Long> userIds, Integer productId, int priceBucket) {
+        List<Decision> decisions = new ArrayList<>(userIds.size());
+        for (Long userId : userIds) {
+            decisions.add(tryAcquire(userId, productId, priceBucket));
+        }
+        return decisions;
+    }
+
+    /**
+     * 발송에 최종 실패한 알림의 기록 취소 (다음 가격 변동 때 다시 발송할 수 있도록)
+     */
+    void release(Long userId, Integer productId, int priceBucket);
+
+    /**
+     * 여러 사용자의 기록 취소 (같은 상품, 같은 가격 구간)
+     */
+    default void releaseAll(List<Long> userIds, Integer productId, int priceBucket) {
+        for (Long userId : userIds) {
+            release(userId, productId, priceBucket);
+        }
+    }
+}
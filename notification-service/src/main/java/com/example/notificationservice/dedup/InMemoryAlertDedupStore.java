@@ -0,0 +1,105 @@
+package com.example.notificationservice.dedup;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 프로세스 메모리 기반 중복 발송 방지 저장소 (기본값)
+ * <p>
+ * 발송 기록은 만료 시각과 함께, 일일 발송 수는 사용자별 (날짜, 건수)로 보관하며 모두 해시 조회 한 번으로 확인한다.
+ * 만료된 기록은 일정 횟수의 요청마다 한 번씩 정리한다.
+ */
+@Component
+@ConditionalOnProperty(name = "price-alert.dedup.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryAlertDedupStore implements AlertDedupStore {
+    // 만료 기록 정리 주기 (요청 수)
+    private static final int SWEEP_INTERVAL = 1024;
+
+    private record AlertKey(long userId, int productId, int priceBucket) {
+    }
+
+    private record DailyCount(LocalDate day, int count) {
+    }
+
+    private final ConcurrentHashMap<AlertKey, Long> sentUntil = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, DailyCount> dailyCounts = new ConcurrentHashMap<>();
+    private final AtomicInteger sweepCountdown = new AtomicInteger(SWEEP_INTERVAL);
+
+    private final long ttlMillis;
+    private final int dailyCap;
+    private final ZoneId zone;
+
+    public InMemoryAlertDedupStore(
+        @Value("${price-alert.dedup.ttl:24h}") Duration ttl,
+        @Value("${price-alert.dedup.daily-cap:5}") int dailyCap,
+        @Value("${price-alert.dedup.zone:Asia/Seoul}") ZoneId zone
+    ) {
+        this.ttlMillis = ttl.toMillis();
+        this.dailyCap = dailyCap;
+        this.zone = zone;
+    }
+
+    @Override
+    public Decision tryAcquire(Long userId, Integer productId, int priceBucket) {
+        long now = System.currentTimeMillis();
+        sweepIfDue(now);
+
+        // 1. 같은 알림 발송 기록 확인 및 기록
+        AlertKey key = new AlertKey(userId, productId, priceBucket);
+        long expiresAt = now + ttlMillis;
+        boolean[] duplicate = new boolean[1];
+        sentUntil.compute(key, (k, until) -> {
+            if (until != null && until > now) {
+                duplicate[0] = true;
+                return until;
+            }
+            return expiresAt;
+        });
+        if (duplicate[0]) {
+            return Decision.DUPLICATE;
+        }
+
+        // 2. 일일 발송 한도 확인 및 증가
+        LocalDate today = LocalDate.now(zone);
+        boolean[] capped = new boolean[1];
+        dailyCounts.compute(userId, (k, daily) -> {
+            int count = daily != null && daily.day().equals(today) ? daily.count() : 0;
+            if (count >= dailyCap) {
+                capped[0] = true;
+                return daily;
+            }
+            return new DailyCount(today, count + 1);
+        });
+        if (capped[0]) {
+            // 발송하지 않으므로 기록도 되돌림
+            sentUntil.remove(key, expiresAt);
+            return Decision.CAPPED;
+        }
+        return Decision.ACCEPTED;
+    }
+
+    @Override
+    public void release(Long userId, Integer productId, int priceBucket) {
+        sentUntil.remove(new AlertKey(userId, productId, priceBucket));
+        LocalDate today = LocalDate.now(zone);
+        dailyCounts.computeIfPresent(userId, (k, daily) ->
+            daily.day().equals(today) && daily.count() > 0 ? new DailyCount(today, daily.count() - 1) : daily);
+    }
+
+    private void sweepIfDue(long now) {
+        if (sweepCountdown.decrementAndGet() > 0) {
+            return;
+        }
+        sweepCountdown.set(SWEEP_INTERVAL);
+        sentUntil.values().removeIf(until -> until <= now);
+        LocalDate today = LocalDate.now(zone);
+        dailyCounts.values().removeIf(daily -> !daily.day().equals(today));
+    }
+}
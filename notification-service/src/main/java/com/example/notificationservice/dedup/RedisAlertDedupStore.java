@@ -0,0 +1,150 @@
+package com.example.notificationservice.dedup;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Redis 기반 중복 발송 방지 저장소 (price-alert.dedup.store=redis)
+ * <p>
+ * 발송 기록은 TTL이 걸린 키로, 일일 발송 수는 날짜별 카운터로 보관한다.
+ * 확인과 기록은 Lua 스크립트로 처리하여 여러 인스턴스가 동시에 발송해도 한도를 넘지 않으며,
+ * 한 가격 변동의 수신 대상은 사용자마다 왕복하지 않고 묶음 단위로 스크립트 한 번에 처리한다.
+ */
+@Component
+@ConditionalOnProperty(name = "price-alert.dedup.store", havingValue = "redis")
+public class RedisAlertDedupStore implements AlertDedupStore {
+    private static final String SENT_KEY_PREFIX = "price-alert:sent:";
+    private static final String DAILY_KEY_PREFIX = "price-alert:daily:";
+
+    // 스크립트 한 번에 처리하는 사용자 수 (Redis가 스크립트 실행 중 다른 명령을 처리하지 못하는 시간 제한)
+    private static final int SCRIPT_BATCH_SIZE = 500;
+
+    // KEYS = 발송 기록 키 n개 + 일일 카운터 키 n개, 사용자별 1 = 발송 대상, 0 = 중복, -1 = 일일 한도 초과
+    @SuppressWarnings("unchecked")
+    private static final RedisScript<List<Long>> ACQUIRE_SCRIPT = new DefaultRedisScript<>(
+        "local n = #KEYS / 2\n" +
+        "local result = {}\n" +
+        "for i = 1, n do\n" +
+        "  if redis.call('EXISTS', KEYS[i]) == 1 then\n" +
+        "    result[i] = 0\n" +
+        "  elseif tonumber(redis.call('GET', KEYS[n + i]) or '0') >= tonumber(ARGV[2]) then\n" +
+        "    result[i] = -1\n" +
+        "  else\n" +
+        "    redis.call('SET', KEYS[i], '1', 'PX', ARGV[1])\n" +
+        "    redis.call('INCR', KEYS[n + i])\n" +
+        "    redis.call('EXPIRE', KEYS[n + i], ARGV[3])\n" +
+        "    result[i] = 1\n" +
+        "  end\n" +
+        "end\n" +
+        "return result",
+        (Class<List<Long>>) (Class<?>) List.class
+    );
+
+    // KEYS = 발송 기록 키 n개 + 일일 카운터 키 n개, 기록이 남아 있던 사용자만 일일 발송 수 감소
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+        "local n = #KEYS / 2\n" +
+        "local released = 0\n" +
+        "for i = 1, n do\n" +
+        "  if redis.call('DEL', KEYS[i]) == 1 and tonumber(redis.call('GET', KEYS[n + i]) or '0') > 0 then\n" +
+        "    redis.call('DECR', KEYS[n + i])\n" +
+        "    released = released + 1\n" +
+        "  end\n" +
+        "end\n" +
+        "return released",
+        Long.class
+    );
+
+    private final StringRedisTemplate redisTemplate;
+    private final long ttlMillis;
+    private final int dailyCap;
+    private final ZoneId zone;
+
+    public RedisAlertDedupStore(
+        StringRedisTemplate redisTemplate,
+        @Value("${price-alert.dedup.ttl:24h}") Duration ttl,
+        @Value("${price-alert.dedup.daily-cap:5}") int dailyCap,
+        @Value("${price-alert.dedup.zone:Asia/Seoul}") ZoneId zone
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.ttlMillis = ttl.toMillis();
+        this.dailyCap = dailyCap;
+        this.zone = zone;
+    }
+
+    @Override
+    public Decision tryAcquire(Long userId, Integer productId, int priceBucket) {
+        return tryAcquireAll(List.of(userId), productId, priceBucket).get(0);
+    }
+
+    /**
+     * 여러 사용자의 발송 여부 확인 및 기록 - 사용자마다 왕복하지 않고 묶음마다 스크립트 한 번으로 처리
+     */
+    @Override
+    public List<Decision> tryAcquireAll(List<Long> userIds, Integer productId, int priceBucket) {
+        List<Decision> decisions = new ArrayList<>(userIds.size());
+        for (int from = 0; from < userIds.size(); from += SCRIPT_BATCH_SIZE) {
+            List<Long> batch = userIds.subList(from, Math.min(userIds.size(), from + SCRIPT_BATCH_SIZE));
+            List<Long> results = redisTemplate.execute(
+                ACQUIRE_SCRIPT,
+                keys(batch, productId, priceBucket),
+                String.valueOf(ttlMillis),
+                String.valueOf(dailyCap),
+                // 날짜가 바뀐 뒤 카운터가 정리되도록 이틀 보관
+                String.valueOf(Duration.ofDays(2).toSeconds())
+            );
+            for (int i = 0; i < batch.size(); i++) {
+                Long result = results == null || i >= results.size() ? null : results.get(i);
+                if (result == null || result == 0) {
+                    decisions.add(Decision.DUPLICATE);
+                } else {
+                    decisions.add(result > 0 ? Decision.ACCEPTED : Decision.CAPPED);
+                }
+            }
+        }
+        return decisions;
+    }
+
+    @Override
+    public void release(Long userId, Integer productId, int priceBucket) {
+        releaseAll(List.of(userId), productId, priceBucket);
+    }
+
+    @Override
+    public void releaseAll(List<Long> userIds, Integer productId, int priceBucket) {
+        for (int from = 0; from < userIds.size(); from += SCRIPT_BATCH_SIZE) {
+            List<Long> batch = userIds.subList(from, Math.min(userIds.size(), from + SCRIPT_BATCH_SIZE));
+            redisTemplate.execute(RELEASE_SCRIPT, keys(batch, productId, priceBucket));
+        }
+    }
+
+    // 발송 기록 키 목록 뒤에 같은 순서의 일일 카운터 키 목록
+    private List<String> keys(List<Long> userIds, Integer productId, int priceBucket) {
+        List<String> keys = new ArrayList<>(userIds.size() * 2);
+        for (Long userId : userIds) {
+            keys.add(sentKey(userId, productId, priceBucket));
+        }
+        for (Long userId : userIds) {
+            keys.add(dailyKey(userId));
+        }
+        return keys;
+    }
+
+    private String sentKey(Long userId, Integer productId, int priceBucket) {
+        return SENT_KEY_PREFIX + userId + ":" + productId + ":" + priceBucket;
+    }
+
+    private String dailyKey(Long userId) {
+        return DAILY_KEY_PREFIX + userId + ":" + LocalDate.now(zone).format(DateTimeFormatter.BASIC_ISO_DATE);
+    }
+}
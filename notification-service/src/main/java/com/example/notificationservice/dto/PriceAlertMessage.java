@@ -0,0 +1,28 @@
+package com.example.notificationservice.dto;
+
+public record PriceAlertMessage(
+    Long userId,
+    String phone,
+    String productName,
+    int oldPrice,
+    int newPrice,
+    int priceDropAmount
+) {
+    // SMS 제목 (상품명 제외)
+    public static final String SUBJECT = "[Ju(酒)piter] 가격 하락 알림";
+
+    public int discountPercent() {
+        return oldPrice > 0 ? (int) Math.round(((double) priceDropAmount / oldPrice) * 100) : 0;
+    }
+
+    // 간결하고 보기 좋은 메시지 형식
+    public String text() {
+        return String.format(
+            "%s\n" +
+            "어제: %,d원\n" +
+            "오늘: %,d원\n" +
+            "↓ %,d원 하락 (%d%%)",
+            productName, oldPrice, newPrice, priceDropAmount, discountPercent()
+        );
+    }
+}
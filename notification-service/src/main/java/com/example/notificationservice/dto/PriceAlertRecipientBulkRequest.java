@@ -0,0 +1,12 @@
+package com.example.notificationservice.dto;
+
+import java.util.List;
+
+// 첫 요청은 커서 없이 보내고, 이후에는 이전 응답의 nextProductId, nextFavoriteId를 커서로 사용
+public record PriceAlertRecipientBulkRequest(
+    List<Integer> productIds,
+    Integer afterProductId,
+    Long afterFavoriteId,
+    Integer size,
+    Boolean priceAlertOnly
+) {}
@@ -0,0 +1,12 @@
+package com.example.notificationservice.dto;
+
+// auth-service 가격 알림 수신 대상 일괄 조회 결과의 한 행 (즐겨찾기 한 건)
+public record PriceAlertRecipientDto(
+    Long favoriteId,
+    Integer productId,
+    Long userId,
+    String phone,
+    Boolean priceAlert,
+    Boolean pushEnabled,
+    Integer minDiscountPercent
+) {}
@@ -0,0 +1,10 @@
+package com.example.notificationservice.dto;
+
+import java.util.List;
+
+public record PriceAlertRecipientPageDto(
+    List<PriceAlertRecipientDto> recipients,
+    boolean hasNext,
+    Integer nextProductId,
+    Long nextFavoriteId
+) {}
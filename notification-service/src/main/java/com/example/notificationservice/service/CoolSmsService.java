@@ -0,0 +1,113 @@
+package com.example.notificationservice.service;
+
+import com.example.notificationservice.dto.PriceAlertMessage;
+import lombok.extern.slf4j.Slf4j;
+import net.nurigo.sdk.NurigoApp;
+import net.nurigo.sdk.message.exception.NurigoMessageNotReceivedException;
+import net.nurigo.sdk.message.model.FailedMessage;
+import net.nurigo.sdk.message.model.Message;
+import net.nurigo.sdk.message.request.SingleMessageSendingRequest;
+import net.nurigo.sdk.message.response.MultipleDetailMessageSentResponse;
+import net.nurigo.sdk.message.response.SingleMessageSentResponse;
+import net.nurigo.sdk.message.service.DefaultMessageService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * CoolSMS 발송 구현 (sms 프로필)
+ * 메시지 서비스 클라이언트는 기동 시 한 번만 생성하여 재사용한다.
+ */
+@Slf4j
+@Service
+@Profile("sms")
+public class CoolSmsService implements SmsService {
+
+    private final DefaultMessageService messageService;
+    private final String fromNumber;
+
+    public CoolSmsService(
+        @Value("${coolsms.api.key}") String apiKey,
+        @Value("${coolsms.api.secret}") String apiSecret,
+        @Value("${coolsms.from.number}") String fromNumber
+    ) {
+        this.messageService = NurigoApp.INSTANCE.initialize(apiKey, apiSecret, "https://api.coolsms.co.kr");
+        this.fromNumber = fromNumber;
+    }
+
+    @Override
+    public void sendPriceAlert(PriceAlertMessage message) {
+        try {
+            SingleMessageSentResponse response =
+                messageService.sendOne(new SingleMessageSendingRequest(toMessage(message)));
+
+            log.info("가격 알림 SMS 발송 성공 - 번호: {}, 상품: {}, 하락: {}원({}%), 메시지ID: {}",
+                message.phone(), message.productName(), message.priceDropAmount(), message.discountPercent(),
+                response.getMessageId());
+        } catch (Exception e) {
+            // 재시도 여부는 호출하는 쪽(PriceAlertSender)에서 결정
+            throw new IllegalStateException("가격 알림 SMS 발송 실패 - 상품: " + message.productName() + ", 에러: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public List<PriceAlertMessage> sendPriceAlerts(List<PriceAlertMessage> messages) {
+        if (messages.isEmpty()) {
+            return List.of();
+        }
+
+        List<Message> requestMessages = messages.stream().map(this::toMessage).toList();
+        try {
+            MultipleDetailMessageSentResponse response = messageService.send(requestMessages);
+            List<PriceAlertMessage> failed = failedMessages(messages, response.getFailedMessageList());
+            log.info("가격 알림 SMS 일괄 발송 - 요청: {}건, 실패: {}건", messages.size(), failed.size());
+            return failed;
+        } catch (NurigoMessageNotReceivedException e) {
+            // 일부 또는 전체가 접수되지 않은 경우
+            List<PriceAlertMessage> failed = failedMessages(messages, e.getFailedMessageList());
+            log.warn("가격 알림 SMS 일괄 발송 일부 실패 - 요청: {}건, 실패: {}건, 에러: {}",
+                messages.size(), failed.size(), e.getMessage());
+            return failed;
+        } catch (Exception e) {
+            throw new IllegalStateException("가격 알림 SMS 일괄 발송 실패 - " + messages.size() + "건, 에러: " + e.getMessage(), e);
+        }
+    }
+
+    private Message toMessage(PriceAlertMessage alert) {
+        Message message = new Message();
+        message.setFrom(fromNumber);
+        message.setTo(alert.phone());
+        message.setSubject(PriceAlertMessage.SUBJECT);
+        message.setText(alert.text());
+        return message;
+    }
+
+    /**
+     * 실패 응답의 수신 번호로 원래 알림을 찾음
+     */
+    private List<PriceAlertMessage> failedMessages(List<PriceAlertMessage> messages, List<FailedMessage> failedList) {
+        if (failedList == null || failedList.isEmpty()) {
+            return List.of();
+        }
+        Set<String> failedNumbers = new HashSet<>();
+        for (FailedMessage failedMessage : failedList) {
+            failedNumbers.add(normalize(failedMessage.getTo()));
+        }
+        List<PriceAlertMessage> failed = new ArrayList<>();
+        for (PriceAlertMessage message : messages) {
+            if (failedNumbers.contains(normalize(message.phone()))) {
+                failed.add(message);
+            }
+        }
+        return failed;
+    }
+
+    private String normalize(String phone) {
+        return phone == null ? "" : phone.replaceAll("[^0-9]", "");
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.notificationservice.service;
+
+import com.example.notificationservice.dto.PriceAlertMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 로컬/테스트용 SMS 발송 구현 (sms 프로필이 아닐 때 사용)
+ * 실제로 발송하지 않고 발송 요청을 메모리에 기록한다.
+ */
+@Slf4j
+@Service
+@Profile("!sms")
+public class FakeSmsService implements SmsService {
+
+    private final ConcurrentLinkedQueue<PriceAlertMessage> sentMessages = new ConcurrentLinkedQueue<>();
+
+    @Override
+    public void sendPriceAlert(PriceAlertMessage message) {
+        sentMessages.add(message);
+        log.info("[FAKE] 가격 알림 SMS - 번호: {}, 내용: {}", message.phone(), message.text());
+    }
+
+    @Override
+    public List<PriceAlertMessage> sendPriceAlerts(List<PriceAlertMessage> messages) {
+        sentMessages.addAll(messages);
+        log.info("[FAKE] 가격 알림 SMS 일괄 발송 - {}건", messages.size());
+        return List.of();
+    }
+
+    /**
+     * 지금까지 발송 요청된 알림 목록
+     */
+    public List<PriceAlertMessage> getSentMessages() {
+        return new ArrayList<>(sentMessages);
+    }
+
+    public void clear() {
+        sentMessages.clear();
+    }
+}
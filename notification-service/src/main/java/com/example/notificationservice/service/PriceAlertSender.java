@@ -0,0 +1,201 @@
+package com.example.notificationservice.service;
+
+import com.example.notificationservice.dto.PriceAlertMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 가격 알림 SMS 동시 발송기
+ * <p>
+ * 알림을 묶음 단위로 나누어 고정 크기 스레드 풀과 제한된 대기열로 발송하며,
+ * 대기열이 가득 차면 요청 스레드에서 발송하지 않고 해당 묶음을 거절하여 실패로 돌려주고 메트릭으로 기록한다.
+ * 모든 발송 요청은 초당 요청 수 제한을 지키고, 실패한 알림만 지수 백오프로 재시도한다.
+ */
+@Slf4j
+@Component
+public class PriceAlertSender {
+
+    private final SmsService smsService;
+    private final ThreadPoolExecutor executor;
+    private final long permitIntervalNanos;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long backoffMillis;
+
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+    private final Counter rejectedCounter;
+    private final Counter retriedCounter;
+    private final Timer latencyTimer;
+
+    // 다음 발송 가능 시각 (초당 발송 요청 수 제한)
+    private final AtomicLong nextPermitNanos = new AtomicLong(System.nanoTime());
+
+    public PriceAlertSender(
+        SmsService smsService,
+        MeterRegistry meterRegistry,
+        @Value("${price-alert.sender.threads:8}") int threads,
+        @Value("${price-alert.sender.queue-capacity:1000}") int queueCapacity,
+        @Value("${price-alert.sender.rate-per-second:20}") int ratePerSecond,
+        @Value("${price-alert.sender.batch-size:1000}") int batchSize,
+        @Value("${price-alert.sender.max-attempts:3}") int maxAttempts,
+        @Value("${price-alert.sender.backoff-ms:500}") long backoffMillis
+    ) {
+        this.smsService = smsService;
+        this.permitIntervalNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(1, ratePerSecond);
+        this.batchSize = Math.max(1, batchSize);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffMillis = backoffMillis;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+            threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            r -> Thread.ofPlatform().name("price-alert-sender-" + threadNumber.incrementAndGet()).unstarted(r),
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        this.sentCounter = Counter.builder("price.alert.messages").tag("result", "sent").register(meterRegistry);
+        this.failedCounter = Counter.builder("price.alert.messages").tag("result", "failed").register(meterRegistry);
+        this.rejectedCounter = Counter.builder("price.alert.messages").tag("result", "rejected").register(meterRegistry);
+        this.retriedCounter = Counter.builder("price.alert.retries").register(meterRegistry);
+        this.latencyTimer = Timer.builder("price.alert.latency")
+            .description("가격 변동 수신부터 SMS 발송 완료까지 걸린 시간")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry);
+        meterRegistry.gauge("price.alert.queue.size", executor, e -> e.getQueue().size());
+    }
+
+    /**
+     * 발송 결과
+     * @param sent 발송 성공 건수
+     * @param failedMessages 최종 실패한 알림 목록
+     */
+    public record Result(int sent, List<PriceAlertMessage> failedMessages) {
+        public int failed() {
+            return failedMessages.size();
+        }
+
+        Result plus(Result other) {
+            List<PriceAlertMessage> failed = new ArrayList<>(failedMessages);
+            failed.addAll(other.failedMessages);
+            return new Result(sent + other.sent, failed);
+        }
+    }
+
+    /**
+     * 발송 요청 - 묶음 크기 단위로 나누어 묶음마다 한 번의 발송 요청으로 처리<br>
+     * 대기열이 가득 차서 거절된 묶음은 발송하지 않고 실패 목록에 포함한다.
+     * @param messages 발송할 알림 목록
+     * @param receivedNanos 가격 변동 수신 시각 (System.nanoTime)
+     * @return 발송 결과
+     */
+    public CompletableFuture<Result> send(List<PriceAlertMessage> messages, long receivedNanos) {
+        CompletableFuture<Result> total = CompletableFuture.completedFuture(new Result(0, List.of()));
+        for (int from = 0; from < messages.size(); from += batchSize) {
+            List<PriceAlertMessage> batch = List.copyOf(messages.subList(from, Math.min(messages.size(), from + batchSize)));
+            CompletableFuture<Result> result;
+            try {
+                result = CompletableFuture.supplyAsync(() -> deliver(batch, receivedNanos), executor);
+            } catch (RejectedExecutionException e) {
+                rejectedCounter.increment(batch.size());
+                log.warn("가격 알림 발송 대기열 포화로 발송 거절 - {}건", batch.size());
+                result = CompletableFuture.completedFuture(new Result(0, batch));
+            }
+            total = total.thenCombine(result, Result::plus);
+        }
+        return total;
+    }
+
+    /**
+     * 묶음 발송 - 실패한 알림만 모아 지수 백오프로 재시도
+     */
+    private Result deliver(List<PriceAlertMessage> batch, long receivedNanos) {
+        List<PriceAlertMessage> pending = batch;
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            try {
+                acquirePermit();
+                List<PriceAlertMessage> failed = smsService.sendPriceAlerts(pending);
+                int sent = pending.size() - failed.size();
+                sentCounter.increment(sent);
+                latencyTimer.record(System.nanoTime() - receivedNanos, TimeUnit.NANOSECONDS);
+                pending = failed;
+                if (pending.isEmpty()) {
+                    break;
+                }
+                if (attempt == maxAttempts) {
+                    log.error("SMS 발송 최종 실패 - {}건, 시도: {}회", pending.size(), attempt);
+                    break;
+                }
+                log.warn("SMS 일부 발송 실패, 재시도 예정 - {}건, 시도: {}회", pending.size(), attempt);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                if (attempt == maxAttempts) {
+                    log.error("SMS 발송 최종 실패 - {}건, 시도: {}회, error: {}", pending.size(), attempt, e.getMessage());
+                    break;
+                }
+                log.warn("SMS 발송 실패, 재시도 예정 - {}건, 시도: {}회, error: {}", pending.size(), attempt, e.getMessage());
+            }
+            retriedCounter.increment();
+            if (!backoff(attempt)) {
+                break;
+            }
+        }
+        failedCounter.increment(pending.size());
+        return new Result(batch.size() - pending.size(), pending);
+    }
+
+    /**
+     * 초당 발송 요청 수 제한 - 잠금 없이(CAS) 발송 시각을 일정 간격으로 배정하고, 각 발송 스레드는 자기 차례까지만 대기
+     */
+    private void acquirePermit() throws InterruptedException {
+        long now;
+        long next;
+        long slot;
+        do {
+            now = System.nanoTime();
+            next = nextPermitNanos.get();
+            slot = Math.max(now, next);
+        } while (!nextPermitNanos.compareAndSet(next, slot + permitIntervalNanos));
+        long waitNanos = slot - now;
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    private boolean backoff(int attempt) {
+        try {
+            Thread.sleep(backoffMillis << (attempt - 1));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("가격 알림 발송 종료 대기 시간 초과 - 미발송: {}건", executor.getQueue().size());
+            executor.shutdownNow();
+        }
+    }
+}
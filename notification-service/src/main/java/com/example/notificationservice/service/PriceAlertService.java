@@ -1,17 +1,21 @@
 package com.example.notificationservice.service;
 
-import com.example.notificationservice.dto.FavoriteUserDto;
-import com.example.notificationservice.dto.NotificationSettingsDto;
+import com.example.notificationservice.dedup.AlertDedupStore;
+import com.example.notificationservice.dto.PriceAlertMessage;
+import com.example.notificationservice.dto.PriceAlertRecipientBulkRequest;
+import com.example.notificationservice.dto.PriceAlertRecipientDto;
+import com.example.notificationservice.dto.PriceAlertRecipientPageDto;
 import com.example.notificationservice.dto.PriceChangeRequest;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @Slf4j
@@ -19,13 +23,35 @@ import java.util.List;
 @RequiredArgsConstructor
 public class PriceAlertService {
 
-    private final SmsService smsService;
+    private static final String INTERNAL_API_KEY_HEADER = "X-Internal-Api-Key";
+
+    private final PriceAlertSender priceAlertSender;
+    private final AlertDedupStore alertDedupStore;
+    private final MeterRegistry meterRegistry;
     private final RestTemplate restTemplate = new RestTemplate();
 
-    @Value("${gateway.url:http://localhost:8080}")
-    private String gatewayUrl;
+    // 수신 대상 조회는 전화번호가 포함된 내부 API이므로 게이트웨이를 거치지 않고 내부 API 키와 함께 직접 호출
+    @Value("${auth-service.url:http://localhost:8081}")
+    private String authServiceUrl;
+
+    @Value("${internal.api-key:}")
+    private String internalApiKey;
+
+    // 수신 대상 일괄 조회 한 번에 받을 즐겨찾기 수 (auth-service 최대 1000)
+    @Value("${price-alert.recipients.page-size:500}")
+    private int recipientPageSize;
+
+    // 같은 하락으로 보는 가격 구간 크기 (원)
+    @Value("${price-alert.dedup.price-bucket:100}")
+    private int priceBucketSize;
 
+    /**
+     * 가격 하락 알림 처리
+     * 수신 대상(즐겨찾기 + 알림 설정)을 한 번에 조회하여 메모리에서 거른 뒤 발송기에 넘기고 바로 반환
+     * 같은 가격 하락은 사용자마다 한 번만 발송하고, 사용자별 일일 발송 한도를 넘지 않음
+     */
     public void processPriceChange(PriceChangeRequest request) {
+        long receivedNanos = System.nanoTime();
         int priceDropAmount = request.oldPrice() - request.newPrice();
         int discountPercent = calculateDiscountPercent(request.oldPrice(), request.newPrice());
 
@@ -37,64 +63,109 @@ public class PriceAlertService {
 
         log.info("가격 하락 감지 - productId: {}, 하락금액: {}원 ({}%)", request.productId(), priceDropAmount, discountPercent);
 
-        // 1. auth-service에서 해당 상품을 즐겨찾기한 사용자 목록 조회
-        String favoriteUrl = gatewayUrl + "/auth/api/v1/favorites/products/" + request.productId() + "/users";
-
+        // 1. auth-service에서 가격 알림을 켠 즐겨찾기 사용자와 알림 설정을 커서로 나누어 조회
+        List<PriceAlertRecipientDto> recipients;
         try {
-            ResponseEntity<List<FavoriteUserDto>> favoriteResponse = restTemplate.exchange(
-                favoriteUrl,
-                HttpMethod.GET,
-                null,
-                new ParameterizedTypeReference<List<FavoriteUserDto>>() {}
-            );
-
-            List<FavoriteUserDto> favoriteUsers = favoriteResponse.getBody();
-            if (favoriteUsers == null || favoriteUsers.isEmpty()) {
-                log.info("즐겨찾기한 사용자 없음 - productId: {}", request.productId());
-                return;
+            recipients = fetchRecipients(request.productId());
+        } catch (Exception e) {
+            log.error("가격 알림 수신 대상 조회 실패 - productId: {}, error: {}", request.productId(), e.getMessage(), e);
+            return;
+        }
+
+        if (recipients.isEmpty()) {
+            log.info("가격 알림 수신 대상 없음 - productId: {}", request.productId());
+            return;
+        }
+
+        // 2. 푸시 알림 설정과 최소 할인율 조건을 메모리에서 확인한 뒤, 중복 발송 및 일일 한도를 한 번에 확인
+        int priceBucket = request.newPrice() / Math.max(1, priceBucketSize);
+        List<PriceAlertRecipientDto> candidates = new ArrayList<>();
+        for (PriceAlertRecipientDto recipient : recipients) {
+            if (!Boolean.TRUE.equals(recipient.pushEnabled())) {
+                continue;
+            }
+            int minDiscountPercent = recipient.minDiscountPercent() != null ? recipient.minDiscountPercent() : 5;
+            if (discountPercent < minDiscountPercent) {
+                continue;
             }
+            candidates.add(recipient);
+        }
 
-            log.info("즐겨찾기 사용자 {}명 조회 - productId: {}", favoriteUsers.size(), request.productId());
+        List<AlertDedupStore.Decision> decisions = alertDedupStore.tryAcquireAll(
+            candidates.stream().map(PriceAlertRecipientDto::userId).toList(), request.productId(), priceBucket);
+        List<PriceAlertMessage> messages = new ArrayList<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            PriceAlertRecipientDto recipient = candidates.get(i);
+            AlertDedupStore.Decision decision = decisions.get(i);
+            meterRegistry.counter("price.alert.dedup", "result", decision.name().toLowerCase()).increment();
+            if (decision != AlertDedupStore.Decision.ACCEPTED) {
+                log.debug("가격 알림 제외 - userId: {}, productId: {}, 사유: {}", recipient.userId(), request.productId(), decision);
+                continue;
+            }
+            messages.add(new PriceAlertMessage(
+                recipient.userId(),
+                recipient.phone(),
+                request.productName(),
+                request.oldPrice(),
+                request.newPrice(),
+                priceDropAmount
+            ));
+        }
 
-            // 2. 각 사용자의 알림 설정 확인 및 SMS 발송
-            for (FavoriteUserDto user : favoriteUsers) {
+        log.info("가격 알림 발송 대상 {}명 / 즐겨찾기 {}명 - productId: {}", messages.size(), recipients.size(), request.productId());
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        // 3. 묶음 발송 (속도 제한, 재시도는 발송기에서 처리)
+        priceAlertSender.send(messages, receivedNanos).whenComplete((result, error) -> {
+            // 최종 실패한 알림은 다음 가격 변동 때 다시 발송할 수 있도록 기록 취소 (발송 자체가 실패하면 전체 취소)
+            List<PriceAlertMessage> failed = error != null ? messages : result.failedMessages();
+            if (!failed.isEmpty()) {
                 try {
-                    // 즐겨찾기의 가격 알림 설정 확인
-                    if (!Boolean.TRUE.equals(user.priceAlert())) {
-                        log.info("사용자의 가격 알림 비활성화 - userId: {}", user.userId());
-                        continue;
-                    }
-
-                    // 사용자별 알림 설정 조회
-                    String settingsUrl = gatewayUrl + "/auth/api/notification-settings/" + user.userId();
-                    NotificationSettingsDto settings = restTemplate.getForObject(settingsUrl, NotificationSettingsDto.class);
-
-                    if (settings == null || !Boolean.TRUE.equals(settings.pushNotifications())) {
-                        log.info("푸시 알림 비활성화 - userId: {}", user.userId());
-                        continue;
-                    }
-
-                    // 가격 하락 비율이 최소 설정 비율 이상인 경우에만 발송
-                    Integer minDiscountPercent = settings.minDiscountPercent() != null ? settings.minDiscountPercent() : 5;
-                    if (discountPercent >= minDiscountPercent) {
-                        smsService.sendPriceAlert(
-                            user.phone(),
-                            request.productName(),
-                            request.oldPrice(),
-                            request.newPrice(),
-                            priceDropAmount
-                        );
-                        log.info("SMS 발송 완료 - userId: {}, 가격하락: {}원 ({}%)", user.userId(), priceDropAmount, discountPercent);
-                    } else {
-                        log.info("가격 하락 비율 미달 - userId: {}, 하락비율: {}%, 최소요구: {}%",
-                            user.userId(), discountPercent, minDiscountPercent);
-                    }
+                    alertDedupStore.releaseAll(
+                        failed.stream().map(PriceAlertMessage::userId).toList(), request.productId(), priceBucket);
                 } catch (Exception e) {
-                    log.error("알림 처리 실패 - userId: {}, error: {}", user.userId(), e.getMessage());
+                    log.error("가격 알림 발송 기록 취소 실패 - productId: {}, {}건, error: {}",
+                        request.productId(), failed.size(), e.getMessage(), e);
                 }
             }
-        } catch (Exception e) {
-            log.error("가격 알림 처리 중 오류 발생: {}", e.getMessage(), e);
+            if (error != null) {
+                log.error("가격 알림 발송 실패 - productId: {}, error: {}", request.productId(), error.getMessage(), error);
+                return;
+            }
+            double elapsedSeconds = (System.nanoTime() - receivedNanos) / 1_000_000_000.0;
+            log.info("가격 알림 발송 완료 - productId: {}, 성공: {}건, 실패: {}건, 소요: {}초, 초당: {}건",
+                request.productId(), result.sent(), result.failed(),
+                String.format("%.2f", elapsedSeconds), String.format("%.1f", result.sent() / Math.max(elapsedSeconds, 0.001)));
+        });
+    }
+
+    // 일괄 조회 API를 커서가 끝날 때까지 호출 (전화번호가 없는 사용자는 auth-service에서 제외)
+    private List<PriceAlertRecipientDto> fetchRecipients(Integer productId) {
+        String recipientsUrl = authServiceUrl + "/api/v1/favorites/alert-recipients/bulk";
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(INTERNAL_API_KEY_HEADER, internalApiKey);
+
+        List<PriceAlertRecipientDto> recipients = new ArrayList<>();
+        Integer afterProductId = null;
+        Long afterFavoriteId = null;
+        while (true) {
+            PriceAlertRecipientBulkRequest body = new PriceAlertRecipientBulkRequest(
+                List.of(productId), afterProductId, afterFavoriteId, recipientPageSize, true);
+            PriceAlertRecipientPageDto page = restTemplate.postForObject(
+                recipientsUrl, new HttpEntity<>(body, headers), PriceAlertRecipientPageDto.class);
+            if (page == null) {
+                return recipients;
+            }
+            if (page.recipients() != null) {
+                recipients.addAll(page.recipients());
+            }
+            if (!page.hasNext()) {
+                return recipients;
+            }
+            afterProductId = page.nextProductId();
+            afterFavoriteId = page.nextFavoriteId();
         }
     }
 
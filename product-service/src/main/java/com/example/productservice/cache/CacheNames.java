@@ -0,0 +1,20 @@
+package com.example.productservice.cache;
+
+/**
+ * 조회 API 응답 캐시 이름
+ * <ul>
+ *     <li>MAIN_PRODUCTS : 메인 페이지 상품 (/api/main)</li>
+ *     <li>CATEGORIES : 전체 카테고리 (/api/category)</li>
+ *     <li>PRODUCT_DETAIL : 상품 상세 (/api/{productId}), key = productId</li>
+ *     <li>REVIEW_ANALYSIS : 리뷰 분석표 (/api/review/{productId}), key = productId</li>
+ * </ul>
+ */
+public final class CacheNames {
+    public static final String MAIN_PRODUCTS = "mainProducts";
+    public static final String CATEGORIES = "categories";
+    public static final String PRODUCT_DETAIL = "productDetail";
+    public static final String REVIEW_ANALYSIS = "reviewAnalysis";
+
+    private CacheNames() {
+    }
+}
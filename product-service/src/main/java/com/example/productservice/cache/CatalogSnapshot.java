@@ -0,0 +1,212 @@
+package com.example.productservice.cache;
+
+import com.example.productservice.dto.ProductDto;
+import com.example.productservice.dto.SubCategoryDto;
+import com.example.productservice.dto.TopCategoryDto;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntPredicate;
+
+/**
+ * 추천 필터링용 불변 상품 카탈로그
+ * <p>
+ * 상품은 상품 아이디 오름차순의 내부 번호로 배열에 보관하고,
+ * 하위 카테고리별로 속한 상품 번호 목록(posting)을 따로 둔다.
+ * 생성 후에는 바뀌지 않으므로 여러 요청 스레드가 잠금 없이 읽을 수 있다.
+ */
+public final class CatalogSnapshot {
+    public static final CatalogSnapshot EMPTY = of(List.of());
+
+    private final int[] productIds;
+    private final String[] productNames;
+    private final String[] brands;
+    private final String[] descriptions;
+    private final double[] alcoholPercentages;
+    private final int[] volumes;
+    private final String[] urls;
+    // 상품 번호 -> 하위 카테고리 번호 (없으면 -1)
+    private final int[] productSubCategories;
+
+    private final int[] subCategoryIds;
+    private final String[] subNames;
+    private final int[] topCategoryIds;
+    private final String[] topNames;
+    // 하위 카테고리 번호 -> 상품 번호 목록 (오름차순)
+    private final int[][] productsBySubCategory;
+
+    private CatalogSnapshot(int size, int subCategoryCount) {
+        productIds = new int[size];
+        productNames = new String[size];
+        brands = new String[size];
+        descriptions = new String[size];
+        alcoholPercentages = new double[size];
+        volumes = new int[size];
+        urls = new String[size];
+        productSubCategories = new int[size];
+        subCategoryIds = new int[subCategoryCount];
+        subNames = new String[subCategoryCount];
+        topCategoryIds = new int[subCategoryCount];
+        topNames = new String[subCategoryCount];
+        productsBySubCategory = new int[subCategoryCount][];
+    }
+
+    /**
+     * 조회 결과로 카탈로그 생성
+     * @param rows (productId, productName, brand, description, alcoholPercentage, volume, url,
+     *             subcategoryId, subName, topcategoryId, topName) 목록, 상품 아이디 오름차순
+     */
+    public static CatalogSnapshot of(List<Object[]> rows) {
+        int[] subIds = rows.stream()
+                .filter(row -> row[7] != null)
+                .mapToInt(row -> ((Number) row[7]).intValue())
+                .sorted()
+                .distinct()
+                .toArray();
+
+        CatalogSnapshot snapshot = new CatalogSnapshot(rows.size(), subIds.length);
+        System.arraycopy(subIds, 0, snapshot.subCategoryIds, 0, subIds.length);
+        int[] postingSizes = new int[subIds.length];
+
+        for (int i = 0; i < rows.size(); i++) {
+            Object[] row = rows.get(i);
+            snapshot.productIds[i] = ((Number) row[0]).intValue();
+            snapshot.productNames[i] = (String) row[1];
+            snapshot.brands[i] = (String) row[2];
+            snapshot.descriptions[i] = (String) row[3];
+            snapshot.alcoholPercentages[i] = ((Number) row[4]).doubleValue();
+            snapshot.volumes[i] = ((Number) row[5]).intValue();
+            snapshot.urls[i] = (String) row[6];
+
+            int sub = row[7] == null ? -1 : Arrays.binarySearch(subIds, ((Number) row[7]).intValue());
+            snapshot.productSubCategories[i] = sub;
+            if (sub >= 0) {
+                postingSizes[sub]++;
+                snapshot.subNames[sub] = (String) row[8];
+                snapshot.topCategoryIds[sub] = row[9] == null ? 0 : ((Number) row[9]).intValue();
+                snapshot.topNames[sub] = (String) row[10];
+            }
+        }
+
+        for (int sub = 0; sub < subIds.length; sub++) {
+            snapshot.productsBySubCategory[sub] = new int[postingSizes[sub]];
+            postingSizes[sub] = 0;
+        }
+        for (int i = 0; i < rows.size(); i++) {
+            int sub = snapshot.productSubCategories[i];
+            if (sub >= 0) {
+                snapshot.productsBySubCategory[sub][postingSizes[sub]++] = i;
+            }
+        }
+        return snapshot;
+    }
+
+    public int size() {
+        return productIds.length;
+    }
+
+    /**
+     * 상품 아이디의 내부 번호
+     * @return 내부 번호, 없으면 음수
+     */
+    public int indexOf(int productId) {
+        return Arrays.binarySearch(productIds, productId);
+    }
+
+    public int productId(int index) {
+        return productIds[index];
+    }
+
+    /**
+     * 상품의 하위 카테고리 아이디
+     * @return 하위 카테고리 아이디, 없으면 -1
+     */
+    public int subCategoryIdOf(int index) {
+        int sub = productSubCategories[index];
+        return sub < 0 ? -1 : subCategoryIds[sub];
+    }
+
+    /**
+     * 상품 아이디 순으로 앞에서부터 조건에 맞는 상품 번호 조회
+     * @param limit 최대 개수
+     * @param exclude 제외할 상품 번호 조건
+     * @return 상품 번호 목록
+     */
+    public int[] first(int limit, IntPredicate exclude) {
+        int[] result = new int[Math.min(limit, size())];
+        int count = 0;
+        for (int i = 0; i < size() && count < result.length; i++) {
+            if (!exclude.test(i)) {
+                result[count++] = i;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    /**
+     * 여러 하위 카테고리에 속한 상품을 상품 아이디 순으로 조회 (카테고리별 목록 병합)
+     * @param subCategoryIds 하위 카테고리 아이디 목록
+     * @param limit 최대 개수
+     * @param exclude 제외할 상품 번호 조건
+     * @return 상품 번호 목록
+     */
+    public int[] firstInSubCategories(int[] subCategoryIds, int limit, IntPredicate exclude) {
+        int[][] postings = Arrays.stream(subCategoryIds)
+                .map(id -> Arrays.binarySearch(this.subCategoryIds, id))
+                .filter(sub -> sub >= 0)
+                .distinct()
+                .mapToObj(sub -> productsBySubCategory[sub])
+                .toArray(int[][]::new);
+        int[] cursors = new int[postings.length];
+
+        int[] result = new int[Math.max(0, limit)];
+        int count = 0;
+        while (count < result.length) {
+            // 각 목록의 현재 위치 중 가장 작은 상품 번호 선택 (상품은 하나의 카테고리에만 속함)
+            int best = -1;
+            for (int p = 0; p < postings.length; p++) {
+                if (cursors[p] < postings[p].length
+                        && (best < 0 || postings[p][cursors[p]] < postings[best][cursors[best]])) {
+                    best = p;
+                }
+            }
+            if (best < 0) {
+                break;
+            }
+            int index = postings[best][cursors[best]++];
+            if (!exclude.test(index)) {
+                result[count++] = index;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    /**
+     * 상품 번호를 DTO로 변환 (가격 정보 제외)
+     */
+    public ProductDto toDto(int index) {
+        ProductDto dto = new ProductDto();
+        dto.setProductId(productIds[index]);
+        dto.setProductName(productNames[index]);
+        dto.setBrand(brands[index]);
+        dto.setDescription(descriptions[index]);
+        dto.setAlcoholPercentage(alcoholPercentages[index]);
+        dto.setVolume(volumes[index]);
+        dto.setUrl(urls[index]);
+
+        int sub = productSubCategories[index];
+        if (sub >= 0) {
+            SubCategoryDto subCategoryDto = new SubCategoryDto();
+            subCategoryDto.setSubCategoryId(subCategoryIds[sub]);
+            subCategoryDto.setSubName(subNames[sub]);
+            if (topNames[sub] != null) {
+                TopCategoryDto topCategoryDto = new TopCategoryDto();
+                topCategoryDto.setTopCategoryId(topCategoryIds[sub]);
+                topCategoryDto.setTopName(topNames[sub]);
+                subCategoryDto.setTopCategoryDto(topCategoryDto);
+            }
+            dto.setSubCategoryDto(subCategoryDto);
+        }
+        return dto;
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.productservice.cache;
+
+import com.example.productservice.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 추천 필터링용 상품 카탈로그 관리 컴포넌트
+ * <p>
+ * 상품/카테고리 변경 이벤트가 오면 변경 표시만 해두고, 주기적으로 한 번에 다시 만들어 통째로 교체한다.
+ * 대량 등록처럼 이벤트가 몰려도 재생성은 주기당 한 번만 일어난다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CatalogSnapshotService {
+    private final ProductRepository productRepository;
+
+    private final AtomicBoolean dirty = new AtomicBoolean(false);
+    private volatile CatalogSnapshot snapshot;
+
+    /**
+     * 현재 카탈로그 조회 (최초 호출 시 생성)
+     */
+    public CatalogSnapshot current() {
+        CatalogSnapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    snapshot = load();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        // 가격/리뷰/활성화 변경은 카탈로그 내용과 무관
+        if (event.has(ProductChangedEvent.Change.PRODUCT)
+                || event.has(ProductChangedEvent.Change.CATEGORY)
+                || event.has(ProductChangedEvent.Change.DELETED)) {
+            dirty.set(true);
+        }
+    }
+
+    /**
+     * 변경 표시가 있으면 카탈로그 재생성 후 교체
+     */
+    @Scheduled(fixedDelayString = "${product.catalog.refresh-ms:5000}")
+    public void refreshIfDirty() {
+        if (snapshot == null || !dirty.getAndSet(false)) {
+            return;
+        }
+        try {
+            CatalogSnapshot rebuilt = load();
+            synchronized (this) {
+                snapshot = rebuilt;
+            }
+        } catch (Exception e) {
+            // 다음 주기에 다시 시도
+            dirty.set(true);
+            log.error("상품 카탈로그 재생성 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private CatalogSnapshot load() {
+        long started = System.currentTimeMillis();
+        CatalogSnapshot loaded = CatalogSnapshot.of(productRepository.findCatalogRows());
+        log.info("상품 카탈로그 생성 - 상품: {}개, 소요: {}ms", loaded.size(), System.currentTimeMillis() - started);
+        return loaded;
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.productservice.cache;
+
+import com.example.productservice.dto.ProductDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상품 변경 이벤트를 받아 관련 캐시 항목만 무효화하는 컴포넌트<br>
+ * 트랜잭션 커밋 후에 실행되어 롤백된 변경으로 캐시가 지워지거나, 커밋 전 데이터가 다시 캐시되는 것을 막는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductCacheInvalidator {
+    private final CacheManager cacheManager;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        Integer productId = event.productId();
+
+        // 상품 상세는 어떤 변경이든 무효화
+        if (productId != null) {
+            evict(CacheNames.PRODUCT_DETAIL, productId);
+        }
+
+        // 리뷰 분석표는 리뷰가 바뀌거나 상품이 삭제된 경우만
+        if (productId != null && (event.has(ProductChangedEvent.Change.REVIEW) || event.has(ProductChangedEvent.Change.DELETED))) {
+            evict(CacheNames.REVIEW_ANALYSIS, productId);
+        }
+
+        // 메인 상품 순위는 리뷰/활성화/삭제로 바뀌고, 가격/기본 정보는 메인에 노출된 상품일 때만 영향
+        if (event.has(ProductChangedEvent.Change.REVIEW)
+                || event.has(ProductChangedEvent.Change.AVAILABILITY)
+                || event.has(ProductChangedEvent.Change.DELETED)
+                || isOnMainPage(productId)) {
+            clear(CacheNames.MAIN_PRODUCTS);
+        }
+
+        if (event.has(ProductChangedEvent.Change.CATEGORY)) {
+            clear(CacheNames.CATEGORIES);
+        }
+
+        log.debug("캐시 무효화 - productId: {}, 변경: {}", productId, event.changes());
+    }
+
+    /**
+     * 캐시된 메인 페이지 목록에 해당 상품이 있는지 확인
+     */
+    @SuppressWarnings("unchecked")
+    private boolean isOnMainPage(Integer productId) {
+        if (productId == null) {
+            return true;
+        }
+        Cache cache = cacheManager.getCache(CacheNames.MAIN_PRODUCTS);
+        if (cache == null) {
+            return false;
+        }
+        // 메인 목록은 인자 없는 메서드이므로 키는 SimpleKey.EMPTY 하나뿐
+        Cache.ValueWrapper wrapper = cache.get(SimpleKey.EMPTY);
+        if (wrapper == null || !(wrapper.get() instanceof List<?> mainProducts)) {
+            return false;
+        }
+        for (Object item : mainProducts) {
+            Object product = ((Map<String, Object>) item).get("product");
+            if (product instanceof ProductDto dto && dto.getProductId() == productId) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void evict(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(key);
+        }
+    }
+
+    private void clear(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.productservice.cache;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 상품 데이터 변경 이벤트<br>
+ * 변경이 커밋된 뒤 {@link ProductCacheInvalidator}가 관련 캐시만 무효화한다.
+ * @param productId 변경된 상품 아이디
+ * @param changes 변경 종류
+ */
+public record ProductChangedEvent(Integer productId, Set<Change> changes) {
+
+    public enum Change {
+        PRODUCT,        // 상품 기본 정보 (이름, 이미지, 설명 등)
+        PRICE,          // 상점별 가격
+        REVIEW,         // 리뷰 추가
+        AVAILABILITY,   // 활성화 여부
+        CATEGORY,       // 카테고리 추가
+        DELETED         // 상품 삭제
+    }
+
+    public static ProductChangedEvent of(Integer productId, Change first, Change... rest) {
+        return new ProductChangedEvent(productId, EnumSet.of(first, rest));
+    }
+
+    public boolean has(Change change) {
+        return changes.contains(change);
+    }
+}
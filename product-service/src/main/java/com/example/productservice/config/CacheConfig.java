@@ -0,0 +1,65 @@
+package com.example.productservice.config;
+
+import com.example.productservice.cache.CacheNames;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 조회 API 응답 캐시 설정
+ * <p>
+ * 데이터는 크롤링(하루 3회)이나 관리자 수정 시에만 바뀌므로 크기/TTL 제한이 있는 로컬 캐시에 보관하고,
+ * 변경 시에는 {@link com.example.productservice.cache.ProductCacheInvalidator}가 해당 항목만 무효화한다.
+ * TTL은 이벤트 누락에 대비한 상한이다.
+ * 캐시별 적중률은 /actuator/metrics/cache.gets (tag: name, result) 로 확인할 수 있다.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    @Value("${product.cache.main.ttl:10m}")
+    private Duration mainTtl;
+
+    @Value("${product.cache.category.ttl:1h}")
+    private Duration categoryTtl;
+
+    @Value("${product.cache.detail.ttl:30m}")
+    private Duration detailTtl;
+
+    @Value("${product.cache.detail.max-size:5000}")
+    private long detailMaxSize;
+
+    @Value("${product.cache.review.ttl:1h}")
+    private Duration reviewTtl;
+
+    @Value("${product.cache.review.max-size:5000}")
+    private long reviewMaxSize;
+
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        // 등록되지 않은 캐시 이름은 사용하지 않음
+        cacheManager.setCacheNames(List.of());
+        cacheManager.registerCustomCache(CacheNames.MAIN_PRODUCTS, build(1, mainTtl));
+        cacheManager.registerCustomCache(CacheNames.CATEGORIES, build(1, categoryTtl));
+        cacheManager.registerCustomCache(CacheNames.PRODUCT_DETAIL, build(detailMaxSize, detailTtl));
+        cacheManager.registerCustomCache(CacheNames.REVIEW_ANALYSIS, build(reviewMaxSize, reviewTtl));
+        return cacheManager;
+    }
+
+    private Cache<Object, Object> build(long maxSize, Duration ttl) {
+        return Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+}
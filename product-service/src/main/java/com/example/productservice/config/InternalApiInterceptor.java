@@ -0,0 +1,42 @@
+package com.example.productservice.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * 운영/내부 API 접근 확인 인터셉터
+ * <p>
+ * X-Internal-Api-Key 헤더가 설정된 내부 API 키와 같을 때만 허용하고, 키가 설정되지 않았으면 모두 거부한다.
+ * 게이트웨이는 내부 API 경로를 외부에 라우팅하지 않는다.
+ */
+@Slf4j
+@Component
+public class InternalApiInterceptor implements HandlerInterceptor {
+    public static final String HEADER = "X-Internal-Api-Key";
+
+    private final byte[] apiKey;
+
+    public InternalApiInterceptor(@Value("${internal.api-key:}") String apiKey) {
+        this.apiKey = apiKey.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+        String header = request.getHeader(HEADER);
+        // 키 비교 시간으로 키를 추측할 수 없도록 고정 시간 비교
+        if (apiKey.length > 0 && header != null
+                && MessageDigest.isEqual(apiKey, header.getBytes(StandardCharsets.UTF_8))) {
+            return true;
+        }
+        log.warn("내부 API 접근 거부 - {} {}", request.getMethod(), request.getRequestURI());
+        response.sendError(HttpServletResponse.SC_FORBIDDEN);
+        return false;
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.productservice.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+    private final InternalApiInterceptor internalApiInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // 리뷰 분석 재집계 (전체 리뷰 재분석은 CPU를 오래 점유하므로 운영자만 실행)
+        registry.addInterceptor(internalApiInterceptor)
+                .addPathPatterns("/api/review/analysis/**");
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.productservice.controller;
+
+import com.example.productservice.dto.PriceSeriesDto;
+import com.example.productservice.dto.PriceSeriesResolution;
+import com.example.productservice.service.PriceHistoryService;
+import com.example.productservice.util.PriceSeriesCodec;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 가격 추이 차트 API
+ * <p>
+ * 기본 응답은 JSON이며, Accept 헤더에 {@value PriceSeriesCodec#MEDIA_TYPE} 를 보내면 바이너리로 응답한다.
+ * 가격 로그가 바뀌지 않았으면 If-None-Match 로 304를 반환하여 시계열을 다시 계산하지 않는다.
+ */
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+public class PriceHistoryController {
+    private final PriceHistoryService priceHistoryService;
+
+    /**
+     * 특정 상품의 가격 추이 조회
+     * @param productId 상품 아이디
+     * @param days 조회 기간(일, 기본값: 30, 최대 365 / HOUR 해상도는 최대 31)
+     * @param resolution 해상도 (HOUR, DAY, WEEK, 기본값: DAY)
+     * @return 상점별/최저가 가격 시계열
+     */
+    @GetMapping("/price-history/{productId}")
+    public ResponseEntity<?> getPriceHistory(
+            @PathVariable("productId") Integer productId,
+            @RequestParam(required = false, defaultValue = "30") Integer days,
+            @RequestParam(required = false, defaultValue = "DAY") String resolution,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            WebRequest webRequest) {
+        return priceHistory(List.of(productId), days, resolution, accept, webRequest, true);
+    }
+
+    /**
+     * 여러 상품의 가격 추이 일괄 조회
+     * @param productIds 쉼표로 구분된 상품 아이디 목록 (예: "1,3,5", 최대 500개)
+     * @param days 조회 기간(일, 기본값: 30, 최대 365 / HOUR 해상도는 최대 31)
+     * @param resolution 해상도 (HOUR, DAY, WEEK, 기본값: DAY)
+     * @return 상품별 가격 시계열 목록
+     */
+    @GetMapping("/price-history")
+    public ResponseEntity<?> getPriceHistories(
+            @RequestParam String productIds,
+            @RequestParam(required = false, defaultValue = "30") Integer days,
+            @RequestParam(required = false, defaultValue = "DAY") String resolution,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            WebRequest webRequest) {
+        List<Integer> idList;
+        try {
+            idList = Arrays.stream(productIds.split(","))
+                    .map(String::trim)
+                    .filter(s -> !s.isEmpty())
+                    .map(Integer::parseInt)
+                    .distinct()
+                    .toList();
+        } catch (NumberFormatException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", "잘못된 상품 아이디 목록입니다."));
+        }
+        if (idList.isEmpty() || idList.size() > PriceHistoryService.MAX_PRODUCTS) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "error", "상품 아이디는 1개 이상 " + PriceHistoryService.MAX_PRODUCTS + "개 이하로 요청해야 합니다."));
+        }
+        return priceHistory(idList, days, resolution, accept, webRequest, false);
+    }
+
+    private ResponseEntity<?> priceHistory(List<Integer> productIds, Integer days, String resolution,
+                                           String accept, WebRequest webRequest, boolean single) {
+        PriceSeriesResolution seriesResolution;
+        try {
+            seriesResolution = PriceSeriesResolution.valueOf(resolution.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", "지원하지 않는 해상도입니다: " + resolution));
+        }
+
+        boolean binary = accept != null && accept.contains(PriceSeriesCodec.MEDIA_TYPE);
+        PriceHistoryService.Window window = priceHistoryService.window(days, seriesResolution);
+
+        // 가격 로그 변경이 없으면 시계열 계산 없이 304 응답
+        String etag = priceHistoryService.versionTag(productIds, window) + (binary ? "-bin" : "");
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        List<PriceSeriesDto> seriesList = priceHistoryService.getPriceSeries(productIds, window);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.maxAge(5, TimeUnit.MINUTES).mustRevalidate());
+
+        if (binary) {
+            return response
+                    .contentType(MediaType.parseMediaType(PriceSeriesCodec.MEDIA_TYPE))
+                    .body(PriceSeriesCodec.encode(seriesList));
+        }
+        return response.body(single ? seriesList.getFirst() : seriesList);
+    }
+}
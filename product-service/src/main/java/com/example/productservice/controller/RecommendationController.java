@@ -5,7 +5,10 @@ import com.example.productservice.domain.UserProductScore;
 import com.example.productservice.dto.ProductDto;
 import com.example.productservice.dto.RecommendationResponseDTO;
 import com.example.productservice.service.RecommendationService;
+import com.example.productservice.service.UserActivityIngestionService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -22,6 +25,7 @@ import java.util.Map;
 public class RecommendationController {
 
     private final RecommendationService recommendationService;
+    private final UserActivityIngestionService userActivityIngestionService;
 
     /**
      * 기본 추천 조회 (비로그인 사용자용 - 인기 상품 또는 설문 기반 추천)
@@ -81,6 +85,7 @@ public class RecommendationController {
      * 사용자 활동 기록 (상품 클릭, 즐겨찾기 등)
      * POST /api/recommendations/activities
      * Gateway에서 JWT를 검증하고 X-User-Id 헤더로 userId 전달
+     * 접수 즉시 202로 응답하고 저장은 비동기로 처리, 대기열이 가득 차면 503 응답
      */
     @PostMapping("/activities")
     public ResponseEntity<Map<String, String>> recordActivity(
@@ -99,10 +104,14 @@ public class RecommendationController {
 
             UserActivity.ActivityType activityType = UserActivity.ActivityType.valueOf(activityTypeStr);
 
-            recommendationService.recordUserActivity(userId, productId, activityType);
+            if (!userActivityIngestionService.submit(userId, productId, activityType)) {
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .header(HttpHeaders.RETRY_AFTER, "1")
+                        .body(Map.of("error", "Activity queue is full, retry later"));
+            }
 
-            return ResponseEntity.ok(Map.of(
-                    "message", "Activity recorded successfully",
+            return ResponseEntity.accepted().body(Map.of(
+                    "message", "Activity accepted",
                     "userId", userId.toString(),
                     "productId", productId.toString(),
                     "activityType", activityTypeStr
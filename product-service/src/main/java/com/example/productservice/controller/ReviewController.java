@@ -1,10 +1,14 @@
 package com.example.productservice.controller;
 
 import com.example.productservice.service.ReviewAnalyzeSerivce;
+import com.example.productservice.service.ReviewBatchAnalysisService;
+import com.example.productservice.service.ReviewKeywordScoreService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -16,6 +20,8 @@ import java.util.Objects;
 @RequiredArgsConstructor
 public class ReviewController {
     private final ReviewAnalyzeSerivce reviewAnalyzeSerivce;
+    private final ReviewKeywordScoreService reviewKeywordScoreService;
+    private final ReviewBatchAnalysisService reviewBatchAnalysisService;
 
     /**
      * 특정 상품의 리뷰 내용을 분석 요청
@@ -28,4 +34,43 @@ public class ReviewController {
         // 리뷰가 없거나 null인 경우에도 빈 결과를 반환
         return ResponseEntity.ok(Objects.requireNonNullElseGet(result, Map::of));
     }
+
+    /**
+     * 전체 상품의 리뷰 분석 병렬 재집계 시작 (내부 API 키 필요, 키워드 사전 변경 시)<br>
+     * 백그라운드로 실행되며 진행 상황은 /review/analysis/rebuild/status 로 조회한다.
+     * @return 202 시작됨, 409 이미 실행 중
+     */
+    @PostMapping("/review/analysis/rebuild")
+    public ResponseEntity<?> rebuildReviewAnalysis() {
+        if (!reviewBatchAnalysisService.start()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of(
+                    "error", "리뷰 분석 재집계가 이미 실행 중입니다.",
+                    "status", reviewBatchAnalysisService.status()
+            ));
+        }
+        return ResponseEntity.accepted().body(Map.of(
+                "message", "리뷰 분석 재집계 시작",
+                "status", reviewBatchAnalysisService.status()
+        ));
+    }
+
+    /**
+     * 전체 상품 리뷰 분석 재집계 진행 상황 조회 (내부 API 키 필요)
+     * @return 실행 여부, 처리 상품/리뷰 수, 초당 처리 리뷰 수
+     */
+    @GetMapping("/review/analysis/rebuild/status")
+    public ResponseEntity<?> rebuildReviewAnalysisStatus() {
+        return ResponseEntity.ok(reviewBatchAnalysisService.status());
+    }
+
+    /**
+     * 특정 상품의 리뷰 분석 재집계 (내부 API 키 필요)
+     * @param productId 상품 아이디
+     * @return 새 분석표
+     */
+    @PostMapping("/review/analysis/rebuild/{productId}")
+    public ResponseEntity<?> rebuildReviewAnalysis(@PathVariable("productId") int productId) {
+        Map<String, Map<String, Integer>> result = reviewKeywordScoreService.rebuildProduct(productId);
+        return ResponseEntity.ok(Objects.requireNonNullElseGet(result, Map::of));
+    }
 }
@@ -0,0 +1,44 @@
+package com.example.productservice.domain;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 가격 알림 발송 대기(outbox) 엔티티 클래스
+ * 가격 변경과 같은 트랜잭션에서 저장되며, 상품당 한 행만 유지한다.
+ * <ul>
+ *     <li>outboxId : 고유 아이디</li>
+ *     <li>productId : 상품 아이디 (유니크, 같은 상품의 연속 변경은 한 행으로 합쳐짐)</li>
+ *     <li>availableAt : 발송 가능 시각 (지연 발송 및 재시도 대기)</li>
+ *     <li>attempts : 발송 실패 횟수</li>
+ *     <li>lastError : 마지막 실패 사유</li>
+ *     <li>createdAt : 최초 등록 시간 (발송 지연 측정용)</li>
+ * </ul>
+ */
+@Data
+@Entity
+@Table(name = "price_alert_outbox",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"product_id"}),
+       indexes = @Index(name = "idx_price_alert_outbox_available_at", columnList = "available_at"))
+public class PriceAlertOutbox {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long outboxId;
+
+    @Column(name = "product_id", nullable = false)
+    private Integer productId;
+
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
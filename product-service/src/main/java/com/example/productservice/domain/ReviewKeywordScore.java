@@ -0,0 +1,36 @@
+package com.example.productservice.domain;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+/**
+ * 상품별 리뷰 키워드 집계 엔티티 클래스
+ * <ul>
+ *     <li>id : 고유 아이디</li>
+ *     <li>productId : 상품 아이디</li>
+ *     <li>category : 분석 항목 (맛, 바디감, 가성비, 만족도)</li>
+ *     <li>label : 대표 키워드 (예: 단맛이 나요)</li>
+ *     <li>score : 해당 키워드가 발견된 리뷰 수</li>
+ * </ul>
+ */
+@Data
+@Entity
+@Table(name = "review_keyword_score",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"product_id", "category", "label"}))
+public class ReviewKeywordScore {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "product_id")
+    private Integer productId;
+
+    @Column(name = "category")
+    private String category;
+
+    @Column(name = "label")
+    private String label;
+
+    @Column(nullable = false)
+    private int score;
+}
@@ -33,7 +33,10 @@ public class UserActivity {
 
     @PrePersist
     protected void onCreate() {
-        createdAt = LocalDateTime.now();
+        // 비동기 저장 시에는 요청 시점의 시간이 미리 설정되어 있음
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
     }
 
     public enum ActivityType {
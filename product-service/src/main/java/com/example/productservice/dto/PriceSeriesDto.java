@@ -0,0 +1,44 @@
+package com.example.productservice.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 가격 추이 차트 DTO 클래스 (열 단위 압축 형식)
+ * <ul>
+ *     <li>productId : 상품 아이디</li>
+ *     <li>from : 첫 버킷의 시작 시간 (epoch 초)</li>
+ *     <li>step : 버킷 간격 (초)</li>
+ *     <li>points : 전체 버킷 수</li>
+ *     <li>shops : 상점별 가격 시계열</li>
+ *     <li>min : 전체 상점 중 최저가 시계열</li>
+ * </ul>
+ * 버킷 i의 시작 시간은 from + i * step 이다.
+ */
+@Data
+public class PriceSeriesDto {
+    private int productId;
+    private long from;
+    private int step;
+    private int points;
+    private List<Series> shops;
+    private Series min;
+
+    /**
+     * 하나의 가격 시계열 (배송비 포함 가격)
+     * <ul>
+     *     <li>shopId : 상점 아이디 (최저가 시계열은 0)</li>
+     *     <li>shopName : 상점명</li>
+     *     <li>offset : 첫 값이 있는 버킷 번호 (이전 버킷은 데이터 없음)</li>
+     *     <li>deltas : 첫 값은 가격 그대로, 이후는 직전 버킷과의 차이</li>
+     * </ul>
+     */
+    @Data
+    public static class Series {
+        private int shopId;
+        private String shopName;
+        private int offset;
+        private int[] deltas;
+    }
+}
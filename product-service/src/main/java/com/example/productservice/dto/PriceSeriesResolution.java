@@ -0,0 +1,42 @@
+package com.example.productservice.dto;
+
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 가격 추이 차트의 버킷 해상도
+ * <ul>
+ *     <li>HOUR : 1시간 단위 (최대 31일)</li>
+ *     <li>DAY : 1일 단위 (최대 365일)</li>
+ *     <li>WEEK : 7일 단위 (최대 365일)</li>
+ * </ul>
+ */
+public enum PriceSeriesResolution {
+    HOUR(3600, ChronoUnit.HOURS, 31),
+    DAY(86400, ChronoUnit.DAYS, 365),
+    WEEK(604800, ChronoUnit.DAYS, 365);
+
+    // 버킷 하나의 길이(초)
+    private final int stepSeconds;
+    // 구간 시작 시간을 맞출 단위
+    private final ChronoUnit truncateUnit;
+    // 조회할 수 있는 최대 기간(일)
+    private final int maxDays;
+
+    PriceSeriesResolution(int stepSeconds, ChronoUnit truncateUnit, int maxDays) {
+        this.stepSeconds = stepSeconds;
+        this.truncateUnit = truncateUnit;
+        this.maxDays = maxDays;
+    }
+
+    public int getStepSeconds() {
+        return stepSeconds;
+    }
+
+    public ChronoUnit getTruncateUnit() {
+        return truncateUnit;
+    }
+
+    public int getMaxDays() {
+        return maxDays;
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.productservice.repository;
+
+import com.example.productservice.domain.PriceAlertOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface PriceAlertOutboxRepository extends JpaRepository<PriceAlertOutbox, Long> {
+
+    /**
+     * 가격 알림 등록 (trailing-edge debounce)<br>
+     * product_id 유니크 제약을 이용한 단일 upsert로, 이미 대기 중인 상품이면 발송 시각을 마지막 변경 기준으로 미루고
+     * 실패 횟수를 초기화한다. 변경이 계속 이어져도 최초 등록 후 maxWaitMillis 안에는 발송된다.
+     * 최초 등록 시간은 유지되어 발송 지연 측정에 쓰인다.
+     * @param productId 상품 아이디
+     * @param availableAt 발송 가능 시각 (변경 시각 + 대기 시간)
+     * @param now 등록 시각
+     * @param maxWaitMillis 최초 등록부터 발송까지 최대 대기 시간
+     * @return 1 = 새로 등록, 2 = 대기 중인 알림에 합쳐짐
+     */
+    @Modifying
+    @Query(value = "INSERT INTO price_alert_outbox (product_id, available_at, attempts, created_at) " +
+            "VALUES (:productId, :availableAt, 0, :now) " +
+            "ON DUPLICATE KEY UPDATE available_at = LEAST(GREATEST(available_at, :availableAt), " +
+            "GREATEST(TIMESTAMPADD(MICROSECOND, :maxWaitMillis * 1000, created_at), :now)), " +
+            "attempts = 0, last_error = NULL", nativeQuery = true)
+    int enqueue(@Param("productId") Integer productId,
+                @Param("availableAt") LocalDateTime availableAt,
+                @Param("now") LocalDateTime now,
+                @Param("maxWaitMillis") long maxWaitMillis);
+
+    /**
+     * 발송 시각이 된 알림 조회 (최대 시도 횟수를 넘긴 알림 제외)
+     */
+    @Query("SELECT o FROM PriceAlertOutbox o WHERE o.availableAt <= :now AND o.attempts < :maxAttempts " +
+            "ORDER BY o.availableAt")
+    List<PriceAlertOutbox> findDue(@Param("now") LocalDateTime now,
+                                   @Param("maxAttempts") int maxAttempts,
+                                   Pageable pageable);
+
+    /**
+     * 발송 완료 처리 - 조회 이후 같은 상품이 다시 등록되었으면(발송 시각 변경) 지우지 않음
+     * @return 삭제된 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM PriceAlertOutbox o WHERE o.outboxId = :outboxId AND o.availableAt = :availableAt")
+    int deleteDispatched(@Param("outboxId") Long outboxId,
+                         @Param("availableAt") LocalDateTime availableAt);
+
+    /**
+     * 발송 실패 처리 - 다음 시도 시각과 실패 사유 기록 (조회 이후 다시 등록된 경우 제외)
+     * @return 변경된 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE PriceAlertOutbox o SET o.attempts = o.attempts + 1, o.availableAt = :nextAt, " +
+            "o.lastError = :error WHERE o.outboxId = :outboxId AND o.availableAt = :availableAt")
+    int markFailed(@Param("outboxId") Long outboxId,
+                   @Param("availableAt") LocalDateTime availableAt,
+                   @Param("nextAt") LocalDateTime nextAt,
+                   @Param("error") String error);
+
+    /**
+     * 발송 대기 중인 알림 수 (최대 시도 횟수를 넘긴 알림 제외)
+     */
+    long countByAttemptsLessThan(int maxAttempts);
+
+    /**
+     * 최대 시도 횟수를 넘겨 더 이상 발송하지 않는 알림 수
+     */
+    long countByAttemptsGreaterThanEqual(int maxAttempts);
+
+    /**
+     * 가장 오래 대기 중인 알림의 최초 등록 시간
+     */
+    @Query("SELECT MIN(o.createdAt) FROM PriceAlertOutbox o WHERE o.attempts < :maxAttempts")
+    LocalDateTime findOldestCreatedAt(@Param("maxAttempts") int maxAttempts);
+}
@@ -29,4 +29,81 @@ public interface PriceLogRepository extends JpaRepository<PriceLog, Integer> {
         @Param("startOfYesterday") LocalDateTime startOfYesterday,
         @Param("endOfYesterday") LocalDateTime endOfYesterday
     );
+
+    /**
+     * 여러 상품의 기간 내 가격 로그를 시간순으로 조회 (가격 추이 차트용)
+     * @param productIds 상품 ID 목록
+     * @param from 조회 시작 시간 (포함)
+     * @param to 조회 끝 시간 (미포함)
+     * @return (productId, shopId, shopName, price, deliveryFee, createdAt) 목록
+     */
+    @Query("SELECT ps.product.productId, s.shopId, s.shopName, pl.newPrice, p.deliveryFee, pl.createdAt " +
+           "FROM PriceLog pl " +
+           "JOIN pl.price p " +
+           "JOIN p.productShop ps " +
+           "JOIN ps.shop s " +
+           "WHERE ps.product.productId IN :productIds " +
+           "AND pl.createdAt >= :from " +
+           "AND pl.createdAt < :to " +
+           "ORDER BY ps.product.productId, s.shopId, pl.createdAt ASC")
+    List<Object[]> findPriceSeriesRows(
+        @Param("productIds") List<Integer> productIds,
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to
+    );
+
+    /**
+     * 여러 상품의 가격별 조회 시작 전 마지막 가격 로그 조회 (가격 추이 차트의 첫 버킷용)<br>
+     * 가격 로그는 가격이 바뀔 때만 쌓이므로, 구간 안에서 가격이 바뀌지 않은 상점의 가격은 이 로그로만 알 수 있다.
+     * @param productIds 상품 ID 목록
+     * @param from 조회 시작 시간 (미포함)
+     * @return (productId, shopId, shopName, price, deliveryFee, createdAt) 목록
+     */
+    @Query("SELECT ps.product.productId, s.shopId, s.shopName, pl.newPrice, p.deliveryFee, pl.createdAt " +
+           "FROM PriceLog pl " +
+           "JOIN pl.price p " +
+           "JOIN p.productShop ps " +
+           "JOIN ps.shop s " +
+           "WHERE ps.product.productId IN :productIds " +
+           "AND pl.createdAt = (SELECT MAX(pl2.createdAt) FROM PriceLog pl2 " +
+           "                    WHERE pl2.price = p AND pl2.createdAt < :from) " +
+           "ORDER BY ps.product.productId, s.shopId, pl.priceLogId ASC")
+    List<Object[]> findPriceSeriesSeedRows(
+        @Param("productIds") List<Integer> productIds,
+        @Param("from") LocalDateTime from
+    );
+
+    /**
+     * 여러 상품의 기간 내 가격 로그 건수와 마지막 기록 시간 조회 (ETag 계산용)
+     * @param productIds 상품 ID 목록
+     * @param from 조회 시작 시간 (포함)
+     * @param to 조회 끝 시간 (미포함)
+     * @return (productId, count, maxCreatedAt) 목록
+     */
+    @Query("SELECT ps.product.productId, COUNT(pl), MAX(pl.createdAt) " +
+           "FROM PriceLog pl " +
+           "JOIN pl.price p " +
+           "JOIN p.productShop ps " +
+           "WHERE ps.product.productId IN :productIds " +
+           "AND pl.createdAt >= :from " +
+           "AND pl.createdAt < :to " +
+           "GROUP BY ps.product.productId")
+    List<Object[]> findPriceSeriesVersions(
+        @Param("productIds") List<Integer> productIds,
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to
+    );
+
+    /**
+     * 여러 상품의 상점별 현재 배송비 조회 (ETag 계산용)<br>
+     * 가격 시계열은 현재 배송비를 더해 계산하므로 배송비가 바뀌면 버전도 바뀌어야 한다.
+     * @param productIds 상품 ID 목록
+     * @return (productId, priceId, deliveryFee) 목록
+     */
+    @Query("SELECT ps.product.productId, p.priceId, p.deliveryFee " +
+           "FROM Price p " +
+           "JOIN p.productShop ps " +
+           "WHERE ps.product.productId IN :productIds " +
+           "ORDER BY ps.product.productId, p.priceId")
+    List<Object[]> findDeliveryFeeVersions(@Param("productIds") List<Integer> productIds);
 }
@@ -20,6 +20,16 @@ public interface PriceRepository extends JpaRepository<Price,Integer> {
             "inner join Product p on ps.product.productId = p.productId where ps.isAvailable = true and p.productId = :productId")
     List<Object[]> findByProductId(Integer productId);
 
+    /**
+     * 여러 상품의 전체 가격 정보 일괄 조회
+     * @param productIds 상품 아이디 목록
+     * @return 상품 아이디와 전체 가격 정보 및 상점 정보 (productId, priceId, price, deliveryFee, link, shopName, logoIcon)
+     */
+    @Query("select p.productId,pc.priceId,pc.price,pc.deliveryFee,ps.link,s.shopName,s.logoIcon from Price pc inner join ProductShop ps on ps.productShopId = pc.productShop.productShopId " +
+            "inner join Shop s on s.shopId =ps.shop.shopId " +
+            "inner join Product p on ps.product.productId = p.productId where ps.isAvailable = true and p.productId in :productIds")
+    List<Object[]> findByProductIds(@Param("productIds") List<Integer> productIds);
+
     /**
      * 특정 상품의 모든 Price 엔티티 조회 (최저가 계산용)
      * @param productId 상품 아이디
@@ -9,6 +9,20 @@ import java.util.Optional;
 
 public interface ProductRepository extends JpaRepository<Product,Integer> {
     Optional<Product> findByProductName(String productName);
+
+    /**
+     * 추천용 카탈로그 생성을 위한 전체 상품 기본 정보 조회 (엔티티 대신 필요한 컬럼만)
+     * @return (productId, productName, brand, description, alcoholPercentage, volume, url,
+     *         subcategoryId, subName, topcategoryId, topName) 목록, 상품 아이디 오름차순
+     */
+    @Query("SELECT p.productId, p.productName, p.brand, p.description, p.alcoholPercentage, p.volume, p.url, " +
+            "sc.subcategoryId, sc.subName, tc.topcategoryId, tc.topName " +
+            "FROM Product p " +
+            "LEFT JOIN p.subCategory sc " +
+            "LEFT JOIN sc.topCategory tc " +
+            "ORDER BY p.productId")
+    List<Object[]> findCatalogRows();
+
     /**
      * 재고가 있고 평균 별점이 높고 리뷰수가 많은 상품들의 아이디 조회
      * @return 상품 아이디와 평균 별점 목록
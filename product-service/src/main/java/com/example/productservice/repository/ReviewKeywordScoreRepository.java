@@ -0,0 +1,44 @@
+package com.example.productservice.repository;
+
+import com.example.productservice.domain.ReviewKeywordScore;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ReviewKeywordScoreRepository extends JpaRepository<ReviewKeywordScore, Long> {
+    List<ReviewKeywordScore> findByProductId(Integer productId);
+
+    /**
+     * 대표 키워드 점수 행 삭제 (키워드 사전에서 빠진 경우)
+     * @param productId 상품 아이디
+     * @param category 분석 항목
+     * @param label 대표 키워드
+     */
+    @Modifying
+    @Query("DELETE FROM ReviewKeywordScore rks " +
+            "WHERE rks.productId = :productId AND rks.category = :category AND rks.label = :label")
+    void deleteScore(@Param("productId") Integer productId,
+                     @Param("category") String category,
+                     @Param("label") String label);
+
+    /**
+     * 키워드 점수 누적 (없으면 생성)
+     * @param productId 상품 아이디
+     * @param category 분석 항목
+     * @param label 대표 키워드
+     * @param delta 더할 점수
+     */
+    @Modifying
+    @Query(value = "INSERT INTO review_keyword_score (product_id, category, label, score) " +
+            "VALUES (:productId, :category, :label, :delta) " +
+            "ON DUPLICATE KEY UPDATE score = score + :delta", nativeQuery = true)
+    void addScore(@Param("productId") Integer productId,
+                  @Param("category") String category,
+                  @Param("label") String label,
+                  @Param("delta") int delta);
+}
@@ -41,4 +41,27 @@ public interface ReviewRepository extends JpaRepository<Review,Integer> {
     JOIN ps.product p
     WHERE p.productId = :productId""")
     List<String>findCommentsByProductId(Integer productId);
+
+    /**
+     * 리뷰가 있는 상품 아이디 목록 조회 (리뷰 분석 재집계용)
+     * @return 상품 아이디 목록
+     */
+    @Query("""
+    SELECT DISTINCT ps.product.productId
+    FROM Review r
+    JOIN r.productShop ps""")
+    List<Integer> findReviewedProductIds();
+
+    /**
+     * 리뷰가 있지만 리뷰 키워드 집계가 없는 상품 아이디 목록 조회 (집계 도입 이전 리뷰 일괄 집계용)
+     * @return 상품 아이디 목록
+     */
+    @Query("""
+    SELECT DISTINCT ps.product.productId
+    FROM Review r
+    JOIN r.productShop ps
+    WHERE NOT EXISTS (
+        SELECT rks.id FROM ReviewKeywordScore rks WHERE rks.productId = ps.product.productId
+    )""")
+    List<Integer> findProductIdsWithoutKeywordScores();
 }
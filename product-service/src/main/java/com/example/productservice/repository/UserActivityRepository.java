@@ -2,11 +2,26 @@ package com.example.productservice.repository;
 
 import com.example.productservice.domain.UserActivity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface UserActivityRepository extends JpaRepository<UserActivity, Long> {
     List<UserActivity> findByUserId(Long userId);
+
+    /**
+     * 기간 내 상품/행동 타입/일자별 행동 수 조회 (인기도 계산용)
+     * @param since 조회 시작 시간 (포함)
+     * @param until 조회 끝 시간 (미포함)
+     * @return (productId, activityType, 일자, 건수) 목록
+     */
+    @Query(value = "SELECT product_id, activity_type, DATE(created_at), COUNT(*) FROM user_activity " +
+            "WHERE created_at >= :since AND created_at < :until " +
+            "GROUP BY product_id, activity_type, DATE(created_at)", nativeQuery = true)
+    List<Object[]> countDailyActivitiesBetween(@Param("since") LocalDateTime since,
+                                               @Param("until") LocalDateTime until);
 }
@@ -14,4 +14,11 @@ public interface UserProductScoreRepository extends JpaRepository<UserProductSco
 
     @Query("SELECT ups FROM UserProductScore ups WHERE ups.userId = :userId ORDER BY ups.score DESC")
     List<UserProductScore> findTopProductsByUserId(Long userId);
+
+    /**
+     * 전체 사용자-상품 점수 조회 (상품 유사도 계산용)
+     * @return (userId, productId, score) 목록
+     */
+    @Query("SELECT ups.userId, ups.productId, ups.score FROM UserProductScore ups WHERE ups.score > 0")
+    List<Object[]> findAllScoreEntries();
 }
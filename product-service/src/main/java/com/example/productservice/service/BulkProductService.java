@@ -1,16 +1,21 @@
 package com.example.productservice.service;
 
+import com.example.productservice.cache.ProductChangedEvent;
 import com.example.productservice.domain.*;
 import com.example.productservice.dto.*;
 import com.example.productservice.repository.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * 크롤링 데이터 벌크 저장 서비스
@@ -27,6 +32,8 @@ public class BulkProductService {
     private final PriceRepository priceRepository;
     private final ReviewRepository reviewRepository;
     private final StockRepository stockRepository;
+    private final ReviewKeywordScoreService reviewKeywordScoreService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 크롤링 서비스로부터 받은 상품 데이터를 벌크로 저장
@@ -54,8 +61,10 @@ public class BulkProductService {
      */
     @Transactional
     public void saveOneProduct(BulkProductDTO dto) {
+        Set<ProductChangedEvent.Change> changes = EnumSet.of(ProductChangedEvent.Change.PRODUCT);
+
         // 1. 카테고리 처리
-        SubCategory subCategory = getOrCreateSubCategory(dto.getCategory(), dto.getProductKind());
+        SubCategory subCategory = getOrCreateSubCategory(dto.getCategory(), dto.getProductKind(), changes);
 
         // 2. 상품 저장 또는 업데이트
         Product product = saveOrUpdateProduct(dto, subCategory);
@@ -70,27 +79,41 @@ public class BulkProductService {
                 ProductShop productShop = saveOrUpdateProductShop(product, shop, priceDto.getShopLink());
                 saveOrUpdatePrice(productShop, priceDto);
             }
+            changes.add(ProductChangedEvent.Change.PRICE);
         }
 
         // 5. 리뷰 정보 저장
         if (dto.getReviews() != null) {
+            List<String> savedComments = new ArrayList<>();
             for (BulkReviewDTO reviewDto : dto.getReviews()) {
                 Shop shop = shopRepository.findByShopName(reviewDto.getShopName()).orElse(null);
                 if (shop != null) {
                     productShopRepository
                             .findByProduct_ProductIdAndShop_ShopId(product.getProductId(), shop.getShopId())
-                            .ifPresent(productShop -> saveReview(reviewDto, productShop));
+                            .map(productShop -> saveReview(reviewDto, productShop))
+                            .ifPresent(savedComments::add);
                 }
             }
+
+            // 6. 새 리뷰만 형태소 분석하여 리뷰 분석 집계에 누적
+            if (!savedComments.isEmpty()) {
+                reviewKeywordScoreService.addReviews(product.getProductId(), savedComments);
+                changes.add(ProductChangedEvent.Change.REVIEW);
+            }
         }
+
+        // 커밋 후 변경된 상품의 캐시만 무효화
+        eventPublisher.publishEvent(new ProductChangedEvent(product.getProductId(), changes));
     }
 
-    private SubCategory getOrCreateSubCategory(String topCategoryName, String subCategoryName) {
+    private SubCategory getOrCreateSubCategory(String topCategoryName, String subCategoryName,
+                                               Set<ProductChangedEvent.Change> changes) {
         // 상위 카테고리 찾기 또는 생성
         TopCategory topCategory = topCategoryRepository.findByTopName(topCategoryName)
             .orElseGet(() -> {
                 TopCategory newTop = new TopCategory();
                 newTop.setTopName(topCategoryName);
+                changes.add(ProductChangedEvent.Change.CATEGORY);
                 return topCategoryRepository.save(newTop);
             });
 
@@ -100,6 +123,7 @@ public class BulkProductService {
                 SubCategory newSub = new SubCategory();
                 newSub.setSubName(subCategoryName);
                 newSub.setTopCategory(topCategory);
+                changes.add(ProductChangedEvent.Change.CATEGORY);
                 return subCategoryRepository.save(newSub);
             });
     }
@@ -166,7 +190,11 @@ public class BulkProductService {
         priceRepository.save(price);
     }
 
-    private void saveReview(BulkReviewDTO reviewDto, ProductShop productShop) {
+    /**
+     * 리뷰 저장
+     * @return 저장된 리뷰 내용
+     */
+    private String saveReview(BulkReviewDTO reviewDto, ProductShop productShop) {
         Review review = new Review();
         review.setProductShop(productShop);
         review.setWriter(reviewDto.getWriter());
@@ -187,5 +215,6 @@ public class BulkProductService {
         }
 
         reviewRepository.save(review);
+        return review.getComment();
     }
 }
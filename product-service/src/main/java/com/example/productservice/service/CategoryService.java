@@ -1,5 +1,6 @@
 package com.example.productservice.service;
 
+import com.example.productservice.cache.CacheNames;
 import com.example.productservice.domain.SubCategory;
 import com.example.productservice.domain.TopCategory;
 import com.example.productservice.dto.SubCategoryDto;
@@ -8,6 +9,7 @@ import com.example.productservice.repository.SubCategoryRepository;
 import com.example.productservice.repository.TopCategoryRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
@@ -22,6 +24,7 @@ public class CategoryService {
     private final TopCategoryRepository topCategoryRepository;
     private final SubCategoryRepository subCategoryRepository;
 
+    @Cacheable(cacheNames = CacheNames.CATEGORIES)
     public Map<TopCategoryDto, List<SubCategoryDto>> getAllCategoryList(){
         Map<TopCategoryDto, List<SubCategoryDto>> map = new HashMap<>();
 
@@ -0,0 +1,280 @@
+package com.example.productservice.service;
+
+import com.example.productservice.domain.UserProductScore;
+import com.example.productservice.repository.UserProductScoreRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+/**
+ * 상품-상품 협업 필터링 서비스
+ * <p>
+ * user_product_score를 상품별 사용자 벡터(가중치 = log(1 + 점수))로 보고,
+ * 코사인 유사도가 높은 상위 K개 이웃 상품 목록을 주기적으로 계산한다.
+ * 벡터와 이웃 목록은 모두 기본형 배열(CSR 형식)로 보관하며, 계산은 상품 구간 단위로 나누어 병렬 처리한다.
+ * 개인 추천은 사용자가 점수를 준 상품들의 이웃 목록을 메모리에서 합산하여 만든다.
+ */
+@Slf4j
+@Service
+public class ItemSimilarityService {
+    // 병렬 계산 시 작업 하나가 맡는 상품 수
+    private static final int ITEMS_PER_TASK = 64;
+
+    private final UserProductScoreRepository userProductScoreRepository;
+    private final int neighborCount;
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+    private volatile SimilarityIndex index = SimilarityIndex.EMPTY;
+
+    public ItemSimilarityService(UserProductScoreRepository userProductScoreRepository,
+                                 @Value("${recommendation.similarity.neighbors:20}") int neighborCount) {
+        this.userProductScoreRepository = userProductScoreRepository;
+        this.neighborCount = neighborCount;
+    }
+
+    /**
+     * 상품별 이웃 목록 (불변, 통째로 교체)
+     * @param productIds 내부 번호 -> 상품 아이디 (오름차순, 이진 탐색용)
+     * @param neighbors 상품별 이웃 내부 번호 (유사도 내림차순)
+     * @param similarities 상품별 이웃 유사도
+     */
+    record SimilarityIndex(int[] productIds, int[][] neighbors, float[][] similarities) {
+        static final SimilarityIndex EMPTY = new SimilarityIndex(new int[0], new int[0][], new float[0][]);
+
+        int indexOf(int productId) {
+            return Arrays.binarySearch(productIds, productId);
+        }
+
+        int size() {
+            return productIds.length;
+        }
+    }
+
+    /**
+     * 이웃 목록 재계산 (주기 실행, 이전 계산이 진행 중이면 건너뜀)
+     */
+    @Scheduled(initialDelayString = "${recommendation.similarity.initial-delay-ms:30000}",
+            fixedDelayString = "${recommendation.similarity.refresh-ms:600000}")
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long started = System.currentTimeMillis();
+            SimilarityIndex rebuilt = build(userProductScoreRepository.findAllScoreEntries());
+            index = rebuilt;
+            log.info("상품 유사도 계산 완료 - 상품: {}개, 소요: {}ms", rebuilt.size(), System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            log.error("상품 유사도 계산 실패: {}", e.getMessage(), e);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    /**
+     * 사용자 점수 목록으로 추천 상품 계산
+     * @param userScores 사용자의 상품 점수 목록
+     * @param limit 최대 추천 수
+     * @return 추천 상품 아이디 (추천 점수 내림차순, 사용자가 이미 점수를 준 상품 제외)
+     */
+    public List<Integer> recommend(List<UserProductScore> userScores, int limit) {
+        return recommend(index, userScores, limit);
+    }
+
+    /**
+     * 지정한 이웃 목록으로 추천 상품 계산 (오프라인 평가용)
+     */
+    List<Integer> recommend(SimilarityIndex current, List<UserProductScore> userScores, int limit) {
+        int itemCount = current.size();
+        if (itemCount == 0 || userScores.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        float[] scores = new float[itemCount];
+        int[] touched = new int[itemCount];
+        int touchedCount = 0;
+        int[] owned = new int[userScores.size()];
+        int ownedCount = 0;
+
+        for (UserProductScore userScore : userScores) {
+            int item = current.indexOf(userScore.getProductId());
+            if (item < 0 || userScore.getScore() == null || userScore.getScore() <= 0) {
+                continue;
+            }
+            owned[ownedCount++] = item;
+            float weight = weight(userScore.getScore());
+            int[] neighbors = current.neighbors()[item];
+            float[] similarities = current.similarities()[item];
+            for (int k = 0; k < neighbors.length; k++) {
+                int neighbor = neighbors[k];
+                if (scores[neighbor] == 0) {
+                    touched[touchedCount++] = neighbor;
+                }
+                scores[neighbor] += weight * similarities[k];
+            }
+        }
+
+        // 이미 점수를 준 상품은 추천에서 제외
+        for (int i = 0; i < ownedCount; i++) {
+            scores[owned[i]] = 0;
+        }
+
+        int[] topItems = new int[Math.min(limit, touchedCount)];
+        float[] topScores = new float[topItems.length];
+        int topCount = 0;
+        for (int i = 0; i < touchedCount; i++) {
+            int item = touched[i];
+            if (scores[item] > 0) {
+                topCount = insertTop(topItems, topScores, topCount, item, scores[item]);
+            }
+        }
+
+        List<Integer> result = new ArrayList<>(topCount);
+        for (int i = 0; i < topCount; i++) {
+            result.add(current.productIds()[topItems[i]]);
+        }
+        return result;
+    }
+
+    /**
+     * 점수 목록으로 이웃 목록 생성
+     * @param rows (userId, productId, score) 목록
+     */
+    SimilarityIndex build(List<Object[]> rows) {
+        int rowCount = rows.size();
+        long[] rowUserIds = new long[rowCount];
+        int[] rowProductIds = new int[rowCount];
+        float[] rowWeights = new float[rowCount];
+        for (int r = 0; r < rowCount; r++) {
+            Object[] row = rows.get(r);
+            rowUserIds[r] = ((Number) row[0]).longValue();
+            rowProductIds[r] = ((Number) row[1]).intValue();
+            rowWeights[r] = weight(((Number) row[2]).doubleValue());
+        }
+
+        long[] userIds = Arrays.stream(rowUserIds).sorted().distinct().toArray();
+        int[] productIds = Arrays.stream(rowProductIds).sorted().distinct().toArray();
+        int userCount = userIds.length;
+        int itemCount = productIds.length;
+
+        int[] rowUsers = new int[rowCount];
+        int[] rowItems = new int[rowCount];
+        for (int r = 0; r < rowCount; r++) {
+            rowUsers[r] = Arrays.binarySearch(userIds, rowUserIds[r]);
+            rowItems[r] = Arrays.binarySearch(productIds, rowProductIds[r]);
+        }
+
+        // 사용자 -> (상품, 가중치), 상품 -> (사용자, 가중치) 희소 행렬
+        int[] userStart = offsets(rowUsers, userCount);
+        int[] itemStart = offsets(rowItems, itemCount);
+        int[] userItems = new int[rowCount];
+        float[] userWeights = new float[rowCount];
+        int[] itemUsers = new int[rowCount];
+        float[] itemWeights = new float[rowCount];
+        int[] userFill = Arrays.copyOf(userStart, userCount);
+        int[] itemFill = Arrays.copyOf(itemStart, itemCount);
+        float[] norms = new float[itemCount];
+        for (int r = 0; r < rowCount; r++) {
+            int u = userFill[rowUsers[r]]++;
+            userItems[u] = rowItems[r];
+            userWeights[u] = rowWeights[r];
+            int i = itemFill[rowItems[r]]++;
+            itemUsers[i] = rowUsers[r];
+            itemWeights[i] = rowWeights[r];
+            norms[rowItems[r]] += rowWeights[r] * rowWeights[r];
+        }
+        for (int i = 0; i < itemCount; i++) {
+            norms[i] = (float) Math.sqrt(norms[i]);
+        }
+
+        int[][] neighbors = new int[itemCount][];
+        float[][] similarities = new float[itemCount][];
+        int taskCount = (itemCount + ITEMS_PER_TASK - 1) / ITEMS_PER_TASK;
+        IntStream.range(0, taskCount).parallel().forEach(task -> {
+            // 작업마다 내적 누적 배열을 따로 사용 (공유 없음)
+            float[] dots = new float[itemCount];
+            int[] touched = new int[itemCount];
+            int[] topItems = new int[neighborCount];
+            float[] topScores = new float[neighborCount];
+
+            int end = Math.min(itemCount, (task + 1) * ITEMS_PER_TASK);
+            for (int item = task * ITEMS_PER_TASK; item < end; item++) {
+                int touchedCount = 0;
+                for (int p = itemStart[item]; p < itemStart[item + 1]; p++) {
+                    int user = itemUsers[p];
+                    float weight = itemWeights[p];
+                    for (int q = userStart[user]; q < userStart[user + 1]; q++) {
+                        int other = userItems[q];
+                        if (other == item) {
+                            continue;
+                        }
+                        if (dots[other] == 0) {
+                            touched[touchedCount++] = other;
+                        }
+                        dots[other] += weight * userWeights[q];
+                    }
+                }
+
+                int topCount = 0;
+                for (int t = 0; t < touchedCount; t++) {
+                    int other = touched[t];
+                    float similarity = dots[other] / (norms[item] * norms[other]);
+                    topCount = insertTop(topItems, topScores, topCount, other, similarity);
+                    dots[other] = 0;
+                }
+                neighbors[item] = Arrays.copyOf(topItems, topCount);
+                similarities[item] = Arrays.copyOf(topScores, topCount);
+            }
+        });
+
+        return new SimilarityIndex(productIds, neighbors, similarities);
+    }
+
+    /**
+     * 내부 번호별 시작 위치 (CSR offsets)
+     */
+    private int[] offsets(int[] keys, int keyCount) {
+        int[] start = new int[keyCount + 1];
+        for (int key : keys) {
+            start[key + 1]++;
+        }
+        for (int k = 0; k < keyCount; k++) {
+            start[k + 1] += start[k];
+        }
+        return start;
+    }
+
+    /**
+     * 점수 내림차순으로 유지되는 상위 목록에 삽입
+     * @return 삽입 후 목록 크기
+     */
+    private static int insertTop(int[] items, float[] scores, int count, int item, float score) {
+        int capacity = items.length;
+        if (capacity == 0 || (count == capacity && score <= scores[count - 1])) {
+            return count;
+        }
+        int position = count == capacity ? capacity - 1 : count;
+        while (position > 0 && scores[position - 1] < score) {
+            items[position] = items[position - 1];
+            scores[position] = scores[position - 1];
+            position--;
+        }
+        items[position] = item;
+        scores[position] = score;
+        return Math.min(count + 1, capacity);
+    }
+
+    /**
+     * 누적 점수의 가중치 (클릭이 많은 상품의 영향 완화)
+     */
+    private static float weight(double score) {
+        return (float) Math.log1p(score);
+    }
+}
@@ -0,0 +1,302 @@
+package com.example.productservice.service;
+
+import com.example.productservice.cache.CatalogSnapshot;
+import com.example.productservice.cache.CatalogSnapshotService;
+import com.example.productservice.domain.UserActivity;
+import com.example.productservice.repository.UserActivityRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Date;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 시간 감쇠 인기도 서비스
+ * <p>
+ * 클릭/즐겨찾기 점수에 반감기 기준 지수 감쇠를 적용한 인기도를 전체와 하위 카테고리별로 관리한다.
+ * 모든 점수를 고정된 기준 시간에 대해 {@code 가중치 * 2^((발생 시간 - 기준 시간) / 반감기)}로 저장하면,
+ * 현재 시점의 감쇠는 모든 상품에 같은 배율로 곱해지므로 순위가 바뀌지 않는다.
+ * 따라서 새 행동은 점수를 더하기만 하면 되고, 범위별 상위 N개 목록도 점수가 오르는 상품만 갱신하면 된다.
+ * 기준 시간은 매일 전체 재계산 시 현재 시간 근처로 옮겨 값이 너무 커지지 않게 한다.
+ * <p>
+ * 재계산은 DB 집계(기준 시점 이전 발생분)와 최근 반영 기록(기준 시점 이후 발생분)을 합쳐 만들므로,
+ * 집계 조회 중에 반영된 행동도 빠지지 않는다. 행동은 커밋된 뒤에만 반영한다.
+ */
+@Slf4j
+@Service
+public class PopularityService {
+    private static final Ranking EMPTY = new Ranking(new int[0], new double[0]);
+
+    private final UserActivityRepository userActivityRepository;
+    private final CatalogSnapshotService catalogSnapshotService;
+    private final int topSize;
+    private final double halfLifeSeconds;
+    private final int windowDays;
+    private final Duration replayWindow;
+    // 이 인스턴스가 행동 반영을 시작한 시간 (이후 발생분은 최근 반영 기록에 있음)
+    private final LocalDateTime trackingSince = LocalDateTime.now();
+
+    // 아래 상태는 모두 this 잠금으로 보호 (쓰기는 행동 저장 스레드와 재계산뿐)
+    private LocalDateTime baseTime = LocalDateTime.now();
+    private Map<Integer, Double> scores = new HashMap<>();
+    private Map<Integer, Integer> subCategoryByProduct = new HashMap<>();
+    private TopN global;
+    private Map<Integer, TopN> bySubCategory = new HashMap<>();
+    // 최근 replayWindow 동안 반영된 행동 (재계산 시 DB 집계 이후 발생분을 다시 반영하기 위함)
+    private final Deque<RecordedActivity> recent = new ArrayDeque<>();
+
+    // 읽기 전용 공개 순위 (요청 스레드는 잠금 없이 읽음)
+    private volatile Ranking globalRanking = EMPTY;
+    private final Map<Integer, Ranking> subCategoryRankings = new ConcurrentHashMap<>();
+
+    /**
+     * 인기 순위 (점수 내림차순)
+     */
+    public record Ranking(int[] productIds, double[] scores) {
+    }
+
+    private record RecordedActivity(Integer productId, double weight, LocalDateTime occurredAt) {
+    }
+
+    public PopularityService(UserActivityRepository userActivityRepository,
+                             CatalogSnapshotService catalogSnapshotService,
+                             @Value("${recommendation.popularity.top-size:100}") int topSize,
+                             @Value("${recommendation.popularity.half-life-hours:168}") int halfLifeHours,
+                             @Value("${recommendation.popularity.window-days:60}") int windowDays,
+                             @Value("${recommendation.popularity.replay-window-seconds:120}") int replayWindowSeconds) {
+        this.userActivityRepository = userActivityRepository;
+        this.catalogSnapshotService = catalogSnapshotService;
+        this.topSize = topSize;
+        this.halfLifeSeconds = halfLifeHours * 3600.0;
+        this.windowDays = windowDays;
+        this.replayWindow = Duration.ofSeconds(replayWindowSeconds);
+        this.global = new TopN(topSize);
+    }
+
+    /**
+     * 전체 인기 순위 조회
+     * @param limit 최대 개수
+     * @return 상품 아이디 목록 (인기순)
+     */
+    public List<Integer> top(int limit) {
+        return toIds(globalRanking, limit);
+    }
+
+    /**
+     * 여러 하위 카테고리의 인기 순위를 합쳐서 조회
+     * @param subCategoryIds 하위 카테고리 아이디 목록
+     * @param limit 최대 개수
+     * @return 상품 아이디 목록 (인기순)
+     */
+    public List<Integer> topInSubCategories(int[] subCategoryIds, int limit) {
+        Ranking[] rankings = Arrays.stream(subCategoryIds)
+                .distinct()
+                .mapToObj(id -> subCategoryRankings.getOrDefault(id, EMPTY))
+                .toArray(Ranking[]::new);
+        int[] cursors = new int[rankings.length];
+
+        List<Integer> result = new ArrayList<>(limit);
+        while (result.size() < limit) {
+            // 각 순위의 현재 위치 중 점수가 가장 높은 상품 선택 (상품은 하나의 카테고리에만 속함)
+            int best = -1;
+            for (int r = 0; r < rankings.length; r++) {
+                if (cursors[r] < rankings[r].productIds().length
+                        && (best < 0 || rankings[r].scores()[cursors[r]] > rankings[best].scores()[cursors[best]])) {
+                    best = r;
+                }
+            }
+            if (best < 0) {
+                break;
+            }
+            result.add(rankings[best].productIds()[cursors[best]++]);
+        }
+        return result;
+    }
+
+    /**
+     * 커밋된 사용자 행동을 인기도에 반영 (커밋 전에는 호출하지 않음)
+     * @param activities 저장된 행동 목록
+     */
+    public synchronized void recordAll(List<UserActivity> activities) {
+        CatalogSnapshot catalog = catalogSnapshotService.current();
+        Map<Integer, TopN> touched = new HashMap<>();
+        for (UserActivity activity : activities) {
+            LocalDateTime occurredAt = activity.getCreatedAt() == null ? LocalDateTime.now() : activity.getCreatedAt();
+            double weight = RecommendationService.getScoreByActivityType(activity.getActivityType());
+            recent.addLast(new RecordedActivity(activity.getProductId(), weight, occurredAt));
+            add(catalog, activity.getProductId(), weight * growth(occurredAt), touched);
+        }
+        trimRecent(LocalDateTime.now().minus(replayWindow));
+        publish(touched);
+    }
+
+    /**
+     * 최근 행동 기록으로 인기도 전체 재계산 (기동 시, 매일 새벽)<br>
+     * DB에서는 기준 시점(cutoff) 이전 발생분만 집계하고, 이후 발생분은 최근 반영 기록에서 다시 반영한다.
+     * 기준 시점은 최근 반영 기록이 빠짐없이 남아 있는 가장 이른 시간이며,
+     * 그보다 먼저 발생했지만 집계 조회 뒤에 커밋된 행동(비동기 저장 지연 이상)만 다음 재계산까지 빠진다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${recommendation.popularity.rebuild-cron:0 30 4 * * *}", zone = "Asia/Seoul")
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        LocalDateTime since = LocalDate.now().minusDays(windowDays).atStartOfDay();
+        LocalDateTime cutoff = LocalDateTime.now().minus(replayWindow);
+        if (cutoff.isBefore(trackingSince)) {
+            cutoff = trackingSince;
+        }
+        try {
+            List<Object[]> rows = userActivityRepository.countDailyActivitiesBetween(since, cutoff);
+            CatalogSnapshot catalog = catalogSnapshotService.current();
+
+            synchronized (this) {
+                baseTime = LocalDateTime.now();
+                scores = new HashMap<>();
+                subCategoryByProduct = new HashMap<>();
+                global = new TopN(topSize);
+                bySubCategory = new HashMap<>();
+
+                Map<Integer, TopN> touched = new HashMap<>();
+                for (Object[] row : rows) {
+                    int productId = ((Number) row[0]).intValue();
+                    UserActivity.ActivityType type = UserActivity.ActivityType.valueOf((String) row[1]);
+                    // 일자 단위 집계이므로 정오에 발생한 것으로 계산
+                    LocalDateTime occurredAt = toLocalDate(row[2]).atTime(12, 0);
+                    double weight = RecommendationService.getScoreByActivityType(type) * ((Number) row[3]).longValue();
+                    add(catalog, productId, weight * growth(occurredAt), touched);
+                }
+
+                // 집계 조회 중에 반영된 행동을 포함하여 기준 시점 이후 발생분을 다시 반영
+                trimRecent(cutoff);
+                for (RecordedActivity activity : recent) {
+                    if (!activity.occurredAt().isBefore(cutoff)) {
+                        add(catalog, activity.productId(), activity.weight() * growth(activity.occurredAt()), touched);
+                    }
+                }
+                subCategoryRankings.clear();
+                publish(touched);
+            }
+            log.info("인기도 재계산 완료 - 상품: {}개, 소요: {}ms", scores.size(), System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            log.error("인기도 재계산 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private void add(CatalogSnapshot catalog, Integer productId, double delta, Map<Integer, TopN> touched) {
+        double score = scores.merge(productId, delta, Double::sum);
+        global.offer(productId, score);
+
+        Integer subCategoryId = subCategoryByProduct.get(productId);
+        if (subCategoryId == null) {
+            // 카탈로그 스냅샷에 아직 없는 상품은 기록하지 않고 다음 반영 때 다시 찾음
+            int index = catalog.indexOf(productId);
+            if (index >= 0) {
+                subCategoryId = catalog.subCategoryIdOf(index);
+                subCategoryByProduct.put(productId, subCategoryId);
+            }
+        }
+        if (subCategoryId != null) {
+            TopN top = bySubCategory.computeIfAbsent(subCategoryId, id -> new TopN(topSize));
+            top.offer(productId, score);
+            touched.put(subCategoryId, top);
+        }
+    }
+
+    /**
+     * 최근 반영 기록에서 기준 시간보다 먼저 기록된 행동 제거 (기록 순서 기준)
+     */
+    private void trimRecent(LocalDateTime before) {
+        while (!recent.isEmpty() && recent.peekFirst().occurredAt().isBefore(before)) {
+            recent.pollFirst();
+        }
+    }
+
+    private void publish(Map<Integer, TopN> touched) {
+        globalRanking = global.toRanking();
+        touched.forEach((subCategoryId, top) -> subCategoryRankings.put(subCategoryId, top.toRanking()));
+    }
+
+    /**
+     * 기준 시간 대비 감쇠 역수 (발생 시간이 늦을수록 큼)
+     */
+    private double growth(LocalDateTime occurredAt) {
+        double seconds = Duration.between(baseTime, occurredAt).getSeconds();
+        return Math.pow(2, seconds / halfLifeSeconds);
+    }
+
+    private List<Integer> toIds(Ranking ranking, int limit) {
+        int count = Math.min(limit, ranking.productIds().length);
+        List<Integer> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(ranking.productIds()[i]);
+        }
+        return result;
+    }
+
+    private LocalDate toLocalDate(Object value) {
+        if (value instanceof Date date) {
+            return date.toLocalDate();
+        }
+        return (LocalDate) value;
+    }
+
+    /**
+     * 점수 내림차순 상위 N개 목록<br>
+     * 점수는 늘어나기만 하므로 갱신된 상품을 앞쪽으로 올리기만 하면 순서가 유지된다.
+     */
+    private static final class TopN {
+        private final int[] productIds;
+        private final double[] scores;
+        private int size;
+
+        TopN(int capacity) {
+            productIds = new int[capacity];
+            scores = new double[capacity];
+        }
+
+        void offer(int productId, double score) {
+            int position = -1;
+            for (int i = 0; i < size; i++) {
+                if (productIds[i] == productId) {
+                    position = i;
+                    break;
+                }
+            }
+            if (position < 0) {
+                if (size == productIds.length) {
+                    if (productIds.length == 0 || score <= scores[size - 1]) {
+                        return;
+                    }
+                    position = size - 1;
+                } else {
+                    position = size++;
+                }
+            }
+            while (position > 0 && scores[position - 1] < score) {
+                productIds[position] = productIds[position - 1];
+                scores[position] = scores[position - 1];
+                position--;
+            }
+            productIds[position] = productId;
+            scores[position] = score;
+        }
+
+        Ranking toRanking() {
+            return new Ranking(Arrays.copyOf(productIds, size), Arrays.copyOf(scores, size));
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.example.productservice.service;
+
+import com.example.productservice.domain.PriceAlertOutbox;
+import com.example.productservice.dto.PriceChangeRequest;
+import com.example.productservice.repository.PriceAlertOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 가격 알림 발송기 (outbox)
+ * <p>
+ * 가격 변경 트랜잭션에서 등록된 알림을 주기적으로 묶음 조회하여 notification-service로 전송한다.
+ * 전송에 실패하면 지수 백오프로 다음 시도 시각을 미루고, 최대 시도 횟수를 넘긴 알림은 행을 남겨둔 채 발송을 멈춘다.
+ * 서버가 재시작되어도 발송 대기 중인 알림은 테이블에 남아 있으므로 유실되지 않는다.
+ */
+@Slf4j
+@Service
+public class PriceAlertOutboxDispatcher {
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final PriceAlertOutboxRepository priceAlertOutboxRepository;
+    private final PriceUpdateService priceUpdateService;
+    private final RestTemplate restTemplate;
+    private final String gatewayUrl;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final long maxBackoffMillis;
+
+    // 발송 대기 현황 (매 조회 후 갱신)
+    private final AtomicLong pendingCount = new AtomicLong();
+    private final AtomicLong deadCount = new AtomicLong();
+    private final AtomicLong oldestAgeMillis = new AtomicLong();
+
+    private final Counter sentCounter;
+    private final Counter skippedCounter;
+    private final Counter retriedCounter;
+    private final Counter deadCounter;
+    private final Counter executedCounter;
+    private final Timer lagTimer;
+
+    public PriceAlertOutboxDispatcher(
+            PriceAlertOutboxRepository priceAlertOutboxRepository,
+            PriceUpdateService priceUpdateService,
+            MeterRegistry meterRegistry,
+            @Value("${gateway.url:http://localhost:8080}") String gatewayUrl,
+            @Value("${price-alert.outbox.batch-size:100}") int batchSize,
+            @Value("${price-alert.outbox.max-attempts:8}") int maxAttempts,
+            @Value("${price-alert.outbox.backoff-ms:1000}") long backoffMillis,
+            @Value("${price-alert.outbox.max-backoff-ms:600000}") long maxBackoffMillis,
+            @Value("${price-alert.outbox.timeout-ms:5000}") int timeoutMillis) {
+        this.priceAlertOutboxRepository = priceAlertOutboxRepository;
+        this.priceUpdateService = priceUpdateService;
+        this.gatewayUrl = gatewayUrl;
+        this.batchSize = batchSize;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffMillis = backoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+
+        // notification-service가 응답하지 않아도 발송 스레드가 묶이지 않도록 제한 시간 설정
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(timeoutMillis);
+        requestFactory.setReadTimeout(timeoutMillis);
+        this.restTemplate = new RestTemplate(requestFactory);
+
+        Gauge.builder("price.alert.outbox.pending", pendingCount, AtomicLong::get)
+                .description("발송 대기 중인 가격 알림 수")
+                .register(meterRegistry);
+        Gauge.builder("price.alert.outbox.dead", deadCount, AtomicLong::get)
+                .description("최대 시도 횟수를 넘겨 발송을 멈춘 가격 알림 수")
+                .register(meterRegistry);
+        Gauge.builder("price.alert.outbox.lag.seconds", oldestAgeMillis, age -> age.get() / 1000.0)
+                .description("가장 오래 대기 중인 가격 알림의 대기 시간")
+                .register(meterRegistry);
+        this.sentCounter = dispatchCounter(meterRegistry, "sent");
+        this.skippedCounter = dispatchCounter(meterRegistry, "skipped");
+        this.retriedCounter = dispatchCounter(meterRegistry, "retried");
+        this.deadCounter = dispatchCounter(meterRegistry, "dead");
+        this.executedCounter = Counter.builder("price.alert.debounce.executed")
+                .description("예약이 합쳐진 뒤 실제로 수행된 가격 알림 평가 수")
+                .register(meterRegistry);
+        this.lagTimer = Timer.builder("price.alert.outbox.dispatch.lag")
+                .description("가격 알림 등록부터 전송 완료까지 걸린 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 발송 시각이 된 알림을 묶음 단위로 전송 (이전 실행이 끝난 뒤 일정 간격으로 실행)
+     */
+    @Scheduled(initialDelayString = "${price-alert.outbox.initial-delay-ms:10000}",
+            fixedDelayString = "${price-alert.outbox.poll-ms:1000}")
+    public void dispatchDue() {
+        try {
+            List<PriceAlertOutbox> due = priceAlertOutboxRepository.findDue(
+                    LocalDateTime.now(), maxAttempts, PageRequest.of(0, batchSize));
+            for (PriceAlertOutbox entry : due) {
+                dispatch(entry);
+            }
+            refreshBacklog();
+        } catch (Exception e) {
+            log.error("가격 알림 발송 대기 조회 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private void dispatch(PriceAlertOutbox entry) {
+        Integer productId = entry.getProductId();
+        try {
+            executedCounter.increment();
+            Optional<PriceChangeRequest> alert = priceUpdateService.buildPriceAlert(productId);
+            if (alert.isPresent()) {
+                PriceChangeRequest request = alert.get();
+                restTemplate.postForObject(gatewayUrl + "/notification/api/notifications/price-change", request, String.class);
+                sentCounter.increment();
+                lagTimer.record(Duration.between(entry.getCreatedAt(), LocalDateTime.now()));
+                log.info("✅ 가격 하락 알림 전송 성공 - productId: {}, 상품명: {}, {}원 → {}원 ({})",
+                        productId, request.productName(), request.oldPrice(), request.newPrice(), request.shopName());
+            } else {
+                skippedCounter.increment();
+            }
+            // 조회 이후 같은 상품이 다시 등록되었으면 행이 남아 다음 조회에서 다시 처리됨
+            priceAlertOutboxRepository.deleteDispatched(entry.getOutboxId(), entry.getAvailableAt());
+        } catch (Exception e) {
+            int attempts = entry.getAttempts() + 1;
+            LocalDateTime nextAt = LocalDateTime.now().plus(backoff(attempts), ChronoUnit.MILLIS);
+            priceAlertOutboxRepository.markFailed(entry.getOutboxId(), entry.getAvailableAt(), nextAt, truncate(e.getMessage()));
+            if (attempts >= maxAttempts) {
+                deadCounter.increment();
+                log.error("가격 알림 전송 최종 실패 - productId: {}, 시도: {}회, 에러: {}", productId, attempts, e.getMessage());
+            } else {
+                retriedCounter.increment();
+                log.warn("가격 알림 전송 실패, 재시도 예정 - productId: {}, 시도: {}회, 다음 시도: {}, 에러: {}",
+                        productId, attempts, nextAt, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 발송 대기 현황 갱신 (메트릭용)
+     */
+    private void refreshBacklog() {
+        pendingCount.set(priceAlertOutboxRepository.countByAttemptsLessThan(maxAttempts));
+        deadCount.set(priceAlertOutboxRepository.countByAttemptsGreaterThanEqual(maxAttempts));
+        LocalDateTime oldest = priceAlertOutboxRepository.findOldestCreatedAt(maxAttempts);
+        oldestAgeMillis.set(oldest == null ? 0 : Math.max(0, Duration.between(oldest, LocalDateTime.now()).toMillis()));
+    }
+
+    /**
+     * 재시도 대기 시간 - backoff * 2^(시도 횟수 - 1), 최대 대기 시간으로 제한
+     */
+    private long backoff(int attempts) {
+        int shift = Math.min(attempts - 1, 30);
+        return Math.min(maxBackoffMillis, backoffMillis << shift);
+    }
+
+    private String truncate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    private Counter dispatchCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("price.alert.outbox.dispatch")
+                .description("가격 알림 발송 처리 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.productservice.service;
+
+import com.example.productservice.repository.PriceAlertOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 상품별 가격 알림 예약 (trailing-edge debounce)
+ * <p>
+ * 같은 상품에 대한 예약이 대기 시간 안에 다시 들어오면 새 작업을 만들지 않고 발송 시각만 마지막 예약 기준으로 미룬다.
+ * 예약은 outbox 테이블의 상품당 한 행으로 관리되므로 호출한 트랜잭션과 함께 커밋되고, 서버가 재시작되어도 유지된다.
+ * 변경이 계속 이어지는 상품도 최초 예약 후 최대 대기 시간 안에는 한 번 평가된다.
+ * 실제 평가와 전송은 {@link PriceAlertOutboxDispatcher}가 수행한다.
+ */
+@Slf4j
+@Service
+public class PriceAlertScheduler {
+
+    /**
+     * 예약 요청 출처 (출처별로 대기 시간이 다름)
+     */
+    public enum Source {
+        ADMIN,      // 관리자 가격 수정 - 여러 상점 가격을 연달아 수정하는 동안 대기
+        CRAWLER     // 크롤링 배치 완료 후 호출
+    }
+
+    private record Window(long delayMillis, Counter scheduled, Counter coalesced) {
+    }
+
+    private final PriceAlertOutboxRepository priceAlertOutboxRepository;
+    private final long maxWaitMillis;
+    private final Map<Source, Window> windows = new EnumMap<>(Source.class);
+
+    public PriceAlertScheduler(
+            PriceAlertOutboxRepository priceAlertOutboxRepository,
+            MeterRegistry meterRegistry,
+            @Value("${price-alert.debounce.admin-ms:3000}") long adminDelayMillis,
+            @Value("${price-alert.debounce.crawler-ms:1000}") long crawlerDelayMillis,
+            @Value("${price-alert.debounce.max-wait-ms:60000}") long maxWaitMillis) {
+        this.priceAlertOutboxRepository = priceAlertOutboxRepository;
+        this.maxWaitMillis = maxWaitMillis;
+        windows.put(Source.ADMIN, window(meterRegistry, Source.ADMIN, adminDelayMillis));
+        windows.put(Source.CRAWLER, window(meterRegistry, Source.CRAWLER, crawlerDelayMillis));
+    }
+
+    /**
+     * 가격 알림 예약 (호출한 트랜잭션에 참여)
+     * @param productId 상품 아이디
+     * @param source 예약 요청 출처
+     */
+    @Transactional
+    public void schedule(Integer productId, Source source) {
+        Window window = windows.get(source);
+        LocalDateTime now = LocalDateTime.now();
+        int affected = priceAlertOutboxRepository.enqueue(
+                productId, now.plus(window.delayMillis(), ChronoUnit.MILLIS), now, maxWaitMillis);
+
+        // ON DUPLICATE KEY UPDATE는 기존 행을 변경하면 2를 반환
+        if (affected > 1) {
+            window.coalesced().increment();
+            log.debug("가격 알림 예약 합침 - productId: {}, 출처: {}", productId, source);
+        } else {
+            window.scheduled().increment();
+            log.debug("가격 알림 예약 - productId: {}, 출처: {}, {}ms 후 최저가 체크 및 알림 전송",
+                    productId, source, window.delayMillis());
+        }
+    }
+
+    private Window window(MeterRegistry meterRegistry, Source source, long delayMillis) {
+        return new Window(delayMillis,
+                scheduleCounter(meterRegistry, source, "scheduled"),
+                scheduleCounter(meterRegistry, source, "coalesced"));
+    }
+
+    private Counter scheduleCounter(MeterRegistry meterRegistry, Source source, String result) {
+        return Counter.builder("price.alert.debounce.events")
+                .description("가격 알림 예약 요청 (새 예약 / 대기 중인 예약에 합쳐짐)")
+                .tag("source", source.name().toLowerCase())
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
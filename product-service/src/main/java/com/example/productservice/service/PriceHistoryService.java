@@ -0,0 +1,234 @@
+package com.example.productservice.service;
+
+import com.example.productservice.dto.PriceSeriesDto;
+import com.example.productservice.dto.PriceSeriesResolution;
+import com.example.productservice.repository.PriceLogRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 가격 추이 차트 서비스
+ * <p>
+ * price_log를 요청한 기간/해상도의 버킷으로 묶어 상점별 시계열과 최저가 시계열을 만든다.
+ * 각 버킷에는 그 구간의 마지막 가격(배송비 포함)을 쓰고, 가격 변동이 없는 버킷은 직전 값을 유지한다.
+ * 가격 로그는 가격이 바뀔 때만 쌓이므로 첫 버킷은 구간 시작 전 마지막 가격으로 채운다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class PriceHistoryService {
+    public static final int MAX_PRODUCTS = 500;
+
+    // 아직 값이 없는 버킷 표시용
+    private static final int EMPTY = Integer.MIN_VALUE;
+
+    private final PriceLogRepository priceLogRepository;
+
+    /**
+     * 조회 구간
+     * @param from 첫 버킷 시작 시간
+     * @param to 마지막 버킷 끝 시간
+     * @param step 버킷 간격(초)
+     * @param points 버킷 수
+     */
+    public record Window(LocalDateTime from, LocalDateTime to, int step, int points) {
+        long fromEpochSecond() {
+            return from.atZone(ZoneId.systemDefault()).toEpochSecond();
+        }
+    }
+
+    /**
+     * 현재 시간 기준 조회 구간 계산<br>
+     * 구간 시작은 해상도 단위로 맞추므로 같은 버킷 안에서는 같은 구간(같은 ETag)이 나온다.
+     * 조회 기간은 해상도별 최대 기간으로 제한하여 시계열 길이가 커지지 않게 한다.
+     * @param days 조회 기간(일)
+     * @param resolution 해상도
+     * @return 조회 구간
+     */
+    public Window window(int days, PriceSeriesResolution resolution) {
+        int clampedDays = Math.max(1, Math.min(days, resolution.getMaxDays()));
+        int step = resolution.getStepSeconds();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime from = now.truncatedTo(resolution.getTruncateUnit()).minusDays(clampedDays);
+        long span = Duration.between(from, now).getSeconds();
+        int points = (int) ((span + step - 1) / step);
+        return new Window(from, from.plusSeconds((long) points * step), step, points);
+    }
+
+    /**
+     * 조회 구간 내 가격 로그의 버전 태그 (ETag 용)<br>
+     * 건수와 마지막 기록 시간만 집계하므로 시계열 전체를 읽지 않고 변경 여부를 판단할 수 있다.
+     * 시계열에 더하는 현재 배송비도 함께 반영하여 배송비만 바뀐 경우에도 버전이 바뀐다.
+     * @param productIds 상품 ID 목록
+     * @param window 조회 구간
+     * @return 버전 태그
+     */
+    @Transactional(readOnly = true)
+    public String versionTag(List<Integer> productIds, Window window) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(window.from()).append('/').append(window.step()).append('/').append(window.points());
+        sb.append('|').append(productIds);
+        for (Object[] row : priceLogRepository.findPriceSeriesVersions(productIds, window.from(), window.to())) {
+            sb.append('|').append(row[0]).append(':').append(row[1]).append(':').append(row[2]);
+        }
+        sb.append('#');
+        for (Object[] row : priceLogRepository.findDeliveryFeeVersions(productIds)) {
+            sb.append('|').append(row[0]).append(':').append(row[1]).append(':').append(row[2]);
+        }
+        return DigestUtils.md5DigestAsHex(sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 여러 상품의 가격 추이 조회 (한 번의 쿼리로 조회)
+     * @param productIds 상품 ID 목록
+     * @param window 조회 구간
+     * @return 상품별 가격 시계열 (요청 순서 유지)
+     */
+    @Transactional(readOnly = true)
+    public List<PriceSeriesDto> getPriceSeries(List<Integer> productIds, Window window) {
+        long fromEpoch = window.fromEpochSecond();
+
+        // 상품 -> 상점 -> 버킷별 가격
+        Map<Integer, Map<Integer, int[]>> bucketsByProduct = new LinkedHashMap<>();
+        Map<Integer, String> shopNames = new LinkedHashMap<>();
+        for (Integer productId : productIds) {
+            bucketsByProduct.put(productId, new LinkedHashMap<>());
+        }
+
+        // 구간 시작 전 마지막 가격을 첫 버킷에 넣어 구간 안에서 가격이 바뀌지 않은 상점도 처음부터 표시
+        List<Object[]> seedRows = priceLogRepository.findPriceSeriesSeedRows(productIds, window.from());
+        for (Object[] row : seedRows) {
+            put(bucketsByProduct, shopNames, row, 0, window);
+        }
+
+        List<Object[]> rows = priceLogRepository.findPriceSeriesRows(productIds, window.from(), window.to());
+        for (Object[] row : rows) {
+            long createdAt = toEpochSecond(row[5]);
+            int index = (int) ((createdAt - fromEpoch) / window.step());
+            if (index < 0 || index >= window.points()) {
+                continue;
+            }
+            // 오래된 순으로 정렬되어 있으므로 버킷의 마지막 가격이 남는다
+            put(bucketsByProduct, shopNames, row, index, window);
+        }
+
+        List<PriceSeriesDto> result = new ArrayList<>();
+        for (Map.Entry<Integer, Map<Integer, int[]>> entry : bucketsByProduct.entrySet()) {
+            result.add(toSeriesDto(entry.getKey(), entry.getValue(), shopNames, window, fromEpoch));
+        }
+
+        log.debug("가격 추이 조회 - 상품 수: {}, 로그 수: {} (+시작 가격 {}), 버킷 수: {}",
+                productIds.size(), rows.size(), seedRows.size(), window.points());
+        return result;
+    }
+
+    /**
+     * (productId, shopId, shopName, price, deliveryFee, createdAt) 행의 배송비 포함 가격을 버킷에 기록
+     */
+    private void put(Map<Integer, Map<Integer, int[]>> bucketsByProduct, Map<Integer, String> shopNames,
+                     Object[] row, int index, Window window) {
+        Integer productId = (Integer) row[0];
+        Integer shopId = (Integer) row[1];
+        shopNames.putIfAbsent(shopId, (String) row[2]);
+        int[] buckets = bucketsByProduct
+                .computeIfAbsent(productId, id -> new LinkedHashMap<>())
+                .computeIfAbsent(shopId, id -> newBuckets(window.points()));
+        buckets[index] = (Integer) row[3] + (Integer) row[4];
+    }
+
+    private PriceSeriesDto toSeriesDto(Integer productId, Map<Integer, int[]> bucketsByShop,
+                                       Map<Integer, String> shopNames, Window window, long fromEpoch) {
+        int points = window.points();
+        int[] min = newBuckets(points);
+        List<PriceSeriesDto.Series> shops = new ArrayList<>();
+
+        for (Map.Entry<Integer, int[]> entry : bucketsByShop.entrySet()) {
+            int[] buckets = entry.getValue();
+            int offset = carryForward(buckets);
+            for (int i = offset; i < points; i++) {
+                if (min[i] == EMPTY || buckets[i] < min[i]) {
+                    min[i] = buckets[i];
+                }
+            }
+            shops.add(toSeries(entry.getKey(), shopNames.get(entry.getKey()), buckets, offset));
+        }
+
+        PriceSeriesDto dto = new PriceSeriesDto();
+        dto.setProductId(productId);
+        dto.setFrom(fromEpoch);
+        dto.setStep(window.step());
+        dto.setPoints(points);
+        dto.setShops(shops);
+        dto.setMin(toSeries(0, null, min, firstFilled(min)));
+        return dto;
+    }
+
+    /**
+     * 값이 없는 버킷을 직전 값으로 채움
+     * @return 첫 값이 있는 버킷 번호 (없으면 버킷 수)
+     */
+    private int carryForward(int[] buckets) {
+        int offset = firstFilled(buckets);
+        for (int i = offset + 1; i < buckets.length; i++) {
+            if (buckets[i] == EMPTY) {
+                buckets[i] = buckets[i - 1];
+            }
+        }
+        return offset;
+    }
+
+    private int firstFilled(int[] buckets) {
+        for (int i = 0; i < buckets.length; i++) {
+            if (buckets[i] != EMPTY) {
+                return i;
+            }
+        }
+        return buckets.length;
+    }
+
+    /**
+     * offset 이후 버킷을 델타 인코딩하여 시계열 생성
+     */
+    private PriceSeriesDto.Series toSeries(int shopId, String shopName, int[] buckets, int offset) {
+        int[] deltas = new int[buckets.length - offset];
+        int previous = 0;
+        for (int i = offset; i < buckets.length; i++) {
+            deltas[i - offset] = buckets[i] - previous;
+            previous = buckets[i];
+        }
+
+        PriceSeriesDto.Series series = new PriceSeriesDto.Series();
+        series.setShopId(shopId);
+        series.setShopName(shopName);
+        series.setOffset(offset);
+        series.setDeltas(deltas);
+        return series;
+    }
+
+    private int[] newBuckets(int points) {
+        int[] buckets = new int[points];
+        Arrays.fill(buckets, EMPTY);
+        return buckets;
+    }
+
+    private long toEpochSecond(Object createdAt) {
+        if (createdAt instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime().atZone(ZoneId.systemDefault()).toEpochSecond();
+        }
+        return ((LocalDateTime) createdAt).atZone(ZoneId.systemDefault()).toEpochSecond();
+    }
+}
@@ -1,10 +1,14 @@
 package com.example.productservice.service;
 
+import com.example.productservice.cache.CacheNames;
+import com.example.productservice.cache.ProductChangedEvent;
 import com.example.productservice.domain.*;
 import com.example.productservice.dto.*;
 import com.example.productservice.repository.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,11 +31,13 @@ public class ProductService {
     private final ReviewRepository reviewRepository;
     private final PriceLogRepository priceLogRepository;
     private final StockRepository stockRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 메인 페이지의 상품 6개 정보 조회 메서드
      * @return 상품정보 (productId, productName, url, description, subName, avgRating, price, shopName)
      */
+    @Cacheable(cacheNames = CacheNames.MAIN_PRODUCTS)
     public  List<Map<String, Object>> mainPageProducts(){
         List<Map<String, Object>> result = new ArrayList<>();
         //대표 상품 아이디 목록
@@ -310,6 +316,7 @@ public class ProductService {
      * @param productId 상품 아이디
      * @return 상품 정보
      */
+    @Cacheable(cacheNames = CacheNames.PRODUCT_DETAIL, key = "#productId")
     public ProductDto isProduct(int productId){
         // 아이디로 상품 조회
         Product product = productRepository.findById(productId).orElse(null);
@@ -462,6 +469,8 @@ public class ProductService {
 
         stock.setAvailable(isAvailable);
         stockRepository.save(stock);
+
+        eventPublisher.publishEvent(ProductChangedEvent.of(productId, ProductChangedEvent.Change.AVAILABILITY));
     }
 
     /**
@@ -494,6 +503,8 @@ public class ProductService {
         }
 
         productRepository.save(product);
+
+        eventPublisher.publishEvent(ProductChangedEvent.of(productId, ProductChangedEvent.Change.PRODUCT));
     }
 
     /**
@@ -527,5 +538,7 @@ public class ProductService {
         // 4. 상품 삭제
         productRepository.delete(product);
         log.info("상품 ID {} 완전 삭제 완료", productId);
+
+        eventPublisher.publishEvent(ProductChangedEvent.of(productId, ProductChangedEvent.Change.DELETED));
     }
 }
@@ -1,9 +1,9 @@
 package com.example.productservice.service;
 
+import com.example.productservice.cache.CatalogSnapshot;
+import com.example.productservice.cache.CatalogSnapshotService;
 import com.example.productservice.domain.*;
 import com.example.productservice.dto.ProductDto;
-import com.example.productservice.dto.SubCategoryDto;
-import com.example.productservice.dto.TopCategoryDto;
 import com.example.productservice.dto.PriceDto;
 import com.example.productservice.dto.ShopDto;
 import com.example.productservice.repository.*;
@@ -29,53 +29,19 @@ public class RecommendationService {
 
     private final UserActivityRepository userActivityRepository;
     private final UserProductScoreRepository userProductScoreRepository;
-    private final ProductRepository productRepository;
     private final PriceRepository priceRepository;
+    private final ItemSimilarityService itemSimilarityService;
+    private final CatalogSnapshotService catalogSnapshotService;
+    private final PopularityService popularityService;
 
     // 점수 가중치
     private static final double CLICK_SCORE = 3.0;
     private static final double FAVORITE_SCORE = 5.0;
 
     /**
-     * 사용자 행동 기록
+     * 행동 타입별 점수 반환 (행동 저장과 점수 누적은 {@link UserActivityIngestionService}가 처리)
      */
-    @Transactional
-    public void recordUserActivity(Long userId, Integer productId, UserActivity.ActivityType activityType) {
-        // 행동 기록 저장
-        UserActivity activity = new UserActivity();
-        activity.setUserId(userId);
-        activity.setProductId(productId);
-        activity.setActivityType(activityType);
-        userActivityRepository.save(activity);
-
-        // 점수 업데이트
-        updateUserProductScore(userId, productId, activityType);
-
-        log.info("User {} performed {} on product {}", userId, activityType, productId);
-    }
-
-    /**
-     * 사용자-상품 점수 업데이트
-     */
-    @Transactional
-    public void updateUserProductScore(Long userId, Integer productId, UserActivity.ActivityType activityType) {
-        double scoreIncrement = getScoreByActivityType(activityType);
-
-        UserProductScore userScore = userProductScoreRepository
-                .findByUserIdAndProductId(userId, productId)
-                .orElse(new UserProductScore());
-
-        userScore.setUserId(userId);
-        userScore.setProductId(productId);
-        userScore.setScore(userScore.getScore() == null ? scoreIncrement : userScore.getScore() + scoreIncrement);
-
-        userProductScoreRepository.save(userScore);
-    }
-
-    /**
-     * 행동 타입별 점수 반환
-     */
-    private double getScoreByActivityType(UserActivity.ActivityType activityType) {
+    static double getScoreByActivityType(UserActivity.ActivityType activityType) {
         return switch (activityType) {
             case CLICK -> CLICK_SCORE;
             case FAVORITE -> FAVORITE_SCORE;
@@ -114,81 +80,74 @@ public class RecommendationService {
     }
 
     /**
-     * Product 엔티티를 ProductDto로 변환
+     * 카탈로그의 상품 번호 목록을 ProductDto 목록으로 변환
+     * 가격 정보는 상품마다 조회하지 않고 한 번에 조회
      */
-    private ProductDto convertToDto(Product product) {
-        if (product == null) {
-            return null;
+    private List<ProductDto> toDtoList(CatalogSnapshot catalog, int[] indexes) {
+        List<ProductDto> dtoList = new ArrayList<>(indexes.length);
+        Map<Integer, List<PriceDto>> pricesByProduct = new HashMap<>();
+        for (int index : indexes) {
+            ProductDto dto = catalog.toDto(index);
+            List<PriceDto> priceDtoList = new ArrayList<>();
+            dto.setPriceDtoList(priceDtoList);
+            pricesByProduct.put(dto.getProductId(), priceDtoList);
+            dtoList.add(dto);
         }
-
-        ProductDto dto = new ProductDto();
-        dto.setProductId(product.getProductId());
-        dto.setProductName(product.getProductName());
-        dto.setBrand(product.getBrand());
-        dto.setDescription(product.getDescription());
-        dto.setAlcoholPercentage(product.getAlcoholPercentage());
-        dto.setVolume(product.getVolume());
-        dto.setUrl(product.getUrl());
-
-        // SubCategory 변환
-        if (product.getSubCategory() != null) {
-            SubCategoryDto subCategoryDto = new SubCategoryDto();
-            subCategoryDto.setSubCategoryId(product.getSubCategory().getSubcategoryId());
-            subCategoryDto.setSubName(product.getSubCategory().getSubName());
-
-            // TopCategory 변환
-            if (product.getSubCategory().getTopCategory() != null) {
-                TopCategoryDto topCategoryDto = new TopCategoryDto();
-                topCategoryDto.setTopCategoryId(product.getSubCategory().getTopCategory().getTopcategoryId());
-                topCategoryDto.setTopName(product.getSubCategory().getTopCategory().getTopName());
-                subCategoryDto.setTopCategoryDto(topCategoryDto);
-            }
-
-            dto.setSubCategoryDto(subCategoryDto);
+        if (dtoList.isEmpty()) {
+            return dtoList;
         }
 
         // Price 정보 추가
         try {
-            List<Object[]> priceList = priceRepository.findByProductId(product.getProductId());
-            List<PriceDto> priceDtoList = new ArrayList<>();
+            List<Object[]> priceList = priceRepository.findByProductIds(new ArrayList<>(pricesByProduct.keySet()));
             for (Object[] price : priceList) {
-                if (price != null && price.length >= 6) {
+                if (price != null && price.length >= 7) {
                     PriceDto priceDto = new PriceDto();
-                    priceDto.setPriceId((Integer) price[0]);
-                    priceDto.setPrice((Integer) price[1]);
-                    priceDto.setDeliveryFee(price[2] != null ? (Integer) price[2] : 0);
-                    priceDto.setLink(price[3] != null ? price[3].toString() : "");
+                    priceDto.setPriceId((Integer) price[1]);
+                    priceDto.setPrice((Integer) price[2]);
+                    priceDto.setDeliveryFee(price[3] != null ? (Integer) price[3] : 0);
+                    priceDto.setLink(price[4] != null ? price[4].toString() : "");
 
                     ShopDto shopDto = new ShopDto();
-                    shopDto.setShopName(price[4] != null ? (String) price[4] : "알 수 없음");
-                    shopDto.setLogoIcon(price[5] != null ? (String) price[5] : "");
+                    shopDto.setShopName(price[5] != null ? (String) price[5] : "알 수 없음");
+                    shopDto.setLogoIcon(price[6] != null ? (String) price[6] : "");
                     priceDto.setShopDto(shopDto);
 
-                    priceDtoList.add(priceDto);
+                    pricesByProduct.get((Integer) price[0]).add(priceDto);
                 }
             }
-            dto.setPriceDtoList(priceDtoList);
         } catch (Exception e) {
-            log.error("Failed to load price info for product {}: {}", product.getProductId(), e.getMessage());
-            dto.setPriceDtoList(new ArrayList<>());
+            log.error("Failed to load price info for products {}: {}", pricesByProduct.keySet(), e.getMessage());
+            pricesByProduct.values().forEach(List::clear);
         }
 
-        return dto;
+        return dtoList;
     }
 
     /**
-     * 사용자 맞춤 추천 상품 조회 (점수 기반)
+     * 사용자 맞춤 추천 상품 조회 (상품-상품 협업 필터링)
+     * 유사 상품이 부족하면(신규 사용자, 유사도 계산 전) 사용자의 점수 상위 상품으로 채움
      */
     @Transactional(readOnly = true)
     public List<ProductDto> getRecommendedProducts(Long userId, int limit) {
         List<UserProductScore> topScores = userProductScoreRepository.findTopProductsByUserId(userId);
 
-        return topScores.stream()
-                .limit(limit)
-                .map(score -> productRepository.findById(score.getProductId()).orElse(null))
-                .filter(Objects::nonNull)
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        List<Integer> productIds = new ArrayList<>(itemSimilarityService.recommend(topScores, limit));
+        for (UserProductScore score : topScores) {
+            if (productIds.size() >= limit) {
+                break;
+            }
+            if (!productIds.contains(score.getProductId())) {
+                productIds.add(score.getProductId());
+            }
+        }
+
+        CatalogSnapshot catalog = catalogSnapshotService.current();
+        int[] indexes = productIds.stream()
+                .mapToInt(catalog::indexOf)
+                .filter(index -> index >= 0)
+                .toArray();
+        return toDtoList(catalog, indexes);
     }
 
     /**
@@ -203,26 +162,27 @@ public class RecommendationService {
             return Collections.emptyList();
         }
 
-      // 상위 점수 상품의 서브카테고리 추출
-      Set<Integer> preferredSubcategoryIds = userScores.stream()
-        .limit(3)
-        .map(score -> productRepository.findById(score.getProductId()).orElse(null))
-        .filter(Objects::nonNull)
-        .map(product -> product.getSubCategory().getSubcategoryId())
-        .collect(Collectors.toSet());
-
-      // 상위 3개 상품만 제외 (나머지는 추천 가능)
-      Set<Integer> topScoredProductIds = userScores.stream()
-        .limit(3)
-        .map(UserProductScore::getProductId)
-        .collect(Collectors.toSet());
-
-      return productRepository.findAll().stream()
-        .filter(product -> preferredSubcategoryIds.contains(product.getSubCategory().getSubcategoryId()))
-        .filter(product -> !topScoredProductIds.contains(product.getProductId()))
-        .limit(limit)
-        .map(this::convertToDto)
-        .collect(Collectors.toList());
+        CatalogSnapshot catalog = catalogSnapshotService.current();
+
+        // 상위 점수 상품의 서브카테고리 추출
+        int[] preferredSubcategoryIds = userScores.stream()
+                .limit(3)
+                .mapToInt(score -> catalog.indexOf(score.getProductId()))
+                .filter(index -> index >= 0)
+                .map(catalog::subCategoryIdOf)
+                .filter(subcategoryId -> subcategoryId >= 0)
+                .distinct()
+                .toArray();
+
+        // 상위 3개 상품만 제외 (나머지는 추천 가능)
+        Set<Integer> topScoredProductIds = userScores.stream()
+                .limit(3)
+                .map(UserProductScore::getProductId)
+                .collect(Collectors.toSet());
+
+        int[] indexes = catalog.firstInSubCategories(preferredSubcategoryIds, limit,
+                index -> topScoredProductIds.contains(catalog.productId(index)));
+        return toDtoList(catalog, indexes);
     }
 
     /**
@@ -250,14 +210,36 @@ public class RecommendationService {
 
     /**
      * 인기상품 추천 (비로그인 사용자용)
-     * 전체 상품 중 상위 N개 반환 (productId 순)
+     * 시간 감쇠 인기도 상위 N개 반환, 부족하면 productId 순으로 채움
      */
     @Transactional(readOnly = true)
     public List<ProductDto> getPopularProducts(int limit) {
-        return productRepository.findAll().stream()
-                .limit(limit)
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        CatalogSnapshot catalog = catalogSnapshotService.current();
+        return toDtoList(catalog, fillInCatalogOrder(catalog, popularityService.top(limit), limit, null));
+    }
+
+    /**
+     * 인기 상품 목록 뒤에 카탈로그 순서(productId 순)로 나머지를 채워 상품 번호 목록 생성
+     * @param subcategoryIds 채울 상품의 서브카테고리 (null이면 전체)
+     */
+    private int[] fillInCatalogOrder(CatalogSnapshot catalog, List<Integer> popularIds, int limit, int[] subcategoryIds) {
+        Set<Integer> chosen = new LinkedHashSet<>();
+        for (Integer productId : popularIds) {
+            int index = catalog.indexOf(productId);
+            if (index >= 0) {
+                chosen.add(index);
+            }
+        }
+        if (chosen.size() < limit) {
+            int remaining = limit - chosen.size();
+            int[] rest = subcategoryIds == null
+                    ? catalog.first(remaining, chosen::contains)
+                    : catalog.firstInSubCategories(subcategoryIds, remaining, chosen::contains);
+            for (int index : rest) {
+                chosen.add(index);
+            }
+        }
+        return chosen.stream().mapToInt(Integer::intValue).toArray();
     }
 
     /**
@@ -284,12 +266,10 @@ public class RecommendationService {
             return getPopularProducts(limit);
         }
 
-        // 선택된 서브카테고리들의 상품 반환
-        return productRepository.findAll().stream()
-                .filter(product -> product.getSubCategory() != null
-                        && categoryIdSet.contains(product.getSubCategory().getSubcategoryId()))
-                .limit(limit)
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        // 선택된 서브카테고리들의 인기 상품 반환 (부족하면 productId 순으로 채움)
+        CatalogSnapshot catalog = catalogSnapshotService.current();
+        int[] categoryIds = categoryIdSet.stream().mapToInt(Integer::intValue).toArray();
+        List<Integer> popularIds = popularityService.topInSubCategories(categoryIds, limit);
+        return toDtoList(catalog, fillInCatalogOrder(catalog, popularIds, limit, categoryIds));
     }
 }
@@ -1,37 +1,38 @@
 package com.example.productservice.service;
 
-import com.example.productservice.repository.ReviewRepository;
-import com.example.productservice.util.LoadKeywordAnalyzer;
+import com.example.productservice.cache.CacheNames;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
 import java.util.Map;
 
 /**
  * 리뷰 분석 서비스
+ * <p>
+ * 리뷰 분석은 리뷰 저장 시점에 {@link ReviewKeywordScoreService}가 미리 집계하며,
+ * 여기서는 저장된 집계만 조회한다. 조회는 집계를 기록하지 않는다.
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ReviewAnalyzeSerivce {
-    private final ReviewRepository reviewRepository;
-    private final LoadKeywordAnalyzer loadKeywordAnalyzer;
+    private final ReviewKeywordScoreService reviewKeywordScoreService;
 
     /**
-     * 특정 상품의 리뷰 내용을 분석하여 점수를 부여하는 메서드
+     * 특정 상품의 리뷰 분석 점수 조회
      * @param productId 상품 아이디
      * @return 맛,바디감,가성비,만족도 점수표
      */
+    @Cacheable(cacheNames = CacheNames.REVIEW_ANALYSIS, key = "#productId")
     public Map<String, Map<String, Integer>> reviewScore(int productId){
-        //특정 상품의 리뷰 내용 목록
-        List<String>commentList= reviewRepository.findCommentsByProductId(productId);
-
-        //리뷰의 존재 확인
-        if(commentList.isEmpty()){
-            return null;
+        Map<String, Map<String, Integer>> scores = reviewKeywordScoreService.findScores(productId);
+        if (scores != null) {
+            return scores;
         }
 
-        //리뷰내용 분석하여 점수화 하는 클래스 초기화
-        return loadKeywordAnalyzer.analyzeReview(commentList);
+        // 집계 도입 이전 리뷰는 시작 시 일괄 집계가 끝날 때까지 저장 없이 분석 (리뷰가 없으면 null)
+        return reviewKeywordScoreService.analyzeComments(productId);
     }
 }
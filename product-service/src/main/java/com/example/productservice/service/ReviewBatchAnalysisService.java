@@ -0,0 +1,299 @@
+package com.example.productservice.service;
+
+import com.example.productservice.repository.ReviewRepository;
+import com.example.productservice.util.KomoranPool;
+import com.example.productservice.util.LoadKeywordAnalyzer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import kr.co.shineware.nlp.komoran.core.Komoran;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 전체 상품 리뷰 병렬 재분석 서비스
+ * <p>
+ * 상품별 리뷰를 일정 크기 묶음(chunk)으로 나눠 작업 스레드에 분배한다.
+ * 각 작업 스레드는 {@link KomoranPool}에서 분석기를 하나씩 빌려 쓰고 (배치 동안 풀을 작업 스레드 수만큼 늘림),
+ * 묶음 결과는 상품별 {@link AtomicIntegerArray}에 잠금 없이 합산된다.
+ * 상품의 마지막 묶음을 끝낸 스레드가 집계를 저장한다.
+ * 집계 도입 이전 리뷰만 있는 상품은 애플리케이션 시작 시 같은 방식으로 한 번 일괄 집계한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReviewBatchAnalysisService {
+    // 작업 스레드 하나가 한 번에 분석하는 리뷰 수
+    private static final int CHUNK_SIZE = 64;
+    // 작업 스레드당 대기 가능한 묶음 수 (리뷰 적재량 제한)
+    private static final int QUEUED_CHUNKS_PER_WORKER = 4;
+
+    private final ReviewRepository reviewRepository;
+    private final ReviewKeywordScoreService reviewKeywordScoreService;
+    private final LoadKeywordAnalyzer loadKeywordAnalyzer;
+    private final KomoranPool komoranPool;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicInteger totalProducts = new AtomicInteger();
+    private final AtomicInteger completedProducts = new AtomicInteger();
+    private final AtomicInteger failedProducts = new AtomicInteger();
+    private final AtomicLong analyzedComments = new AtomicLong();
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile long startedNanos;
+    private volatile long finishedNanos;
+    // 시작 시 일괄 집계할 상품 (집계 도입 이전 리뷰만 있는 상품)
+    private volatile List<Integer> backfillProductIds = List.of();
+
+    private Counter commentCounter;
+
+    @PostConstruct
+    public void init() {
+        registerMetrics();
+        // 웹 서버가 요청을 받기 전에 조회하여, 새 리뷰 누적으로 일부만 집계된 상품이 목록에서 빠지지 않게 함
+        backfillProductIds = reviewRepository.findProductIdsWithoutKeywordScores();
+    }
+
+    private void registerMetrics() {
+        Gauge.builder("review.analysis.batch.running", running, r -> r.get() ? 1 : 0)
+                .description("리뷰 배치 분석 실행 여부")
+                .register(meterRegistry);
+        Gauge.builder("review.analysis.batch.products", totalProducts, AtomicInteger::get)
+                .tag("state", "total")
+                .register(meterRegistry);
+        Gauge.builder("review.analysis.batch.products", completedProducts, AtomicInteger::get)
+                .tag("state", "completed")
+                .register(meterRegistry);
+        Gauge.builder("review.analysis.batch.products", failedProducts, AtomicInteger::get)
+                .tag("state", "failed")
+                .register(meterRegistry);
+        commentCounter = Counter.builder("review.analysis.batch.comments")
+                .description("배치로 분석한 리뷰 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 전체 상품 리뷰 재분석 시작 (백그라운드 실행)
+     * @return 시작 여부 (이미 실행 중이면 false)
+     */
+    public boolean start() {
+        return start(null);
+    }
+
+    /**
+     * 집계 도입 이전 리뷰만 있는 상품 일괄 집계 (시작 시 한 번, 백그라운드 실행)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        List<Integer> productIds = backfillProductIds;
+        backfillProductIds = List.of();
+        if (productIds.isEmpty()) {
+            return;
+        }
+        if (!start(productIds)) {
+            log.warn("리뷰 분석 재집계가 실행 중이어서 시작 시 일괄 집계를 건너뜀 - 상품: {}개", productIds.size());
+        }
+    }
+
+    /**
+     * 상품 리뷰 재분석 시작 (백그라운드 실행)
+     * @param productIds 분석할 상품 목록 (null이면 리뷰가 있는 전체 상품)
+     * @return 시작 여부 (이미 실행 중이면 false)
+     */
+    private boolean start(List<Integer> productIds) {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        totalProducts.set(0);
+        completedProducts.set(0);
+        failedProducts.set(0);
+        analyzedComments.set(0);
+        startedAt = LocalDateTime.now();
+        finishedAt = null;
+        startedNanos = System.nanoTime();
+
+        Thread.ofPlatform().name("review-batch-dispatcher").start(() -> run(productIds));
+        return true;
+    }
+
+    /**
+     * 진행 상황 조회
+     * @return 실행 여부, 상품/리뷰 처리 수, 초당 처리 리뷰 수
+     */
+    public Map<String, Object> status() {
+        long end = running.get() ? System.nanoTime() : finishedNanos;
+        double seconds = startedAt == null ? 0 : (end - startedNanos) / 1_000_000_000.0;
+
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("running", running.get());
+        status.put("workers", komoranPool.size());
+        status.put("totalProducts", totalProducts.get());
+        status.put("completedProducts", completedProducts.get());
+        status.put("failedProducts", failedProducts.get());
+        status.put("analyzedComments", analyzedComments.get());
+        status.put("commentsPerSecond", seconds > 0 ? Math.round(analyzedComments.get() / seconds) : 0);
+        status.put("startedAt", startedAt);
+        status.put("finishedAt", finishedAt);
+        return status;
+    }
+
+    private void run(List<Integer> targetProductIds) {
+        int workers = komoranPool.size();
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(workers,
+                r -> Thread.ofPlatform().name("review-batch-" + threadNumber.incrementAndGet()).unstarted(r));
+        Semaphore queuedChunks = new Semaphore(workers * QUEUED_CHUNKS_PER_WORKER);
+
+        try {
+            komoranPool.open();
+            List<Integer> productIds = targetProductIds != null
+                    ? targetProductIds
+                    : reviewRepository.findReviewedProductIds();
+            totalProducts.set(productIds.size());
+            log.info("리뷰 배치 분석 시작 - 상품: {}개, 작업 스레드: {}개", productIds.size(), workers);
+
+            for (Integer productId : productIds) {
+                // 리뷰와 저장된 집계를 같은 시점에 읽어 두고, 저장 시에는 그 차이만 더함
+                ReviewKeywordScoreService.Snapshot snapshot = reviewKeywordScoreService.snapshot(productId);
+                List<String> comments = snapshot.comments().stream()
+                        .filter(Objects::nonNull)
+                        .toList();
+                submitProduct(productId, comments, snapshot.scores(), executor, queuedChunks);
+            }
+
+            executor.shutdown();
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("리뷰 배치 분석 중단");
+        } catch (Exception e) {
+            log.error("리뷰 배치 분석 실패: {}", e.getMessage(), e);
+        } finally {
+            executor.shutdownNow();
+            // 진행 중인 묶음이 저장까지 끝난 뒤에 종료 표시를 하여 다음 재집계와 겹치지 않게 함
+            awaitWorkers(executor);
+            komoranPool.close();
+            finishedNanos = System.nanoTime();
+            finishedAt = LocalDateTime.now();
+            running.set(false);
+            log.info("리뷰 배치 분석 종료 - {}", status());
+        }
+    }
+
+    /**
+     * 작업 스레드 종료 대기 (중단 요청을 받아도 작업 스레드가 끝날 때까지 기다림)
+     */
+    private void awaitWorkers(ExecutorService executor) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                if (executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                    break;
+                }
+                log.warn("리뷰 배치 작업 스레드 종료 대기 중");
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 상품 하나의 리뷰를 묶음으로 나누어 작업 스레드에 제출
+     */
+    private void submitProduct(int productId, List<String> comments, Map<String, Map<String, Integer>> baseline,
+                               ExecutorService executor, Semaphore queuedChunks) throws InterruptedException {
+        AtomicIntegerArray totals = new AtomicIntegerArray(loadKeywordAnalyzer.slotCount());
+        if (comments.isEmpty()) {
+            complete(productId, baseline, totals, false);
+            return;
+        }
+
+        int chunkCount = (comments.size() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        AtomicInteger remainingChunks = new AtomicInteger(chunkCount);
+        AtomicBoolean failed = new AtomicBoolean(false);
+
+        for (int from = 0; from < comments.size(); from += CHUNK_SIZE) {
+            List<String> chunk = comments.subList(from, Math.min(from + CHUNK_SIZE, comments.size()));
+            // 대기 묶음이 가득 차면 작업 스레드가 따라올 때까지 대기
+            queuedChunks.acquire();
+            executor.execute(() -> {
+                try {
+                    analyzeChunk(chunk, totals);
+                } catch (Exception e) {
+                    failed.set(true);
+                    log.error("리뷰 묶음 분석 실패 - productId: {}, 에러: {}", productId, e.getMessage(), e);
+                } finally {
+                    queuedChunks.release();
+                    // 마지막 묶음을 끝낸 스레드가 저장
+                    if (remainingChunks.decrementAndGet() == 0) {
+                        complete(productId, baseline, totals, failed.get());
+                    }
+                }
+            });
+        }
+    }
+
+    private void analyzeChunk(List<String> chunk, AtomicIntegerArray totals) throws InterruptedException {
+        Komoran komoran = komoranPool.borrow();
+        try {
+            // 스레드 내부에서 먼저 합산한 뒤 공유 배열에는 slot당 한 번만 더함
+            int[] local = new int[totals.length()];
+            for (String comment : chunk) {
+                int[] scores = loadKeywordAnalyzer.scoreComment(komoran, comment);
+                for (int slot = 0; slot < local.length; slot++) {
+                    local[slot] += scores[slot];
+                }
+            }
+            for (int slot = 0; slot < local.length; slot++) {
+                if (local[slot] != 0) {
+                    totals.addAndGet(slot, local[slot]);
+                }
+            }
+            analyzedComments.addAndGet(chunk.size());
+            commentCounter.increment(chunk.size());
+        } finally {
+            komoranPool.release(komoran);
+        }
+    }
+
+    private void complete(int productId, Map<String, Map<String, Integer>> baseline,
+                          AtomicIntegerArray totals, boolean failed) {
+        if (failed) {
+            failedProducts.incrementAndGet();
+            return;
+        }
+        int[] result = new int[totals.length()];
+        for (int slot = 0; slot < result.length; slot++) {
+            result[slot] = totals.get(slot);
+        }
+        try {
+            reviewKeywordScoreService.replaceScores(productId, baseline, result);
+            completedProducts.incrementAndGet();
+        } catch (Exception e) {
+            failedProducts.incrementAndGet();
+            log.error("리뷰 집계 저장 실패 - productId: {}, 에러: {}", productId, e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.example.productservice.service;
+
+import com.example.productservice.cache.ProductChangedEvent;
+import com.example.productservice.domain.ReviewKeywordScore;
+import com.example.productservice.repository.ReviewKeywordScoreRepository;
+import com.example.productservice.repository.ReviewRepository;
+import com.example.productservice.util.LoadKeywordAnalyzer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상품별 리뷰 키워드 집계 저장 서비스
+ * <p>
+ * 새 리뷰는 저장될 때 한 번만 형태소 분석하여 집계에 더하고,
+ * 조회 API는 저장된 집계만 읽는다. 키워드 사전이 바뀌면 {@link #rebuildProduct(int)}로 다시 집계한다.
+ * 집계 도입 이전 리뷰는 {@link ReviewBatchAnalysisService}가 시작 시 한 번 일괄 집계한다.
+ * 모든 점수 기록은 (product_id, category, label) 유니크 키 기준 upsert로 하여 동시 기록에도 행이 중복되지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReviewKeywordScoreService {
+    private final ReviewKeywordScoreRepository reviewKeywordScoreRepository;
+    private final ReviewRepository reviewRepository;
+    private final LoadKeywordAnalyzer loadKeywordAnalyzer;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 새로 저장된 리뷰를 분석하여 상품 집계에 누적<br>
+     * 집계가 아직 없는 상품도 새 리뷰만 누적하며, 이전 리뷰는 시작 시 일괄 집계에서 더해진다.
+     * @param productId 상품 아이디
+     * @param comments 새 리뷰 내용 목록
+     */
+    @Transactional
+    public void addReviews(int productId, List<String> comments) {
+        if (comments.isEmpty()) {
+            return;
+        }
+
+        store(productId, loadKeywordAnalyzer.analyzeReview(comments));
+        log.debug("리뷰 키워드 집계 누적 - productId: {}, 리뷰 수: {}", productId, comments.size());
+    }
+
+    /**
+     * 저장된 상품 집계 조회
+     * @param productId 상품 아이디
+     * @return 분석표, 아직 집계되지 않았으면 null
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Map<String, Integer>> findScores(int productId) {
+        List<ReviewKeywordScore> rows = reviewKeywordScoreRepository.findByProductId(productId);
+        if (rows.isEmpty()) {
+            return null;
+        }
+
+        Map<String, Map<String, Integer>> result = loadKeywordAnalyzer.newScoreTable();
+        for (ReviewKeywordScore row : rows) {
+            Map<String, Integer> category = result.get(row.getCategory());
+            // 사전에서 빠진 항목/키워드는 무시 (재집계 전까지)
+            if (category != null && category.containsKey(row.getLabel())) {
+                category.put(row.getLabel(), row.getScore());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 집계가 없는 상품의 전체 리뷰를 저장하지 않고 분석 (일괄 집계가 끝나기 전 조회용)
+     * @param productId 상품 아이디
+     * @return 분석표, 리뷰가 없으면 null
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Map<String, Integer>> analyzeComments(int productId) {
+        List<String> comments = reviewRepository.findCommentsByProductId(productId);
+        if (comments.isEmpty()) {
+            return null;
+        }
+        return loadKeywordAnalyzer.analyzeReview(comments);
+    }
+
+    /**
+     * 재집계 기준 시점의 리뷰 내용과 저장된 집계
+     * @param comments 리뷰 내용 목록
+     * @param scores 같은 시점에 저장되어 있던 점수 (항목 -> 대표 키워드 -> 점수)
+     */
+    public record Snapshot(List<String> comments, Map<String, Map<String, Integer>> scores) {
+    }
+
+    /**
+     * 재집계용으로 리뷰 내용과 저장된 집계를 같은 시점 기준으로 조회<br>
+     * 리뷰 저장과 집계 누적은 한 트랜잭션에서 일어나므로, 한 스냅샷에서 읽은 집계에는
+     * 정확히 함께 읽은 리뷰들의 누적만 들어 있다.
+     * @param productId 상품 아이디
+     * @return 리뷰 내용과 저장된 집계
+     */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public Snapshot snapshot(int productId) {
+        Map<String, Map<String, Integer>> scores = new HashMap<>();
+        for (ReviewKeywordScore row : reviewKeywordScoreRepository.findByProductId(productId)) {
+            scores.computeIfAbsent(row.getCategory(), category -> new HashMap<>()).put(row.getLabel(), row.getScore());
+        }
+        return new Snapshot(reviewRepository.findCommentsByProductId(productId), scores);
+    }
+
+    /**
+     * 상품의 전체 리뷰를 다시 분석하여 집계를 교체 (키워드 사전 변경 시)
+     * @param productId 상품 아이디
+     * @return 새 분석표, 리뷰가 없으면 null
+     */
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public Map<String, Map<String, Integer>> rebuildProduct(int productId) {
+        Snapshot snapshot = snapshot(productId);
+        Map<String, Map<String, Integer>> result = loadKeywordAnalyzer.analyzeReview(snapshot.comments());
+        applyScores(productId, snapshot.scores(), result);
+
+        log.debug("리뷰 키워드 재집계 - productId: {}, 리뷰 수: {}", productId, snapshot.comments().size());
+        return snapshot.comments().isEmpty() ? null : result;
+    }
+
+    /**
+     * 미리 계산된 점수로 상품 집계를 교체 (병렬 배치 분석 결과 저장용)
+     * @param productId 상품 아이디
+     * @param baseline 분석한 리뷰와 같은 시점의 저장된 집계 ({@link #snapshot(int)})
+     * @param totals 대표 키워드(slot)별 점수
+     */
+    @Transactional
+    public void replaceScores(int productId, Map<String, Map<String, Integer>> baseline, int[] totals) {
+        applyScores(productId, baseline, loadKeywordAnalyzer.toScoreTable(totals));
+    }
+
+    /**
+     * 스냅샷 시점 집계와 새 분석표의 차이만 upsert로 더함<br>
+     * 행을 지우고 다시 쓰지 않으므로, 스냅샷 이후 저장된 리뷰의 누적({@link #addReviews})이 그대로 남는다.
+     */
+    private void applyScores(int productId, Map<String, Map<String, Integer>> baseline,
+                             Map<String, Map<String, Integer>> result) {
+        for (Map.Entry<String, Map<String, Integer>> category : result.entrySet()) {
+            Map<String, Integer> stored = baseline.getOrDefault(category.getKey(), Map.of());
+            for (Map.Entry<String, Integer> label : category.getValue().entrySet()) {
+                Integer previous = stored.get(label.getKey());
+                // 행이 없으면 0점이라도 생성하여 집계 완료 상태를 표시
+                if (previous == null || previous != label.getValue().intValue()) {
+                    int delta = label.getValue() - (previous == null ? 0 : previous);
+                    reviewKeywordScoreRepository.addScore(productId, category.getKey(), label.getKey(), delta);
+                }
+            }
+        }
+
+        // 사전에서 빠진 대표 키워드 행 삭제 (누적 대상이 아니므로 동시 기록과 겹치지 않음)
+        for (Map.Entry<String, Map<String, Integer>> category : baseline.entrySet()) {
+            Map<String, Integer> labels = result.getOrDefault(category.getKey(), Map.of());
+            for (String label : category.getValue().keySet()) {
+                if (!labels.containsKey(label)) {
+                    reviewKeywordScoreRepository.deleteScore(productId, category.getKey(), label);
+                }
+            }
+        }
+
+        // 커밋 후 리뷰 분석 캐시 무효화
+        eventPublisher.publishEvent(ProductChangedEvent.of(productId, ProductChangedEvent.Change.REVIEW));
+    }
+
+    /**
+     * 분석표의 점수를 상품 집계에 더함 (없는 행은 생성)
+     */
+    private void store(int productId, Map<String, Map<String, Integer>> result) {
+        for (Map.Entry<String, Map<String, Integer>> category : result.entrySet()) {
+            for (Map.Entry<String, Integer> label : category.getValue().entrySet()) {
+                // 0점도 기록하여 집계 완료 상태를 표시
+                reviewKeywordScoreRepository.addScore(productId, category.getKey(), label.getKey(), label.getValue());
+            }
+        }
+    }
+}
@@ -0,0 +1,283 @@
+package com.example.productservice.service;
+
+import com.example.productservice.domain.UserActivity;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자 행동 비동기 저장(write-behind) 서비스
+ * <p>
+ * API 요청은 행동 이벤트를 제한된 크기의 큐에 넣고 바로 응답한다.
+ * 저장 스레드는 큐에서 이벤트를 묶음으로 꺼내 같은 (사용자, 상품)의 점수 증가분을 합친 뒤,
+ * 한 트랜잭션에서 행동 기록 저장과 점수 upsert({@code score = score + ?})를 JDBC batch로 수행한다.
+ * (행동 기록은 IDENTITY 키라서 JPA saveAll로는 batch insert가 되지 않음)
+ * 일시적인 DB 오류는 묶음 전체를 잠시 후 다시 저장하고, 그 밖의 실패는 한 건씩 저장하여 잘못된 행만 제외한다.
+ * 큐가 가득 차면 요청을 거절하여(503) 저장 속도 이상으로 메모리가 늘지 않게 하고,
+ * 종료 시에는 새 요청을 막은 뒤 남은 이벤트를 모두 저장한다.
+ */
+@Slf4j
+@Service
+public class UserActivityIngestionService {
+    private static final String INSERT_ACTIVITY_SQL =
+            "INSERT INTO user_activity (user_id, product_id, activity_type, created_at) VALUES (?, ?, ?, ?)";
+    // 갱신 절에 바인딩 변수가 없어야 드라이버가 여러 행 INSERT로 합칠 수 있음
+    private static final String ADD_SCORE_SQL =
+            "INSERT INTO user_product_score (user_id, product_id, score) VALUES (?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE score = score + VALUES(score)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PopularityService popularityService;
+    private final MeterRegistry meterRegistry;
+
+    private final BlockingQueue<ActivityEvent> queue;
+    private final int batchSize;
+    private final long lingerMillis;
+    private final long offerTimeoutMillis;
+    private final long shutdownTimeoutMillis;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+
+    private volatile boolean accepting = true;
+    private Thread writer;
+
+    private Counter acceptedCounter;
+    private Counter rejectedCounter;
+    private Counter flushedCounter;
+    private Counter retriedCounter;
+    private Counter failedCounter;
+
+    private record ActivityEvent(Long userId, Integer productId, UserActivity.ActivityType activityType,
+                                 LocalDateTime occurredAt) {
+    }
+
+    private record ScoreKey(Long userId, Integer productId) {
+    }
+
+    public UserActivityIngestionService(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            PopularityService popularityService,
+            MeterRegistry meterRegistry,
+            @Value("${recommendation.activity.queue-capacity:10000}") int queueCapacity,
+            @Value("${recommendation.activity.batch-size:500}") int batchSize,
+            @Value("${recommendation.activity.linger-ms:200}") long lingerMillis,
+            @Value("${recommendation.activity.offer-timeout-ms:50}") long offerTimeoutMillis,
+            @Value("${recommendation.activity.shutdown-timeout-ms:10000}") long shutdownTimeoutMillis,
+            @Value("${recommendation.activity.max-attempts:3}") int maxAttempts,
+            @Value("${recommendation.activity.retry-backoff-ms:1000}") long retryBackoffMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.popularityService = popularityService;
+        this.meterRegistry = meterRegistry;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.lingerMillis = lingerMillis;
+        this.offerTimeoutMillis = offerTimeoutMillis;
+        this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMillis = retryBackoffMillis;
+    }
+
+    @PostConstruct
+    public void start() {
+        Gauge.builder("recommendation.activity.queue.size", queue, BlockingQueue::size)
+                .description("저장 대기 중인 사용자 행동 수")
+                .register(meterRegistry);
+        acceptedCounter = eventCounter("accepted");
+        rejectedCounter = eventCounter("rejected");
+        flushedCounter = eventCounter("flushed");
+        retriedCounter = eventCounter("retried");
+        failedCounter = eventCounter("failed");
+
+        writer = Thread.ofPlatform().name("user-activity-writer").start(this::runWriter);
+    }
+
+    /**
+     * 저장 스레드 종료 - 새 요청을 막고 큐에 남은 이벤트를 모두 저장할 때까지 대기
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        accepting = false;
+        writer.join(shutdownTimeoutMillis);
+        if (writer.isAlive()) {
+            log.warn("사용자 행동 저장 종료 대기 시간 초과 - 미저장 이벤트: {}개", queue.size());
+            writer.interrupt();
+        }
+    }
+
+    /**
+     * 사용자 행동 접수
+     * @param userId 사용자 아이디
+     * @param productId 상품 아이디
+     * @param activityType 행동 타입
+     * @return 접수 여부 (큐가 가득 차 있거나 종료 중이면 false)
+     */
+    public boolean submit(Long userId, Integer productId, UserActivity.ActivityType activityType) {
+        if (!accepting) {
+            rejectedCounter.increment();
+            return false;
+        }
+
+        ActivityEvent event = new ActivityEvent(userId, productId, activityType, LocalDateTime.now());
+        try {
+            // 큐가 가득 차면 잠시만 기다리고 거절 (요청 스레드를 오래 붙잡지 않음)
+            if (queue.offer(event, offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                acceptedCounter.increment();
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        rejectedCounter.increment();
+        return false;
+    }
+
+    private void runWriter() {
+        List<ActivityEvent> batch = new ArrayList<>(batchSize);
+        while (accepting || !queue.isEmpty()) {
+            try {
+                ActivityEvent first = queue.poll(lingerMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                fill(batch);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+        log.info("사용자 행동 저장 스레드 종료 - 미저장 이벤트: {}개", queue.size());
+    }
+
+    /**
+     * 첫 이벤트 이후 linger 시간 동안 묶음을 채움 (같은 키의 증가분을 더 많이 합치기 위함)
+     */
+    private void fill(List<ActivityEvent> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+        while (batch.size() < batchSize) {
+            if (queue.drainTo(batch, batchSize - batch.size()) > 0) {
+                continue;
+            }
+            long remaining = deadline - System.nanoTime();
+            // 종료 중에는 기다리지 않고 바로 저장
+            if (remaining <= 0 || !accepting) {
+                return;
+            }
+            ActivityEvent next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    /**
+     * 묶음 저장 - 일시적인 오류는 잠시 후 묶음 전체를 다시 저장하고,
+     * 그 밖의 오류(또는 재시도 소진)는 한 건씩 저장하여 잘못된 행만 제외
+     */
+    private void flush(List<ActivityEvent> batch) throws InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            List<UserActivity> activities;
+            try {
+                activities = write(batch);
+            } catch (TransientDataAccessException | RecoverableDataAccessException e) {
+                if (attempt >= maxAttempts) {
+                    log.warn("사용자 행동 저장 재시도 소진, 개별 저장으로 전환 - 이벤트: {}개, 에러: {}", batch.size(), e.getMessage());
+                    break;
+                }
+                retriedCounter.increment(batch.size());
+                log.warn("사용자 행동 저장 일시 실패, {}ms 후 재시도 ({}/{}) - 에러: {}",
+                        retryBackoffMillis * attempt, attempt, maxAttempts, e.getMessage());
+                // 재시도 동안 큐가 차면 접수를 거절하여(503) 요청 수를 늦춤
+                Thread.sleep(retryBackoffMillis * attempt);
+                continue;
+            } catch (Exception e) {
+                log.warn("사용자 행동 묶음 저장 실패, 개별 저장으로 전환 - 이벤트: {}개, 에러: {}", batch.size(), e.getMessage());
+                break;
+            }
+            // 커밋된 행동만 인기도에 반영
+            popularityService.recordAll(activities);
+            flushedCounter.increment(batch.size());
+            return;
+        }
+
+        for (ActivityEvent event : batch) {
+            List<UserActivity> activities;
+            try {
+                activities = write(List.of(event));
+            } catch (Exception e) {
+                failedCounter.increment();
+                log.error("사용자 행동 저장 실패로 제외 - {}, 에러: {}", event, e.getMessage(), e);
+                continue;
+            }
+            popularityService.recordAll(activities);
+            flushedCounter.increment();
+        }
+    }
+
+    /**
+     * 행동 기록 INSERT와 점수 upsert를 한 트랜잭션에서 JDBC batch로 실행
+     * @return 저장된 행동 목록
+     */
+    private List<UserActivity> write(List<ActivityEvent> events) {
+        Map<ScoreKey, Double> increments = new LinkedHashMap<>();
+        List<Object[]> activityRows = new ArrayList<>(events.size());
+        List<UserActivity> activities = new ArrayList<>(events.size());
+
+        for (ActivityEvent event : events) {
+            activityRows.add(new Object[]{event.userId(), event.productId(), event.activityType().name(),
+                    Timestamp.valueOf(event.occurredAt())});
+
+            UserActivity activity = new UserActivity();
+            activity.setUserId(event.userId());
+            activity.setProductId(event.productId());
+            activity.setActivityType(event.activityType());
+            activity.setCreatedAt(event.occurredAt());
+            activities.add(activity);
+
+            increments.merge(new ScoreKey(event.userId(), event.productId()),
+                    RecommendationService.getScoreByActivityType(event.activityType()), Double::sum);
+        }
+
+        List<Object[]> scoreRows = new ArrayList<>(increments.size());
+        increments.forEach((key, delta) -> scoreRows.add(new Object[]{key.userId(), key.productId(), delta}));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(INSERT_ACTIVITY_SQL, activityRows);
+            jdbcTemplate.batchUpdate(ADD_SCORE_SQL, scoreRows);
+        });
+        log.debug("사용자 행동 저장 - 이벤트: {}개, 점수 upsert: {}개", events.size(), increments.size());
+        return activities;
+    }
+
+    private Counter eventCounter(String result) {
+        return Counter.builder("recommendation.activity.events")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.productservice.util;
+
+import kr.co.shineware.nlp.komoran.constant.DEFAULT_MODEL;
+import kr.co.shineware.nlp.komoran.core.Komoran;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Komoran 인스턴스 풀
+ * <p>
+ * Komoran 인스턴스는 스레드 간 공유를 보장하지 않으므로 모든 형태소 분석은 인스턴스를 빌려 쓰고 반납한다.
+ * 평소에는 공용 인스턴스(Komoran 빈) 하나만 두고, 모델 메모리가 크기 때문에 배치 작업 동안에만
+ * {@link #open()}으로 작업 스레드 수만큼 늘렸다가 {@link #close()}로 해제한다.
+ */
+@Slf4j
+@Component
+public class KomoranPool {
+    private final int size;
+    private final Komoran shared;
+    private final BlockingQueue<Komoran> idle;
+    // 배치 작업용으로 추가한 인스턴스 (해제 후 반납되는 인스턴스는 버림)
+    private final Set<Komoran> extras = ConcurrentHashMap.newKeySet();
+
+    public KomoranPool(Komoran komoran, @Value("${review.analysis.batch.max-analyzers:4}") int maxAnalyzers) {
+        this.size = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), maxAnalyzers));
+        this.shared = komoran;
+        this.idle = new ArrayBlockingQueue<>(size);
+        idle.add(komoran);
+    }
+
+    /**
+     * 배치 작업 시 풀 크기 (= 배치 작업 스레드 수)
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 배치 작업용 분석기 인스턴스 추가 생성
+     */
+    public synchronized void open() {
+        if (!extras.isEmpty()) {
+            return;
+        }
+        for (int i = 1; i < size; i++) {
+            Komoran komoran = new Komoran(DEFAULT_MODEL.FULL);
+            extras.add(komoran);
+            idle.add(komoran);
+        }
+        log.info("Komoran 풀 확장 - 인스턴스: {}개", size);
+    }
+
+    /**
+     * 배치 작업용 분석기 인스턴스 해제 (GC 대상, 공용 인스턴스는 유지)
+     */
+    public synchronized void close() {
+        extras.clear();
+        idle.removeIf(komoran -> komoran != shared);
+        log.info("Komoran 풀 축소 - 공용 인스턴스만 유지");
+    }
+
+    /**
+     * 분석기 대여 (모두 사용 중이면 대기)
+     */
+    public Komoran borrow() throws InterruptedException {
+        return idle.take();
+    }
+
+    /**
+     * 분석기 반납
+     */
+    public void release(Komoran komoran) {
+        if (komoran == shared || extras.contains(komoran)) {
+            idle.offer(komoran);
+        }
+    }
+}
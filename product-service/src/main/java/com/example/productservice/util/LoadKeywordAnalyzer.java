@@ -10,30 +10,37 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * 리뷰 키워드 분석기
+ * <p>
+ * 시작 시 네 가지 키워드 사전(맛, 바디감, 가성비, 만족도)을 형태소 단위 해시 인덱스로 컴파일하고,
+ * 리뷰 하나는 한 번만 형태소 분석하여 모든 항목을 한 번의 토큰 순회로 점수화한다.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class LoadKeywordAnalyzer {
-    private final Komoran komoran;
-    private final Map<String, List<String>> keywordMorphemeCache = new ConcurrentHashMap<>();
+    private final KomoranPool komoranPool;
 
     //일반적 키워드
-    private static final Set<String> STOPWORDS = Set.of("잘", "매우", "진짜", "정말","좋","없","또","가격");
+    static final Set<String> STOPWORDS = Set.of("잘", "매우", "진짜", "정말","좋","없","또","가격");
     // 제외 키워드
-    private static final List<String> SERVICE_KEYWORDS = Arrays.asList(
+    static final Set<String> SERVICE_KEYWORDS = Set.of(
         "배송", "택배", "직원", "서비스", "일처리", "응대",
         "매장", "가게", "상점", "결혼식", "픽업", "이동하기"
     );
 
     // 제품 관련 키워드
-    private static final List<String> PRODUCT_KEYWORDS = Arrays.asList(
+    static final Set<String> PRODUCT_KEYWORDS = Set.of(
         "맛", "향", "느낌", "술", "와인", "위스키", "맥주", "소주", "막걸리",
         "목넘김", "바디", "풍미", "여운", "도수", "알콜", "탄산",
         "한잔", "마시", "음용", "시음", "맛보", "포장상태", "병", "선물용"
     );
 
+    // 키워드 앞뒤로 문맥을 확인할 형태소 수
+    static final int CONTEXT_WINDOW = 3;
+
     // 맛 평가
     private final Map<String, List<String>> flavorKeywords = new LinkedHashMap<>();
     // 바디감 평가
@@ -43,6 +50,17 @@ public class LoadKeywordAnalyzer {
     // 만족도 평가
     private final Map<String, List<String>> satisfactionKeywords = new LinkedHashMap<>();
 
+    // 컴파일된 매칭 인덱스 (init 이후 읽기 전용)
+    // slot : 항목/대표 키워드 한 칸 (예: 맛/단맛이 나요)
+    private String[] slotCategories;
+    private String[] slotLabels;
+    // keyword : 사전의 키워드 하나 (대표 키워드별로 따로 번호를 가짐)
+    private int[] keywordSlots;
+    private String[] keywordFirstMorphs;
+    private int[] keywordLengths;
+    // 형태소 원형 -> 그 형태소를 포함하는 키워드 번호 목록
+    private Map<String, int[]> keywordIdsByMorph;
+
     /**
      * 맛표현 키워드
      */
@@ -88,86 +106,138 @@ public class LoadKeywordAnalyzer {
         loadBodyKeywords();
         loadValueKeywords();
         loadSatisfactionKeywords();
+        compileMatcher();
     }
 
-
     /**
-     * 각 카테고리별로 키워드를 찾아 점수화하는 메서드<br>
-     * 키워드 발견 시 1점씩 부여
-     * @param comment 리뷰 내용
-     * @param keywordMap 키워드
-     * @return 점수
+     * 항목별 키워드 사전 (분석표 순서)
      */
-    private Map<String, Integer> analyzeCategory(String comment, Map<String, List<String>> keywordMap) {
-        return analyzeCategoryWithMorpheme(comment, keywordMap);
+    Map<String, Map<String, List<String>>> categoryKeywords() {
+        Map<String, Map<String, List<String>>> categories = new LinkedHashMap<>();
+        categories.put("맛", flavorKeywords);
+        categories.put("바디감", bodyKeywords);
+        categories.put("가성비", valueKeywords);
+        categories.put("만족도", satisfactionKeywords);
+        return categories;
     }
 
     /**
-     * 형태소 분석 기반 카테고리 분석
+     * 모든 키워드를 형태소 분석하여 형태소 -> 키워드 해시 인덱스를 만드는 메서드
      */
-    private Map<String, Integer> analyzeCategoryWithMorpheme(String comment, Map<String, List<String>> keywordMap) {
-        Map<String, Integer> scores = new LinkedHashMap<>();
-
-        //형태소 분석 수행
-        KomoranResult result = komoran.analyze(comment);
-        List<Token> tokens = result.getTokenList();
-
-        // 형태소 원형 추출
-        List<String> morphemes = new ArrayList<>();
-        for (Token token : tokens) {
-            if (STOPWORDS.contains(token.getMorph())) continue; // 감탄사 제외
-            String pos = token.getPos(); // 품사
-            String morph = token.getMorph(); // 형태소 원형
-
-            // NNG(일반명사), NNP(고유명사), VA(형용사), VV(동사), MAG(일반부사) 추출
-            if (pos.startsWith("NN") || pos.startsWith("VA") || pos.startsWith("VV") || pos.equals("MAG")) {
-                morphemes.add(morph);
+    private void compileMatcher() {
+        List<String> categories = new ArrayList<>();
+        List<String> labels = new ArrayList<>();
+        List<Integer> slots = new ArrayList<>();
+        List<String> firstMorphs = new ArrayList<>();
+        List<Integer> lengths = new ArrayList<>();
+        Map<String, List<Integer>> index = new HashMap<>();
+
+        Komoran analyzer = borrowAnalyzer();
+        try {
+            for (Map.Entry<String, Map<String, List<String>>> category : categoryKeywords().entrySet()) {
+                for (Map.Entry<String, List<String>> label : category.getValue().entrySet()) {
+                    int slot = labels.size();
+                    categories.add(category.getKey());
+                    labels.add(label.getKey());
+
+                    for (String keyword : label.getValue()) {
+                        // 키워드도 형태소 분석하여 원형 추출
+                        List<String> keywordMorphemes = extractMorphemes(analyzer, keyword);
+                        if (keywordMorphemes.isEmpty()) {
+                            continue;
+                        }
+                        int keywordId = slots.size();
+                        slots.add(slot);
+                        firstMorphs.add(keywordMorphemes.get(0));
+                        lengths.add(keywordMorphemes.size());
+                        for (String morph : new LinkedHashSet<>(keywordMorphemes)) {
+                            index.computeIfAbsent(morph, m -> new ArrayList<>()).add(keywordId);
+                        }
+                    }
+                }
             }
+        } finally {
+            komoranPool.release(analyzer);
         }
 
-        log.debug("형태소 분석 결과: {}", morphemes);
+        slotCategories = categories.toArray(new String[0]);
+        slotLabels = labels.toArray(new String[0]);
+        keywordSlots = slots.stream().mapToInt(Integer::intValue).toArray();
+        keywordFirstMorphs = firstMorphs.toArray(new String[0]);
+        keywordLengths = lengths.stream().mapToInt(Integer::intValue).toArray();
 
-        // 각 카테고리별로 형태소 매칭
-        for (String category : keywordMap.keySet()) {
-            int count = 0;
+        Map<String, int[]> compiled = new HashMap<>();
+        index.forEach((morph, ids) -> compiled.put(morph, ids.stream().mapToInt(Integer::intValue).toArray()));
+        keywordIdsByMorph = compiled;
 
-            for (String keyword : keywordMap.get(category)) {
-                // 키워드도 형태소 분석하여 원형 추출
-                List<String> keywordMorphemes = keywordMorphemeCache.computeIfAbsent(keyword, this::extractMorphemes);
+        log.debug("키워드 매처 컴파일 완료 - 대표 키워드: {}개, 키워드: {}개, 형태소: {}개",
+                slotLabels.length, keywordSlots.length, keywordIdsByMorph.size());
+    }
 
-                // 형태소 리스트에서 키워드 원형 찾기
-                for (String keywordMorph : keywordMorphemes) {
+    /**
+     * 주어진 형태소 분석기로 리뷰 하나를 모든 항목에 대해 점수화하는 메서드<br>
+     * 키워드의 형태소 중 하나라도 리뷰에 있고 제품 문맥이면 해당 대표 키워드에 1점 (키워드당 최대 1점)
+     * @param analyzer {@link KomoranPool}에서 빌린 형태소 분석기
+     * @param comment 리뷰 내용
+     * @return 대표 키워드(slot)별 점수
+     */
+    public int[] scoreComment(Komoran analyzer, String comment) {
+        int[] scores = new int[slotLabels.length];
 
-                    if (morphemes.contains(keywordMorph)) {
-                        // 문맥 확인
-                        if (isProductContextByKeyword(keywordMorphemes, tokens)) {
-                            count++;
-                            log.debug("포함: '{}' (원형: '{}', 카테고리: {})", keyword, keywordMorph, category);
-                            break; // 같은 키워드 중복 카운트 방지
-                        }
-                    }
+        //형태소 분석 수행 (리뷰당 1회)
+        KomoranResult result = analyzer.analyze(comment);
+        List<Token> tokens = result.getTokenList();
+        int size = tokens.size();
+
+        // 형태소별 첫 등장 위치와 제품/서비스 키워드 누적 개수 (문맥 확인을 O(1)로 하기 위함)
+        Map<String, Integer> firstIndex = new HashMap<>(size * 2);
+        int[] productPrefix = new int[size + 1];
+        int[] servicePrefix = new int[size + 1];
+        boolean[] matched = new boolean[keywordSlots.length];
+
+        for (int i = 0; i < size; i++) {
+            Token token = tokens.get(i);
+            String morph = token.getMorph(); // 형태소 원형
+            firstIndex.putIfAbsent(morph, i);
+            productPrefix[i + 1] = productPrefix[i] + (PRODUCT_KEYWORDS.contains(morph) ? 1 : 0);
+            servicePrefix[i + 1] = servicePrefix[i] + (SERVICE_KEYWORDS.contains(morph) ? 1 : 0);
+
+            if (STOPWORDS.contains(morph) || !isMeaningful(token.getPos())) continue; // 감탄사 제외
+            int[] keywordIds = keywordIdsByMorph.get(morph);
+            if (keywordIds != null) {
+                for (int keywordId : keywordIds) {
+                    matched[keywordId] = true;
                 }
             }
-            scores.put(category, count);
         }
 
+        for (int keywordId = 0; keywordId < matched.length; keywordId++) {
+            if (matched[keywordId] && isProductContext(keywordId, firstIndex, productPrefix, servicePrefix, size)) {
+                scores[keywordSlots[keywordId]]++;
+                log.debug("포함: '{}' (카테고리: {})", keywordFirstMorphs[keywordId], slotLabels[keywordSlots[keywordId]]);
+            }
+        }
         return scores;
     }
 
+    /**
+     * NNG(일반명사), NNP(고유명사), VA(형용사), VV(동사), MAG(일반부사) 여부
+     */
+    private boolean isMeaningful(String pos) {
+        return pos.startsWith("NN") || pos.startsWith("VA") || pos.startsWith("VV") || pos.equals("MAG");
+    }
+
     /**
      * 키워드의 형태소 원형 추출
      */
-    private List<String> extractMorphemes(String keyword) {
+    private List<String> extractMorphemes(Komoran analyzer, String keyword) {
         List<String> morphemes = new ArrayList<>();
-        KomoranResult result = komoran.analyze(keyword);
+        KomoranResult result = analyzer.analyze(keyword);
 
         for (Token token : result.getTokenList()) {
-            String pos = token.getPos();
-            String morph = token.getMorph();
-
             // 의미있는 품사만 추출
-            if (pos.startsWith("NN") || pos.startsWith("VA") || pos.startsWith("VV") || pos.equals("MAG")) {
-                morphemes.add(morph);
+            if (isMeaningful(token.getPos())) {
+                morphemes.add(token.getMorph());
             }
         }
 
@@ -180,22 +250,68 @@ public class LoadKeywordAnalyzer {
      * @return 리뷰 분석표
      */
     public Map<String, Map<String, Integer>> analyzeReview(List<String> commentList) {
+        // 결과 누적용 점수 배열
+        int[] totals = new int[slotLabels.length];
+
+        // 리뷰 목록만큼 반복 (목록 단위로 분석기를 한 번 빌림)
+        Komoran analyzer = borrowAnalyzer();
+        try {
+            for (String comment : commentList) {
+                int[] scores = scoreComment(analyzer, comment);
+                for (int slot = 0; slot < totals.length; slot++) {
+                    totals[slot] += scores[slot];
+                }
+            }
+        } finally {
+            komoranPool.release(analyzer);
+        }
+
+        Map<String, Map<String, Integer>> result = toScoreTable(totals);
+        log.debug("리뷰 분석 결과 {}",result);
+        return result;
+    }
+
+    /**
+     * 풀에서 형태소 분석기 대여 (반납은 호출한 쪽에서 finally로 처리)
+     */
+    private Komoran borrowAnalyzer() {
+        try {
+            return komoranPool.borrow();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("형태소 분석기 대기 중 중단되었습니다.", e);
+        }
+    }
+
+    /**
+     * 대표 키워드(slot)별 점수를 분석표로 변환
+     * @param totals slot별 점수
+     * @return 맛,바디감,가성비,만족도 분석표
+     */
+    public Map<String, Map<String, Integer>> toScoreTable(int[] totals) {
+        Map<String, Map<String, Integer>> result = newScoreTable();
+        for (int slot = 0; slot < totals.length; slot++) {
+            result.get(slotCategories[slot]).put(slotLabels[slot], totals[slot]);
+        }
+        return result;
+    }
+
+    /**
+     * 대표 키워드(slot) 수
+     */
+    public int slotCount() {
+        return slotLabels.length;
+    }
 
-        // 결과 누적용 맵 초기화
+    /**
+     * 모든 점수가 0인 분석표 생성 (항목/키워드 순서 유지)
+     * @return 맛,바디감,가성비,만족도 분석표
+     */
+    public Map<String, Map<String, Integer>> newScoreTable() {
         Map<String, Map<String, Integer>> result = new LinkedHashMap<>();
-        result.put("맛", initScoreMap(flavorKeywords));
-        result.put("바디감", initScoreMap(bodyKeywords));
-        result.put("가성비", initScoreMap(valueKeywords));
-        result.put("만족도", initScoreMap(satisfactionKeywords));
-
-        // 리뷰 목록만큼 반복
-        for (String comment : commentList) {
-            mergeScores(result.get("맛"), analyzeCategory(comment, flavorKeywords));
-            mergeScores(result.get("바디감"), analyzeCategory(comment, bodyKeywords));
-            mergeScores(result.get("가성비"), analyzeCategory(comment, valueKeywords));
-            mergeScores(result.get("만족도"), analyzeCategory(comment, satisfactionKeywords));
+        for (Map.Entry<String, Map<String, List<String>>> category : categoryKeywords().entrySet()) {
+            result.put(category.getKey(), initScoreMap(category.getValue()));
         }
-        log.debug("리뷰 분석 결과 {}",result);
         return result;
     }
 
@@ -213,40 +329,21 @@ public class LoadKeywordAnalyzer {
     }
 
     /**
-     *  각 리뷰의 점수를 전체 점수에 누적
-     * */
-    private void mergeScores(Map<String, Integer> total, Map<String, Integer> current) {
-        //카테고리 별 대표 키워드만큼 반복
-        for (String key : current.keySet()) {
-            //전체 대표 키워드별 점수 합산
-            total.put(key, total.getOrDefault(key, 0) + current.get(key));
-        }
-    }
-
-    private boolean isProductContextByKeyword(List<String> keywordMorphemes, List<Token> tokens) {
+     * 키워드 주변(앞 3개, 뒤 키워드 길이 + 3개 형태소)이 제품 문맥인지 확인
+     * 제품 키워드 있으면 제품으로 판단, 없고 서비스만 있으면 제외
+     */
+    private boolean isProductContext(int keywordId, Map<String, Integer> firstIndex,
+                                     int[] productPrefix, int[] servicePrefix, int size) {
         // 키워드가 등장하는 위치 찾기 (첫 형태소 기준)
-        int index = -1;
-        for (int i = 0; i < tokens.size(); i++) {
-            if (tokens.get(i).getMorph().equals(keywordMorphemes.get(0))) {
-                index = i;
-                break;
-            }
-        }
-        if (index == -1) return false;
+        Integer index = firstIndex.get(keywordFirstMorphs[keywordId]);
+        if (index == null) return false;
 
-        int start = Math.max(0, index - 3); // 앞 3개 형태소
-        int end = Math.min(tokens.size(), index + keywordMorphemes.size() + 3); // 뒤 3개 형태소
+        int start = Math.max(0, index - CONTEXT_WINDOW);
+        int end = Math.min(size, index + keywordLengths[keywordId] + CONTEXT_WINDOW);
 
-        boolean hasProduct = false;
-        boolean hasService = false;
-
-        for (int i = start; i < end; i++) {
-            String morph = tokens.get(i).getMorph();
-            if (PRODUCT_KEYWORDS.contains(morph)) hasProduct = true;
-            if (SERVICE_KEYWORDS.contains(morph)) hasService = true;
-        }
+        boolean hasProduct = productPrefix[end] - productPrefix[start] > 0;
+        boolean hasService = servicePrefix[end] - servicePrefix[start] > 0;
 
-        // 제품 키워드 있으면 제품으로 판단, 없고 서비스만 있으면 제외
         return hasProduct || !hasService;
     }
 }
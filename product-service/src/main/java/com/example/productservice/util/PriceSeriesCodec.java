@@ -0,0 +1,137 @@
+package com.example.productservice.util;
+
+import com.example.productservice.dto.PriceSeriesDto;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 가격 추이 시계열 바이너리 인코더/디코더<br>
+ * 모든 정수는 zigzag varint로 기록하며 델타 배열은 대부분 0이므로 버킷당 1바이트 내외가 된다.
+ * <pre>
+ * version, productCount,
+ *   { productId, from, step, points, seriesCount,
+ *     { shopId, shopName(length + UTF-8), offset, length, deltas... } }
+ * </pre>
+ * 최저가 시계열은 각 상품의 첫 번째 시계열이며 shopId 0, 빈 상점명으로 기록된다.
+ */
+public final class PriceSeriesCodec {
+    public static final String MEDIA_TYPE = "application/vnd.jupiter.price-series";
+    private static final int VERSION = 1;
+
+    private PriceSeriesCodec() {
+    }
+
+    /**
+     * 가격 추이 목록을 바이너리로 인코딩
+     * @param seriesList 상품별 가격 추이
+     * @return 인코딩된 바이트 배열
+     */
+    public static byte[] encode(List<PriceSeriesDto> seriesList) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeVarLong(out, VERSION);
+        writeVarLong(out, seriesList.size());
+        for (PriceSeriesDto dto : seriesList) {
+            writeVarLong(out, dto.getProductId());
+            writeVarLong(out, dto.getFrom());
+            writeVarLong(out, dto.getStep());
+            writeVarLong(out, dto.getPoints());
+            writeVarLong(out, dto.getShops().size() + 1L);
+            writeSeries(out, dto.getMin());
+            for (PriceSeriesDto.Series series : dto.getShops()) {
+                writeSeries(out, series);
+            }
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 바이너리를 가격 추이 목록으로 디코딩 ({@link #encode(List)}의 역변환)
+     * @param bytes 인코딩된 바이트 배열
+     * @return 상품별 가격 추이
+     */
+    public static List<PriceSeriesDto> decode(byte[] bytes) {
+        ByteBuffer in = ByteBuffer.wrap(bytes);
+        int version = (int) readVarLong(in);
+        if (version != VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 가격 추이 인코딩 버전입니다: " + version);
+        }
+        int productCount = (int) readVarLong(in);
+        List<PriceSeriesDto> seriesList = new ArrayList<>(productCount);
+        for (int i = 0; i < productCount; i++) {
+            PriceSeriesDto dto = new PriceSeriesDto();
+            dto.setProductId((int) readVarLong(in));
+            dto.setFrom(readVarLong(in));
+            dto.setStep((int) readVarLong(in));
+            dto.setPoints((int) readVarLong(in));
+            int seriesCount = (int) readVarLong(in);
+            dto.setMin(readSeries(in));
+            List<PriceSeriesDto.Series> shops = new ArrayList<>(seriesCount - 1);
+            for (int j = 1; j < seriesCount; j++) {
+                shops.add(readSeries(in));
+            }
+            dto.setShops(shops);
+            seriesList.add(dto);
+        }
+        return seriesList;
+    }
+
+    private static void writeSeries(ByteArrayOutputStream out, PriceSeriesDto.Series series) {
+        writeVarLong(out, series.getShopId());
+        byte[] name = series.getShopName() == null
+                ? new byte[0]
+                : series.getShopName().getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, name.length);
+        out.write(name, 0, name.length);
+        writeVarLong(out, series.getOffset());
+        writeVarLong(out, series.getDeltas().length);
+        for (int delta : series.getDeltas()) {
+            writeVarLong(out, delta);
+        }
+    }
+
+    private static PriceSeriesDto.Series readSeries(ByteBuffer in) {
+        PriceSeriesDto.Series series = new PriceSeriesDto.Series();
+        series.setShopId((int) readVarLong(in));
+        byte[] name = new byte[(int) readVarLong(in)];
+        in.get(name);
+        series.setShopName(name.length == 0 ? null : new String(name, StandardCharsets.UTF_8));
+        series.setOffset((int) readVarLong(in));
+        int[] deltas = new int[(int) readVarLong(in)];
+        for (int i = 0; i < deltas.length; i++) {
+            deltas[i] = (int) readVarLong(in);
+        }
+        series.setDeltas(deltas);
+        return series;
+    }
+
+    /**
+     * zigzag 변환 후 7비트 단위 varint로 기록
+     */
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        long zigzag = (value << 1) ^ (value >> 63);
+        while ((zigzag & ~0x7FL) != 0) {
+            out.write((int) ((zigzag & 0x7F) | 0x80));
+            zigzag >>>= 7;
+        }
+        out.write((int) zigzag);
+    }
+
+    /**
+     * 7비트 단위 varint를 읽어 zigzag 역변환
+     */
+    private static long readVarLong(ByteBuffer in) {
+        long zigzag = 0;
+        int shift = 0;
+        int b;
+        do {
+            b = in.get() & 0xFF;
+            zigzag |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return (zigzag >>> 1) ^ -(zigzag & 1);
+    }
+}
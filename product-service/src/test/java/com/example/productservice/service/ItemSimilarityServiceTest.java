@@ -0,0 +1,138 @@
+package com.example.productservice.service;
+
+import com.example.productservice.domain.UserProductScore;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class ItemSimilarityServiceTest {
+    private static final float EPSILON = 1e-5f;
+
+    @Test
+    void buildMatchesDenseCosineReference() {
+        // 작업 단위(64개)를 넘도록 상품 수를 잡아 병렬 구간 경계도 검사
+        List<Object[]> rows = randomRows(new Random(42), 120, 150, 0.08);
+        assertMatchesReference(rows, 10);
+    }
+
+    @Test
+    void buildKeepsAllNeighborsWhenKExceedsItemCount() {
+        List<Object[]> rows = randomRows(new Random(7), 20, 12, 0.4);
+        assertMatchesReference(rows, 50);
+    }
+
+    @Test
+    void buildHandlesItemsWithoutCoRatings() {
+        List<Object[]> rows = List.of(
+                row(1, 10, 3.0),
+                row(2, 20, 5.0));
+
+        ItemSimilarityService.SimilarityIndex index = service(5).build(rows);
+
+        assertThat(index.productIds()).containsExactly(10, 20);
+        assertThat(index.neighbors()[0]).isEmpty();
+        assertThat(index.neighbors()[1]).isEmpty();
+    }
+
+    @Test
+    void recommendSumsWeightedNeighborsAndSkipsOwnedItems() {
+        // 사용자 1, 2는 상품 10, 20을 함께 보고 사용자 2만 30도 봄
+        List<Object[]> rows = List.of(
+                row(1, 10, 3.0), row(1, 20, 3.0),
+                row(2, 10, 3.0), row(2, 20, 3.0), row(2, 30, 5.0),
+                row(3, 40, 5.0));
+        ItemSimilarityService service = service(5);
+        ItemSimilarityService.SimilarityIndex index = service.build(rows);
+
+        List<Integer> result = service.recommend(index, List.of(score(10, 3.0)), 10);
+
+        // 20은 30보다 10과 더 비슷하고, 겹치는 사용자가 없는 40은 추천되지 않음
+        assertThat(result).containsExactly(20, 30);
+        assertThat(service.recommend(index, List.of(score(10, 3.0), score(20, 3.0)), 10)).containsExactly(30);
+        assertThat(service.recommend(index, List.of(score(10, 3.0)), 1)).containsExactly(20);
+        assertThat(service.recommend(index, List.of(score(999, 3.0)), 10)).isEmpty();
+    }
+
+    private void assertMatchesReference(List<Object[]> rows, int neighborCount) {
+        ItemSimilarityService.SimilarityIndex index = service(neighborCount).build(rows);
+
+        long[] userIds = rows.stream().mapToLong(r -> ((Number) r[0]).longValue()).sorted().distinct().toArray();
+        int[] productIds = rows.stream().mapToInt(r -> ((Number) r[1]).intValue()).sorted().distinct().toArray();
+        double[][] dense = new double[productIds.length][userIds.length];
+        for (Object[] row : rows) {
+            int item = Arrays.binarySearch(productIds, ((Number) row[1]).intValue());
+            int user = Arrays.binarySearch(userIds, ((Number) row[0]).longValue());
+            dense[item][user] = Math.log1p(((Number) row[2]).doubleValue());
+        }
+
+        assertThat(index.productIds()).containsExactly(productIds);
+        for (int item = 0; item < productIds.length; item++) {
+            double[] reference = new double[productIds.length];
+            List<Integer> expected = new ArrayList<>();
+            for (int other = 0; other < productIds.length; other++) {
+                if (other != item && dot(dense[item], dense[other]) > 0) {
+                    reference[other] = dot(dense[item], dense[other])
+                            / (Math.sqrt(dot(dense[item], dense[item])) * Math.sqrt(dot(dense[other], dense[other])));
+                    expected.add(other);
+                }
+            }
+            expected.sort(Comparator.comparingDouble((Integer other) -> reference[other]).reversed());
+            List<Integer> topK = expected.subList(0, Math.min(neighborCount, expected.size()));
+
+            int[] neighbors = index.neighbors()[item];
+            float[] similarities = index.similarities()[item];
+            assertThat(neighbors).hasSize(topK.size());
+            for (int k = 0; k < neighbors.length; k++) {
+                // 같은 유사도의 이웃은 순서가 바뀔 수 있으므로 순위별 유사도와 이웃의 참값을 비교
+                assertThat(similarities[k]).isCloseTo((float) reference[topK.get(k)], within(EPSILON));
+                assertThat(similarities[k]).isCloseTo((float) reference[neighbors[k]], within(EPSILON));
+            }
+        }
+    }
+
+    private List<Object[]> randomRows(Random random, int userCount, int itemCount, double density) {
+        List<Object[]> rows = new ArrayList<>();
+        for (int user = 0; user < userCount; user++) {
+            for (int item = 0; item < itemCount; item++) {
+                if (random.nextDouble() < density) {
+                    // 아이디는 연속되지 않게 하여 내부 번호 변환도 검사
+                    rows.add(row(1000L + user * 13L, 100 + item * 7, 1 + random.nextInt(20)));
+                }
+            }
+        }
+        // 조회 순서에 의존하지 않는지 확인
+        Collections.shuffle(rows, random);
+        return rows;
+    }
+
+    private double dot(double[] a, double[] b) {
+        double sum = 0;
+        for (int i = 0; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+
+    private ItemSimilarityService service(int neighborCount) {
+        return new ItemSimilarityService(null, neighborCount);
+    }
+
+    private Object[] row(long userId, int productId, double score) {
+        return new Object[]{userId, productId, score};
+    }
+
+    private UserProductScore score(int productId, double score) {
+        UserProductScore userScore = new UserProductScore();
+        userScore.setProductId(productId);
+        userScore.setScore(score);
+        return userScore;
+    }
+}
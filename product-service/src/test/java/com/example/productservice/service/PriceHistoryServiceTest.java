@@ -0,0 +1,109 @@
+package com.example.productservice.service;
+
+import com.example.productservice.dto.PriceSeriesDto;
+import com.example.productservice.repository.PriceLogRepository;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PriceHistoryServiceTest {
+    private static final LocalDateTime FROM = LocalDateTime.of(2026, 1, 1, 0, 0);
+    private static final int STEP = 3600;
+    private static final int POINTS = 24;
+    private static final PriceHistoryService.Window WINDOW =
+            new PriceHistoryService.Window(FROM, FROM.plusHours(POINTS), STEP, POINTS);
+
+    private final PriceLogRepository priceLogRepository = mock(PriceLogRepository.class);
+    private final PriceHistoryService service = new PriceHistoryService(priceLogRepository);
+
+    @Test
+    void stablePriceFillsWholeWindowFromLastLogBeforeWindow() {
+        // 구간 안에 로그가 없고 사흘 전에 기록된 가격만 있음
+        stub(List.of(1),
+                List.<Object[]>of(row(1, 10, "A", 10000, 2500, FROM.minusDays(3))),
+                List.of());
+
+        PriceSeriesDto dto = service.getPriceSeries(List.of(1), WINDOW).get(0);
+
+        assertThat(dto.getShops()).hasSize(1);
+        PriceSeriesDto.Series shop = dto.getShops().get(0);
+        assertThat(shop.getOffset()).isZero();
+        assertThat(decode(shop)).containsOnly(12500).hasSize(POINTS);
+        assertThat(dto.getMin().getOffset()).isZero();
+        assertThat(decode(dto.getMin())).containsOnly(12500).hasSize(POINTS);
+    }
+
+    @Test
+    void windowLogsOverrideStartingPriceFromTheirBucket() {
+        // 상점 10은 구간 전 가격에서 5시간 30분에 내려가고, 상점 20은 10시간에 처음 기록됨
+        stub(List.of(1),
+                List.<Object[]>of(row(1, 10, "A", 10000, 0, FROM.minusDays(1))),
+                List.<Object[]>of(
+                        row(1, 10, "A", 9000, 0, FROM.plusMinutes(330)),
+                        row(1, 20, "B", 8000, 0, FROM.plusHours(10))));
+
+        PriceSeriesDto dto = service.getPriceSeries(List.of(1), WINDOW).get(0);
+
+        PriceSeriesDto.Series shopA = dto.getShops().get(0);
+        assertThat(shopA.getShopId()).isEqualTo(10);
+        assertThat(shopA.getOffset()).isZero();
+        assertThat(decode(shopA)).containsExactly(expected(0, 5, 10000, 9000));
+
+        PriceSeriesDto.Series shopB = dto.getShops().get(1);
+        assertThat(shopB.getShopId()).isEqualTo(20);
+        assertThat(shopB.getOffset()).isEqualTo(10);
+        assertThat(decode(shopB)).containsOnly(8000).hasSize(POINTS - 10);
+
+        int[] min = expected(0, 5, 10000, 9000);
+        Arrays.fill(min, 10, POINTS, 8000);
+        assertThat(decode(dto.getMin())).containsExactly(min);
+    }
+
+    @Test
+    void productWithoutLogsHasEmptySeries() {
+        stub(List.of(1, 2),
+                List.<Object[]>of(row(1, 10, "A", 10000, 0, FROM.minusDays(1))),
+                List.of());
+
+        List<PriceSeriesDto> result = service.getPriceSeries(List.of(1, 2), WINDOW);
+
+        assertThat(result).extracting(PriceSeriesDto::getProductId).containsExactly(1, 2);
+        assertThat(result.get(1).getShops()).isEmpty();
+        assertThat(result.get(1).getMin().getOffset()).isEqualTo(POINTS);
+        assertThat(result.get(1).getMin().getDeltas()).isEmpty();
+    }
+
+    private void stub(List<Integer> productIds, List<Object[]> seedRows, List<Object[]> rows) {
+        when(priceLogRepository.findPriceSeriesSeedRows(productIds, FROM)).thenReturn(seedRows);
+        when(priceLogRepository.findPriceSeriesRows(productIds, FROM, WINDOW.to())).thenReturn(rows);
+    }
+
+    // start 버킷부터 change 버킷 전까지 before, 이후 after
+    private int[] expected(int start, int change, int before, int after) {
+        int[] values = new int[POINTS - start];
+        Arrays.fill(values, 0, change - start, before);
+        Arrays.fill(values, change - start, values.length, after);
+        return values;
+    }
+
+    private int[] decode(PriceSeriesDto.Series series) {
+        int[] values = new int[series.getDeltas().length];
+        int previous = 0;
+        for (int i = 0; i < values.length; i++) {
+            previous += series.getDeltas()[i];
+            values[i] = previous;
+        }
+        return values;
+    }
+
+    private Object[] row(int productId, int shopId, String shopName, int price, int deliveryFee, LocalDateTime createdAt) {
+        return new Object[]{productId, shopId, shopName, price, deliveryFee, Timestamp.valueOf(createdAt)};
+    }
+}
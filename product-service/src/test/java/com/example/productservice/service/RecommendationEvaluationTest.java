@@ -0,0 +1,351 @@
+package com.example.productservice.service;
+
+import com.example.productservice.cache.CatalogSnapshot;
+import com.example.productservice.cache.CatalogSnapshotService;
+import com.example.productservice.domain.UserActivity;
+import com.example.productservice.domain.UserProductScore;
+import com.example.productservice.dto.ProductDto;
+import com.example.productservice.repository.PriceRepository;
+import com.example.productservice.repository.UserActivityRepository;
+import com.example.productservice.repository.UserProductScoreRepository;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 추천 오프라인 평가
+ * <p>
+ * 합성 데이터에서 사용자별로 가장 최근에 처음 본 상품 N개를 정답으로 떼어두고, 나머지 행동만으로 상품 유사도를 계산한 뒤
+ * {@link RecommendationService#getRecommendedProducts}를 그대로 호출하여 precision@k, recall@k를 구한다.
+ * 저장소와 카탈로그는 메모리 데이터를 돌려주는 mock으로 대신하며, 비교 기준으로 인기순 추천도 함께 평가한다.
+ * 추천 요청별 응답 시간(p50/p99)과 요청당 메모리 할당량도 측정하여 넉넉한 상한으로 회귀를 확인한다.
+ */
+class RecommendationEvaluationTest {
+    private static final Logger log = LoggerFactory.getLogger(RecommendationEvaluationTest.class);
+
+    // JIT 워밍업용 추천 호출 수
+    private static final int WARMUP_REQUESTS = 200;
+    // 회귀 감지용 상한 (CI 편차를 감안해 넉넉하게 잡음, mock 호출 비용 포함)
+    private static final double MAX_P99_MICROS = 50_000;
+    private static final long MAX_ALLOCATED_BYTES_PER_REQUEST = 8L * 1024 * 1024;
+    private static final int NEIGHBOR_COUNT = 20;
+
+    private record Interaction(long userId, int productId, UserActivity.ActivityType activityType, long time) {
+    }
+
+    /**
+     * 합성 데이터 규모 (생성 시 범위 검사)
+     * @param users 사용자 수
+     * @param products 상품 수
+     * @param subCategories 하위 카테고리 수
+     * @param activitiesPerUser 사용자당 평균 행동 수
+     * @param seed 난수 시드 (같은 시드면 같은 데이터)
+     */
+    record SyntheticSpec(int users, int products, int subCategories, int activitiesPerUser, long seed) {
+        // 사용자당 행동 수는 평균의 최대 2배까지 생성되므로 전체 행동 수 상한으로 메모리 사용량을 제한
+        static final long MAX_INTERACTIONS = 5_000_000;
+
+        SyntheticSpec {
+            requireRange("users", users, 1, 100_000);
+            requireRange("products", products, 1, 100_000);
+            requireRange("subCategories", subCategories, 1, products);
+            requireRange("activitiesPerUser", activitiesPerUser, 1, 1_000);
+            if ((long) users * activitiesPerUser * 2 > MAX_INTERACTIONS) {
+                throw new IllegalArgumentException("users * activitiesPerUser * 2 must be at most " + MAX_INTERACTIONS);
+            }
+        }
+    }
+
+    /**
+     * 평가 결과
+     * @param p50Micros 추천 요청 응답 시간 p50 (마이크로초)
+     * @param p99Micros 추천 요청 응답 시간 p99 (마이크로초)
+     * @param allocatedBytesPerRequest 요청당 메모리 할당량 (스레드별 할당량 측정을 지원하지 않는 JVM이면 -1)
+     */
+    private record Report(int evaluatedUsers, double itemPrecision, double itemRecall,
+                          double popularPrecision, double popularRecall,
+                          double p50Micros, double p99Micros, long allocatedBytesPerRequest) {
+    }
+
+    @Test
+    void itemBasedRecommendationBeatsPopularityBaseline() {
+        Report report = evaluate(new SyntheticSpec(500, 600, 12, 20, 42), 10, 1);
+
+        assertThat(report.evaluatedUsers()).isGreaterThan(400);
+        assertThat(report.itemPrecision()).isGreaterThan(report.popularPrecision());
+        assertThat(report.itemRecall()).isGreaterThan(report.popularRecall());
+        assertThat(report.p99Micros()).isLessThan(MAX_P99_MICROS);
+        if (report.allocatedBytesPerRequest() >= 0) {
+            assertThat(report.allocatedBytesPerRequest()).isLessThan(MAX_ALLOCATED_BYTES_PER_REQUEST);
+        }
+    }
+
+    @Test
+    void syntheticSpecRejectsOutOfRangeSizes() {
+        assertThatThrownBy(() -> new SyntheticSpec(0, 100, 10, 10, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SyntheticSpec(100, 100, 0, 10, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SyntheticSpec(100, 100, 200, 10, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        // 각 값은 범위 안이지만 전체 행동 수가 상한을 넘음
+        assertThatThrownBy(() -> new SyntheticSpec(100_000, 1_000, 10, 1_000, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> evaluate(new SyntheticSpec(10, 10, 1, 1, 1), 0, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Report evaluate(SyntheticSpec spec, int k, int holdout) {
+        requireRange("k", k, 1, 100);
+        requireRange("holdout", holdout, 1, 10);
+
+        List<Interaction> interactions = synthesize(spec);
+
+        // 사용자별 행동 (시간 순)
+        Map<Long, List<Interaction>> byUser = new LinkedHashMap<>();
+        interactions.stream()
+                .sorted((a, b) -> Long.compare(a.time(), b.time()))
+                .forEach(interaction -> byUser.computeIfAbsent(interaction.userId(), id -> new ArrayList<>()).add(interaction));
+
+        List<Object[]> trainingRows = new ArrayList<>();
+        Map<Integer, Double> trainingPopularity = new HashMap<>();
+        List<Long> evalUsers = new ArrayList<>();
+        Map<Long, List<UserProductScore>> trainingByUser = new HashMap<>();
+        Map<Long, Set<Integer>> heldOutByUser = new HashMap<>();
+
+        for (Map.Entry<Long, List<Interaction>> entry : byUser.entrySet()) {
+            Long userId = entry.getKey();
+            // 처음 본 순서대로의 상품 목록, 마지막 holdout개가 정답
+            List<Integer> firstSeen = new ArrayList<>(new LinkedHashSet<>(
+                    entry.getValue().stream().map(Interaction::productId).toList()));
+            boolean eligible = firstSeen.size() >= holdout + 2;
+            Set<Integer> heldOut = eligible
+                    ? new HashSet<>(firstSeen.subList(firstSeen.size() - holdout, firstSeen.size()))
+                    : Set.of();
+
+            Map<Integer, Double> scores = new LinkedHashMap<>();
+            for (Interaction interaction : entry.getValue()) {
+                if (!heldOut.contains(interaction.productId())) {
+                    scores.merge(interaction.productId(),
+                            RecommendationService.getScoreByActivityType(interaction.activityType()), Double::sum);
+                }
+            }
+
+            List<UserProductScore> userScores = new ArrayList<>(scores.size());
+            scores.forEach((productId, score) -> {
+                trainingRows.add(new Object[]{userId, productId, score});
+                trainingPopularity.merge(productId, score, Double::sum);
+                UserProductScore userScore = new UserProductScore();
+                userScore.setUserId(userId);
+                userScore.setProductId(productId);
+                userScore.setScore(score);
+                userScores.add(userScore);
+            });
+            // 실제 조회와 같은 점수 내림차순
+            userScores.sort((a, b) -> Double.compare(b.getScore(), a.getScore()));
+            trainingByUser.put(userId, userScores);
+
+            if (eligible) {
+                evalUsers.add(userId);
+                heldOutByUser.put(userId, heldOut);
+            }
+        }
+
+        RecommendationService recommendationService = recommendationService(spec, trainingRows, trainingByUser);
+
+        List<Integer> popularOrder = trainingPopularity.entrySet().stream()
+                .sorted(Map.Entry.<Integer, Double>comparingByValue().reversed())
+                .map(Map.Entry::getKey)
+                .toList();
+
+        // 워밍업
+        for (int i = 0; i < Math.min(WARMUP_REQUESTS, evalUsers.size()); i++) {
+            recommendationService.getRecommendedProducts(evalUsers.get(i), k);
+        }
+
+        // 요청 스레드의 할당량은 HotSpot 확장 ThreadMXBean으로 측정 (지원하지 않으면 생략)
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        com.sun.management.ThreadMXBean allocationBean = threadBean instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled() ? bean : null;
+        long threadId = Thread.currentThread().threadId();
+        long allocatedBytes = 0;
+
+        long[] latencies = new long[evalUsers.size()];
+        double itemPrecision = 0, itemRecall = 0, popularPrecision = 0, popularRecall = 0;
+
+        for (int u = 0; u < evalUsers.size(); u++) {
+            Long userId = evalUsers.get(u);
+            Set<Integer> heldOut = heldOutByUser.get(userId);
+
+            long allocatedBefore = allocationBean == null ? 0 : allocationBean.getThreadAllocatedBytes(threadId);
+            long started = System.nanoTime();
+            List<ProductDto> products = recommendationService.getRecommendedProducts(userId, k);
+            latencies[u] = System.nanoTime() - started;
+            if (allocationBean != null) {
+                allocatedBytes += allocationBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+            }
+            List<Integer> recommended = products.stream().map(ProductDto::getProductId).toList();
+
+            int hits = countHits(recommended, heldOut);
+            itemPrecision += (double) hits / k;
+            itemRecall += (double) hits / heldOut.size();
+
+            // 인기순 기준: 이미 본 상품 제외 후 상위 k개
+            Set<Integer> seen = new HashSet<>();
+            trainingByUser.get(userId).forEach(score -> seen.add(score.getProductId()));
+            List<Integer> popular = popularOrder.stream().filter(id -> !seen.contains(id)).limit(k).toList();
+            int popularHits = countHits(popular, heldOut);
+            popularPrecision += (double) popularHits / k;
+            popularRecall += (double) popularHits / heldOut.size();
+        }
+
+        int evaluated = evalUsers.size();
+        Arrays.sort(latencies);
+        Report report = new Report(evaluated,
+                ratio(itemPrecision, evaluated), ratio(itemRecall, evaluated),
+                ratio(popularPrecision, evaluated), ratio(popularRecall, evaluated),
+                percentile(latencies, 0.50) / 1_000.0, percentile(latencies, 0.99) / 1_000.0,
+                allocationBean == null || evaluated == 0 ? -1 : allocatedBytes / evaluated);
+        log.info("추천 오프라인 평가 - {}, interactions: {}, k: {}, holdout: {}",
+                report, interactions.size(), k, holdout);
+        return report;
+    }
+
+    /**
+     * 학습 데이터만 돌려주는 저장소 mock으로 추천 서비스 구성 (상품 유사도는 학습 데이터로 계산)
+     */
+    private RecommendationService recommendationService(SyntheticSpec spec, List<Object[]> trainingRows,
+                                                        Map<Long, List<UserProductScore>> trainingByUser) {
+        UserProductScoreRepository userProductScoreRepository = mock(UserProductScoreRepository.class);
+        when(userProductScoreRepository.findAllScoreEntries()).thenReturn(trainingRows);
+        when(userProductScoreRepository.findTopProductsByUserId(anyLong()))
+                .thenAnswer(invocation -> trainingByUser.getOrDefault(invocation.<Long>getArgument(0), List.of()));
+
+        ItemSimilarityService itemSimilarityService = new ItemSimilarityService(userProductScoreRepository, NEIGHBOR_COUNT);
+        itemSimilarityService.rebuild();
+
+        CatalogSnapshotService catalogSnapshotService = mock(CatalogSnapshotService.class);
+        when(catalogSnapshotService.current()).thenReturn(catalog(spec));
+
+        return new RecommendationService(
+                mock(UserActivityRepository.class),
+                userProductScoreRepository,
+                mock(PriceRepository.class),
+                itemSimilarityService,
+                catalogSnapshotService,
+                mock(PopularityService.class));
+    }
+
+    /**
+     * 합성 데이터 생성<br>
+     * 사용자마다 선호 카테고리 2개를 두고 행동의 80%는 선호 카테고리에서, 나머지는 전체에서 인기도(Zipf) 비례로 고른다.
+     */
+    private List<Interaction> synthesize(SyntheticSpec spec) {
+        Random random = new Random(spec.seed());
+        int subCategories = spec.subCategories();
+
+        // 상품 번호가 작을수록 인기가 많도록 Zipf 누적 분포 생성 (전체/카테고리별)
+        double[] globalCdf = zipfCdf(spec.products());
+        int perCategory = (spec.products() + subCategories - 1) / subCategories;
+        double[] categoryCdf = zipfCdf(perCategory);
+
+        List<Interaction> interactions = new ArrayList<>(spec.users() * spec.activitiesPerUser());
+        for (int user = 1; user <= spec.users(); user++) {
+            int[] preferred = {random.nextInt(subCategories), random.nextInt(subCategories)};
+            int activityCount = 1 + random.nextInt(spec.activitiesPerUser() * 2);
+            for (int a = 0; a < activityCount; a++) {
+                int product;
+                if (random.nextDouble() < 0.8) {
+                    int category = preferred[random.nextInt(preferred.length)];
+                    // 상품 p의 카테고리는 p % subCategories
+                    product = sample(categoryCdf, random) * subCategories + category;
+                    if (product >= spec.products()) {
+                        product = category;
+                    }
+                } else {
+                    product = sample(globalCdf, random);
+                }
+                UserActivity.ActivityType type = random.nextDouble() < 0.15
+                        ? UserActivity.ActivityType.FAVORITE
+                        : UserActivity.ActivityType.CLICK;
+                interactions.add(new Interaction(user, product + 1, type, a));
+            }
+        }
+        return interactions;
+    }
+
+    // 합성 상품 아이디는 1부터, 하위 카테고리는 (아이디 - 1) % subCategories
+    private CatalogSnapshot catalog(SyntheticSpec spec) {
+        List<Object[]> rows = new ArrayList<>(spec.products());
+        for (int productId = 1; productId <= spec.products(); productId++) {
+            int subCategoryId = (productId - 1) % spec.subCategories() + 1;
+            rows.add(new Object[]{productId, "상품 " + productId, null, null, 0.0, 0, null,
+                    subCategoryId, "카테고리 " + subCategoryId, 1, "전체"});
+        }
+        return CatalogSnapshot.of(rows);
+    }
+
+    private static void requireRange(String name, int value, int min, int max) {
+        if (value < min || value > max) {
+            throw new IllegalArgumentException(name + " must be between " + min + " and " + max + ": " + value);
+        }
+    }
+
+    private int countHits(List<Integer> recommended, Set<Integer> heldOut) {
+        int hits = 0;
+        for (Integer productId : recommended) {
+            if (heldOut.contains(productId)) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+
+    private double ratio(double sum, int count) {
+        return count == 0 ? 0 : Math.round(sum / count * 10_000) / 10_000.0;
+    }
+
+    private long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(p * sorted.length) - 1)];
+    }
+
+    private double[] zipfCdf(int size) {
+        double[] cdf = new double[Math.max(1, size)];
+        double sum = 0;
+        for (int i = 0; i < cdf.length; i++) {
+            sum += 1.0 / (i + 1);
+            cdf[i] = sum;
+        }
+        for (int i = 0; i < cdf.length; i++) {
+            cdf[i] /= sum;
+        }
+        return cdf;
+    }
+
+    private int sample(double[] cdf, Random random) {
+        int position = Arrays.binarySearch(cdf, random.nextDouble());
+        return position >= 0 ? position : Math.min(cdf.length - 1, -position - 1);
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.productservice.util;
+
+import kr.co.shineware.nlp.komoran.constant.DEFAULT_MODEL;
+import kr.co.shineware.nlp.komoran.core.Komoran;
+import kr.co.shineware.nlp.komoran.model.Token;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 단일 패스 매처가 이전 키워드별 순회 방식과 같은 점수를 내는지 비교
+ */
+class LoadKeywordAnalyzerTest {
+    private static final List<String> COMMENTS = List.of(
+            // 맛/바디감 여러 항목
+            "와인 맛이 달콤하고 과일향이 나서 부드럽게 넘어가요",
+            "쌉싸름한 쓴맛 없이 깔끔하고 담백해요",
+            "새콤 상큼하고 톡 쏜다 신맛이 좋아요",
+            "장미향 꽃향 플로럴한 향이 오래 남아요",
+            // 여러 형태소로 된 키워드와 겹치는 형태소 (목넘김 좋다 / 좋다, 포장상태 좋은 / 좋다)
+            "목넘김 좋다 술술 넘어가고 여운도 좋다",
+            "포장상태 좋은 선물용으로 추천 재구매 의사 있어요",
+            "도수가 약해서 가볍게 마시기 좋고 산뜻해요",
+            // 같은 키워드가 두 항목에 있음 (재구매: 가성비, 만족도)
+            "가성비 최고 저렴하고 합리적인 가격이라 재구매합니다",
+            "가격이 아깝다 너무 비싸요",
+            // 부정/아쉬움 표현
+            "기대 이상은 아니고 그냥 그럭저럭 별로 아쉽네요",
+            "맛이 별로 좋지 않아요 실망 최악",
+            "나쁘진 않은데 개성은 없어요",
+            // 서비스 문맥 (제품 키워드 없이 서비스 키워드만 있으면 제외)
+            "배송이 빨라서 만족 직원 응대도 좋다",
+            "택배 포장은 별로지만 술 맛은 최고",
+            "매장 직원이 친절하고 서비스 만족",
+            // 문맥 범위 경계 (키워드 앞뒤 3개 형태소)
+            "배송 정말 빨랐고 그리고 나서 마셔보니 맛있다",
+            // 키워드 없음
+            "ㅋㅋㅋㅋ",
+            "잘 받았습니다"
+    );
+
+    private static Komoran komoran;
+    private static LoadKeywordAnalyzer analyzer;
+
+    @BeforeAll
+    static void setUp() {
+        komoran = new Komoran(DEFAULT_MODEL.FULL);
+        analyzer = new LoadKeywordAnalyzer(new KomoranPool(komoran, 1));
+        analyzer.init();
+    }
+
+    @Test
+    void scoreCommentMatchesPerKeywordScan() {
+        for (String comment : COMMENTS) {
+            Map<String, Map<String, Integer>> actual = analyzer.toScoreTable(analyzer.scoreComment(komoran, comment));
+
+            assertThat(actual).as(comment).isEqualTo(referenceScore(comment));
+        }
+    }
+
+    @Test
+    void analyzeReviewMatchesSummedReference() {
+        Map<String, Map<String, Integer>> expected = analyzer.newScoreTable();
+        for (String comment : COMMENTS) {
+            referenceScore(comment).forEach((category, labels) ->
+                    labels.forEach((label, score) -> expected.get(category).merge(label, score, Integer::sum)));
+        }
+
+        Map<String, Map<String, Integer>> actual = analyzer.analyzeReview(COMMENTS);
+
+        assertThat(actual).isEqualTo(expected);
+        // 비교가 모두 0점끼리의 비교가 되지 않도록 확인
+        assertThat(actual.values().stream().flatMap(labels -> labels.values().stream()).mapToInt(Integer::intValue).sum())
+                .isPositive();
+    }
+
+    /**
+     * 이전 방식: 항목/대표 키워드/키워드마다 리뷰 형태소 목록을 순회하고, 문맥도 토큰을 직접 훑어 확인
+     */
+    private Map<String, Map<String, Integer>> referenceScore(String comment) {
+        List<Token> tokens = komoran.analyze(comment).getTokenList();
+        List<String> morphemes = new ArrayList<>();
+        for (Token token : tokens) {
+            if (LoadKeywordAnalyzer.STOPWORDS.contains(token.getMorph())) continue;
+            if (isMeaningful(token.getPos())) {
+                morphemes.add(token.getMorph());
+            }
+        }
+
+        Map<String, Map<String, Integer>> result = new LinkedHashMap<>();
+        for (Map.Entry<String, Map<String, List<String>>> category : analyzer.categoryKeywords().entrySet()) {
+            Map<String, Integer> scores = new LinkedHashMap<>();
+            for (Map.Entry<String, List<String>> label : category.getValue().entrySet()) {
+                int count = 0;
+                for (String keyword : label.getValue()) {
+                    List<String> keywordMorphemes = extractMorphemes(keyword);
+                    for (String keywordMorph : keywordMorphemes) {
+                        if (morphemes.contains(keywordMorph)) {
+                            if (isProductContext(keywordMorphemes, tokens)) {
+                                count++;
+                                break;
+                            }
+                        }
+                    }
+                }
+                scores.put(label.getKey(), count);
+            }
+            result.put(category.getKey(), scores);
+        }
+        return result;
+    }
+
+    private List<String> extractMorphemes(String keyword) {
+        List<String> morphemes = new ArrayList<>();
+        for (Token token : komoran.analyze(keyword).getTokenList()) {
+            if (isMeaningful(token.getPos())) {
+                morphemes.add(token.getMorph());
+            }
+        }
+        return morphemes;
+    }
+
+    private boolean isProductContext(List<String> keywordMorphemes, List<Token> tokens) {
+        int index = -1;
+        for (int i = 0; i < tokens.size(); i++) {
+            if (tokens.get(i).getMorph().equals(keywordMorphemes.get(0))) {
+                index = i;
+                break;
+            }
+        }
+        if (index == -1) return false;
+
+        int start = Math.max(0, index - LoadKeywordAnalyzer.CONTEXT_WINDOW);
+        int end = Math.min(tokens.size(), index + keywordMorphemes.size() + LoadKeywordAnalyzer.CONTEXT_WINDOW);
+
+        boolean hasProduct = false;
+        boolean hasService = false;
+        for (int i = start; i < end; i++) {
+            String morph = tokens.get(i).getMorph();
+            if (LoadKeywordAnalyzer.PRODUCT_KEYWORDS.contains(morph)) hasProduct = true;
+            if (LoadKeywordAnalyzer.SERVICE_KEYWORDS.contains(morph)) hasService = true;
+        }
+        return hasProduct || !hasService;
+    }
+
+    private boolean isMeaningful(String pos) {
+        return pos.startsWith("NN") || pos.startsWith("VA") || pos.startsWith("VV") || pos.equals("MAG");
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.productservice.util;
+
+import com.example.productservice.dto.PriceSeriesDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PriceSeriesCodecTest {
+
+    @Test
+    void encodeThenDecodeRestoresSeries() {
+        PriceSeriesDto first = dto(1, 1_700_000_000L, 86400, 5,
+                series(0, null, 1, new int[]{15000, 0, -500, 0}),
+                List.of(
+                        series(10, "쿠팡", 1, new int[]{15000, 0, -500, 0}),
+                        series(11, "11번가", 0, new int[]{16000, 0, 0, 2500, -2500})));
+        PriceSeriesDto empty = dto(2, 1_700_000_000L, 3600, 24,
+                series(0, null, 24, new int[0]),
+                List.of());
+
+        List<PriceSeriesDto> decoded = PriceSeriesCodec.decode(PriceSeriesCodec.encode(List.of(first, empty)));
+
+        assertThat(decoded).containsExactly(first, empty);
+    }
+
+    @Test
+    void encodeThenDecodeKeepsIntegerBoundaries() {
+        PriceSeriesDto dto = dto(Integer.MAX_VALUE, Long.MAX_VALUE, 604800, 3,
+                series(0, null, 0, new int[]{Integer.MAX_VALUE, Integer.MIN_VALUE, -1}),
+                List.of(series(Integer.MAX_VALUE, "상점", 0, new int[]{Integer.MAX_VALUE, Integer.MIN_VALUE, -1})));
+
+        assertThat(PriceSeriesCodec.decode(PriceSeriesCodec.encode(List.of(dto)))).containsExactly(dto);
+    }
+
+    @Test
+    void unchangedBucketsTakeOneByteEach() {
+        int[] deltas = new int[100];
+        deltas[0] = 1;
+        PriceSeriesDto dto = dto(1, 0, 3600, 100, series(0, null, 0, deltas), List.of());
+
+        // 헤더(version, productCount, productId, from, step, points, seriesCount) + 시계열 헤더 + 델타 100개
+        assertThat(PriceSeriesCodec.encode(List.of(dto))).hasSize(1 + 1 + 1 + 1 + 2 + 2 + 1 + 1 + 1 + 1 + 2 + 100);
+    }
+
+    @Test
+    void decodeRejectsUnknownVersion() {
+        assertThatThrownBy(() -> PriceSeriesCodec.decode(new byte[]{4, 0}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private PriceSeriesDto dto(int productId, long from, int step, int points,
+                               PriceSeriesDto.Series min, List<PriceSeriesDto.Series> shops) {
+        PriceSeriesDto dto = new PriceSeriesDto();
+        dto.setProductId(productId);
+        dto.setFrom(from);
+        dto.setStep(step);
+        dto.setPoints(points);
+        dto.setMin(min);
+        dto.setShops(shops);
+        return dto;
+    }
+
+    private PriceSeriesDto.Series series(int shopId, String shopName, int offset, int[] deltas) {
+        PriceSeriesDto.Series series = new PriceSeriesDto.Series();
+        series.setShopId(shopId);
+        series.setShopName(shopName);
+        series.setOffset(offset);
+        series.setDeltas(deltas);
+        return series;
+    }
+}